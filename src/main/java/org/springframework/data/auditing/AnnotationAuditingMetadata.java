@@ -20,8 +20,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
@@ -32,6 +31,7 @@ import org.springframework.data.convert.ThreeTenBackPortConverters;
 import org.springframework.data.util.ReflectionUtils;
 import org.springframework.data.util.ReflectionUtils.AnnotationFieldFilter;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Inspects the given {@link Class} for fields annotated by {@link CreatedBy}, {@link CreatedDate},
@@ -49,7 +49,8 @@ final class AnnotationAuditingMetadata {
 	private static final AnnotationFieldFilter LAST_MODIFIED_DATE_FILTER = new AnnotationFieldFilter(
 			LastModifiedDate.class);
 
-	private static final Map<Class<?>, AnnotationAuditingMetadata> METADATA_CACHE = new ConcurrentHashMap<Class<?>, AnnotationAuditingMetadata>();
+	private static final ConcurrentMap<Class<?>, AnnotationAuditingMetadata> METADATA_CACHE =
+			new ConcurrentReferenceHashMap<Class<?>, AnnotationAuditingMetadata>();
 
 	public static final boolean IS_JDK_8 = org.springframework.util.ClassUtils.isPresent("java.time.Clock",
 			AnnotationAuditingMetadata.class.getClassLoader());
@@ -114,19 +115,23 @@ final class AnnotationAuditingMetadata {
 	}
 
 	/**
-	 * Return a {@link AnnotationAuditingMetadata} for the given {@link Class}.
+	 * Return a {@link AnnotationAuditingMetadata} for the given {@link Class}. Metadata is cached for non-auditable types,
+	 * too, so that repeated lookups for them don't inspect the type again.
 	 * 
 	 * @param type the type to inspect, must not be {@literal null}.
 	 */
 	public static AnnotationAuditingMetadata getMetadata(Class<?> type) {
 
-		if (METADATA_CACHE.containsKey(type)) {
-			return METADATA_CACHE.get(type);
+		AnnotationAuditingMetadata metadata = METADATA_CACHE.get(type);
+
+		if (metadata != null) {
+			return metadata;
 		}
 
-		AnnotationAuditingMetadata metadata = new AnnotationAuditingMetadata(type);
-		METADATA_CACHE.put(type, metadata);
-		return metadata;
+		metadata = new AnnotationAuditingMetadata(type);
+		AnnotationAuditingMetadata existing = METADATA_CACHE.putIfAbsent(type, metadata);
+
+		return existing == null ? metadata : existing;
 	}
 
 	/**
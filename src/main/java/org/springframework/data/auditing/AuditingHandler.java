@@ -22,6 +22,7 @@ import org.joda.time.DateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.auditing.DefaultAuditableBeanWrapperFactory.DateConvertingAuditableBeanWrapper;
 import org.springframework.data.domain.Auditable;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.mapping.PersistentEntity;
@@ -108,7 +109,8 @@ public class AuditingHandler implements InitializingBean {
 	}
 
 	/**
-	 * Sets the {@link DateTimeProvider} to be used to determine the dates to be set.
+	 * Sets the {@link DateTimeProvider} to be used to determine the dates to be set. Use
+	 * {@link CurrentJsr310DateTimeProvider} to set dates from JSR-310 types.
 	 * 
 	 * @param dateTimeProvider
 	 */
@@ -134,67 +136,153 @@ public class AuditingHandler implements InitializingBean {
 		touch(source, false);
 	}
 
+	/**
+	 * Marks all of the given objects as created. The current auditor and date are only looked up once for the entire
+	 * batch so that all objects get the same auditing values assigned.
+	 * 
+	 * @param sources must not be {@literal null}.
+	 * @since 1.13
+	 */
+	public void markAllCreated(Iterable<?> sources) {
+		touchAll(sources, true);
+	}
+
+	/**
+	 * Marks all of the given objects as modified. The current auditor and date are only looked up once for the entire
+	 * batch so that all objects get the same auditing values assigned.
+	 * 
+	 * @param sources must not be {@literal null}.
+	 * @since 1.13
+	 */
+	public void markAllModified(Iterable<?> sources) {
+		touchAll(sources, false);
+	}
+
 	private void touch(Object target, boolean isNew) {
 
-		AuditableBeanWrapper wrapper = factory.getBeanWrapperFor(target);
+		AuditingValues values = new AuditingValues();
 
-		if (wrapper == null) {
+		if (!touch(target, isNew, values) || !LOGGER.isDebugEnabled()) {
 			return;
 		}
 
-		Object auditor = touchAuditor(wrapper, isNew);
-		Calendar now = dateTimeForNow ? touchDate(wrapper, isNew) : null;
+		LOGGER.debug("Touched {} - Last modification at {} by {}",
+				new Object[] { target, values.getDefaultedNow(), values.getDefaultedAuditor() });
+	}
 
-		Object defaultedNow = now == null ? "not set" : now;
-		Object defaultedAuditor = auditor == null ? "unknown" : auditor;
+	private void touchAll(Iterable<?> targets, boolean isNew) {
+		touchAll(targets, isNew, new AuditingValues());
+	}
+
+	/**
+	 * Applies the given {@link AuditingValues} to all of the given targets. Allows subclasses to share the values
+	 * between multiple batches.
+	 * 
+	 * @param targets must not be {@literal null}.
+	 * @param isNew whether the targets shall be marked as created.
+	 * @param values must not be {@literal null}.
+	 */
+	void touchAll(Iterable<?> targets, boolean isNew, AuditingValues values) {
 
-		LOGGER.debug("Touched {} - Last modification at {} by {}", new Object[] { target, defaultedNow, defaultedAuditor });
+		Assert.notNull(targets, "Targets must not be null!");
+
+		int touched = 0;
+
+		for (Object target : targets) {
+			if (touch(target, isNew, values)) {
+				touched++;
+			}
+		}
+
+		if (touched == 0 || !LOGGER.isDebugEnabled()) {
+			return;
+		}
+
+		LOGGER.debug("Touched {} objects - Last modification at {} by {}",
+				new Object[] { touched, values.getDefaultedNow(), values.getDefaultedAuditor() });
 	}
 
 	/**
-	 * Sets modifying and creating auditioner. Creating auditioner is only set on new auditables.
+	 * Applies the given {@link AuditingValues} to the given target.
 	 * 
-	 * @param auditable
-	 * @return
+	 * @param target can be {@literal null}.
+	 * @param isNew whether the target shall be marked as created.
+	 * @param values must not be {@literal null}.
+	 * @return whether the target was auditable.
 	 */
-	private Object touchAuditor(AuditableBeanWrapper wrapper, boolean isNew) {
+	private boolean touch(Object target, boolean isNew, AuditingValues values) {
 
-		if (null == auditorAware) {
-			return null;
+		AuditableBeanWrapper wrapper = factory.getBeanWrapperFor(target);
+
+		if (wrapper == null) {
+			return false;
+		}
+
+		if (auditorAware != null) {
+			touchAuditor(wrapper, values.getAuditor(), isNew);
+		}
+
+		if (dateTimeForNow) {
+			touchDate(wrapper, values.getNow(), isNew);
 		}
 
-		Object auditor = auditorAware.getCurrentAuditor();
+		return true;
+	}
+
+	/**
+	 * Sets modifying and creating auditioner. Creating auditioner is only set on new auditables.
+	 * 
+	 * @param wrapper
+	 * @param auditor
+	 * @param isNew
+	 */
+	private void touchAuditor(AuditableBeanWrapper wrapper, Object auditor, boolean isNew) {
 
 		if (isNew) {
 			wrapper.setCreatedBy(auditor);
 			if (!modifyOnCreation) {
-				return auditor;
+				return;
 			}
 		}
 
 		wrapper.setLastModifiedBy(auditor);
-		return auditor;
 	}
 
 	/**
-	 * Touches the auditable regarding modification and creation date. Creation date is only set on new auditables.
+	 * Touches the auditable regarding modification and creation date. Creation date is only set on new auditables. Date
+	 * values other than {@link Calendar} are handed to the wrapper as is if it's able to convert them itself.
 	 * 
 	 * @param wrapper
-	 * @return
+	 * @param now
+	 * @param isNew
 	 */
-	private Calendar touchDate(AuditableBeanWrapper wrapper, boolean isNew) {
+	private void touchDate(AuditableBeanWrapper wrapper, Object now, boolean isNew) {
+
+		if (wrapper instanceof DateConvertingAuditableBeanWrapper) {
+
+			DateConvertingAuditableBeanWrapper converting = (DateConvertingAuditableBeanWrapper) wrapper;
+
+			if (isNew) {
+				converting.setCreatedDateValue(now);
+				if (!modifyOnCreation) {
+					return;
+				}
+			}
 
-		Calendar now = dateTimeProvider.getNow();
+			converting.setLastModifiedDateValue(now);
+			return;
+		}
+
+		Calendar calendar = DateConvertingAuditableBeanWrapper.toCalendar(now);
 
 		if (isNew) {
-			wrapper.setCreatedDate(now);
+			wrapper.setCreatedDate(calendar);
 			if (!modifyOnCreation) {
-				return now;
+				return;
 			}
 		}
 
-		wrapper.setLastModifiedDate(now);
-		return now;
+		wrapper.setLastModifiedDate(calendar);
 	}
 
 	/*
@@ -207,4 +295,67 @@ public class AuditingHandler implements InitializingBean {
 			LOGGER.debug("No AuditorAware set! Auditing will not be applied!");
 		}
 	}
+
+	/**
+	 * The auditor and date to be applied to the objects of a single touch operation. Both values are looked up lazily
+	 * and at most once.
+	 * 
+	 * @author Oliver Gierke
+	 * @since 1.13
+	 */
+	class AuditingValues {
+
+		private boolean auditorResolved, nowResolved;
+		private Object auditor;
+		private Object now;
+
+		/**
+		 * Returns the current auditor as obtained from the configured {@link AuditorAware}.
+		 * 
+		 * @return
+		 */
+		public Object getAuditor() {
+
+			if (!auditorResolved) {
+				this.auditor = auditorAware == null ? null : auditorAware.getCurrentAuditor();
+				this.auditorResolved = true;
+			}
+
+			return auditor;
+		}
+
+		/**
+		 * Returns the current date as obtained from the configured {@link DateTimeProvider}. Uses the
+		 * {@link java.time.Instant} exposed by a {@link Jsr310DateTimeProvider} and a {@link Calendar} otherwise.
+		 * Subsequent calls return copies of a {@link Calendar} as instances are mutable and must not be shared between
+		 * objects.
+		 * 
+		 * @return
+		 */
+		public Object getNow() {
+
+			if (!nowResolved) {
+
+				if (dateTimeProvider instanceof Jsr310DateTimeProvider) {
+					this.now = ((Jsr310DateTimeProvider) dateTimeProvider).getNowAsInstant();
+				} else {
+					this.now = dateTimeProvider.getNow();
+				}
+
+				this.nowResolved = true;
+
+				return now;
+			}
+
+			return now instanceof Calendar ? ((Calendar) now).clone() : now;
+		}
+
+		public Object getDefaultedAuditor() {
+			return auditorResolved && auditor != null ? auditor : "unknown";
+		}
+
+		public Object getDefaultedNow() {
+			return nowResolved && now != null ? now : "not set";
+		}
+	}
 }
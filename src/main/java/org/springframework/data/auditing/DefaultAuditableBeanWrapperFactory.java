@@ -18,6 +18,8 @@ package org.springframework.data.auditing;
 import java.lang.reflect.Field;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.joda.time.DateTime;
 import org.joda.time.LocalDateTime;
@@ -59,7 +61,7 @@ class DefaultAuditableBeanWrapperFactory implements AuditableBeanWrapperFactory
 		AnnotationAuditingMetadata metadata = AnnotationAuditingMetadata.getMetadata(source.getClass());
 
 		if (metadata.isAuditable()) {
-			return new ReflectionAuditingBeanWrapper(source);
+			return new ReflectionAuditingBeanWrapper(source, metadata);
 		}
 
 		return null;
@@ -88,10 +90,11 @@ class DefaultAuditableBeanWrapperFactory implements AuditableBeanWrapperFactory
 
 		/*
 		 * (non-Javadoc)
-		 * @see org.springframework.data.auditing.AuditableBeanWrapper#setCreatedDate(org.joda.time.DateTime)
+		 * @see org.springframework.data.auditing.DefaultAuditableBeanWrapperFactory.DateConvertingAuditableBeanWrapper#setCreatedDateValue(java.lang.Object)
 		 */
-		public void setCreatedDate(Calendar value) {
-			auditable.setCreatedDate(new DateTime(value));
+		@Override
+		public void setCreatedDateValue(Object value) {
+			auditable.setCreatedDate((DateTime) getDateValueToSet(value, DateTime.class, auditable));
 		}
 
 		/* 
@@ -113,16 +116,19 @@ class DefaultAuditableBeanWrapperFactory implements AuditableBeanWrapperFactory
 
 		/*
 		 * (non-Javadoc)
-		 * @see org.springframework.data.auditing.AuditableBeanWrapper#setLastModifiedDate(org.joda.time.DateTime)
+		 * @see org.springframework.data.auditing.DefaultAuditableBeanWrapperFactory.DateConvertingAuditableBeanWrapper#setLastModifiedDateValue(java.lang.Object)
 		 */
-		public void setLastModifiedDate(Calendar value) {
-			auditable.setLastModifiedDate(new DateTime(value));
+		@Override
+		public void setLastModifiedDateValue(Object value) {
+			auditable.setLastModifiedDate((DateTime) getDateValueToSet(value, DateTime.class, auditable));
 		}
 	}
 
 	/**
 	 * Base class for {@link AuditableBeanWrapper} implementations that might need to convert {@link Calendar} values into
-	 * compatible types when setting date/time information.
+	 * compatible types when setting date/time information. All instances share a single {@link ConversionService} and
+	 * cache the conversion to be applied per source and target type, so that creating a wrapper is cheap and converting
+	 * a date doesn't require a converter lookup.
 	 * 
 	 * @author Oliver Gierke
 	 * @since 1.8
@@ -132,12 +138,11 @@ class DefaultAuditableBeanWrapperFactory implements AuditableBeanWrapperFactory
 		private static final boolean IS_JODA_TIME_PRESENT = ClassUtils.isPresent("org.joda.time.DateTime",
 				ReflectionAuditingBeanWrapper.class.getClassLoader());
 
-		private final ConversionService conversionService;
+		private static final ConversionService CONVERSION_SERVICE = createConversionService();
+		private static final ConcurrentMap<ConversionKey, Converter<Object, Object>> CONVERTERS =
+				new ConcurrentHashMap<ConversionKey, Converter<Object, Object>>();
 
-		/**
-		 * Creates a new {@link DateConvertingAuditableBeanWrapper}.
-		 */
-		public DateConvertingAuditableBeanWrapper() {
+		private static ConversionService createConversionService() {
 
 			DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
 
@@ -154,39 +159,75 @@ class DefaultAuditableBeanWrapperFactory implements AuditableBeanWrapperFactory
 				conversionService.addConverter(converter);
 			}
 
-			this.conversionService = conversionService;
+			return conversionService;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.data.auditing.AuditableBeanWrapper#setCreatedDate(java.util.Calendar)
+		 */
+		@Override
+		public void setCreatedDate(Calendar value) {
+			setCreatedDateValue(value);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.data.auditing.AuditableBeanWrapper#setLastModifiedDate(java.util.Calendar)
+		 */
+		@Override
+		public void setLastModifiedDate(Calendar value) {
+			setLastModifiedDateValue(value);
 		}
 
 		/**
-		 * Returns the {@link Calendar} in a type, compatible to the given field.
+		 * Sets the date the object was created from the given date value, e.g. a {@link Calendar} or a JSR-310
+		 * {@link java.time.Instant}.
+		 * 
+		 * @param value can be {@literal null}.
+		 */
+		public abstract void setCreatedDateValue(Object value);
+
+		/**
+		 * Sets the last modification date from the given date value, e.g. a {@link Calendar} or a JSR-310
+		 * {@link java.time.Instant}.
+		 * 
+		 * @param value can be {@literal null}.
+		 */
+		public abstract void setLastModifiedDateValue(Object value);
+
+		/**
+		 * Returns the given date value in a type compatible to the given target type.
 		 * 
 		 * @param value can be {@literal null}.
 		 * @param targetType must not be {@literal null}.
 		 * @param source must not be {@literal null}.
 		 * @return
 		 */
-		protected Object getDateValueToSet(Calendar value, Class<?> targetType, Object source) {
+		protected Object getDateValueToSet(Object value, Class<?> targetType, Object source) {
 
 			if (value == null) {
 				return null;
 			}
 
-			if (Calendar.class.equals(targetType)) {
-				return value;
-			}
+			Class<?> sourceType = value instanceof Calendar ? Calendar.class : value.getClass();
+			ConversionKey key = new ConversionKey(sourceType, targetType);
+			Converter<Object, Object> converter = CONVERTERS.get(key);
 
-			if (conversionService.canConvert(Calendar.class, targetType)) {
-				return conversionService.convert(value, targetType);
-			}
+			if (converter == null) {
+
+				converter = createConverter(sourceType, targetType);
 
-			if (conversionService.canConvert(Date.class, targetType)) {
+				if (converter == null) {
+					throw new IllegalArgumentException(String.format(
+							"Invalid date type for member %s! Supported types are %s.", source,
+							AnnotationAuditingMetadata.SUPPORTED_DATE_TYPES));
+				}
 
-				Date date = conversionService.convert(value, Date.class);
-				return conversionService.convert(date, targetType);
+				CONVERTERS.putIfAbsent(key, converter);
 			}
 
-			throw new IllegalArgumentException(String.format("Invalid date type for member %s! Supported types are %s.",
-					source, AnnotationAuditingMetadata.SUPPORTED_DATE_TYPES));
+			return converter.convert(value);
 		}
 
 		/**
@@ -196,16 +237,111 @@ class DefaultAuditableBeanWrapperFactory implements AuditableBeanWrapperFactory
 		 * @return
 		 */
 		protected Calendar getAsCalendar(Object source) {
+			return toCalendar(source);
+		}
+
+		/**
+		 * Converts the given date value into a {@link Calendar}.
+		 * 
+		 * @param source can be {@literal null}.
+		 * @return
+		 */
+		static Calendar toCalendar(Object source) {
 
 			if (source == null || source instanceof Calendar) {
 				return (Calendar) source;
 			}
 
 			// Apply conversion to date if necessary and possible
-			source = !(source instanceof Date) && conversionService.canConvert(source.getClass(), Date.class) ? conversionService
-					.convert(source, Date.class) : source;
+			source = !(source instanceof Date) && CONVERSION_SERVICE.canConvert(source.getClass(), Date.class)
+					? CONVERSION_SERVICE.convert(source, Date.class) : source;
+
+			return CONVERSION_SERVICE.convert(source, Calendar.class);
+		}
+
+		/**
+		 * Creates the {@link Converter} to turn date values of the given source type into the given target type.
+		 * 
+		 * @param sourceType must not be {@literal null}.
+		 * @param targetType must not be {@literal null}.
+		 * @return the {@link Converter} or {@literal null} if no conversion is possible.
+		 */
+		private static Converter<Object, Object> createConverter(Class<?> sourceType, final Class<?> targetType) {
+
+			if (targetType.isAssignableFrom(sourceType)) {
+				return IdentityConverter.INSTANCE;
+			}
+
+			if (CONVERSION_SERVICE.canConvert(sourceType, targetType)) {
+
+				return new Converter<Object, Object>() {
+
+					@Override
+					public Object convert(Object source) {
+						return CONVERSION_SERVICE.convert(source, targetType);
+					}
+				};
+			}
+
+			if (CONVERSION_SERVICE.canConvert(sourceType, Date.class)
+					&& CONVERSION_SERVICE.canConvert(Date.class, targetType)) {
+
+				return new Converter<Object, Object>() {
+
+					@Override
+					public Object convert(Object source) {
+						return CONVERSION_SERVICE.convert(CONVERSION_SERVICE.convert(source, Date.class), targetType);
+					}
+				};
+			}
+
+			return null;
+		}
+
+		/**
+		 * Cache key for the {@link Converter}s to be used for a pair of source and target type.
+		 * 
+		 * @author Oliver Gierke
+		 * @since 1.13
+		 */
+		private static final class ConversionKey {
+
+			private final Class<?> sourceType, targetType;
+
+			public ConversionKey(Class<?> sourceType, Class<?> targetType) {
+
+				this.sourceType = sourceType;
+				this.targetType = targetType;
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.lang.Object#equals(java.lang.Object)
+			 */
+			@Override
+			public boolean equals(Object obj) {
+
+				if (this == obj) {
+					return true;
+				}
 
-			return conversionService.convert(source, Calendar.class);
+				if (!(obj instanceof ConversionKey)) {
+					return false;
+				}
+
+				ConversionKey that = (ConversionKey) obj;
+
+				return this.sourceType.equals(that.sourceType) && this.targetType.equals(that.targetType);
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.lang.Object#hashCode()
+			 */
+			@Override
+			public int hashCode() {
+				return 31 * sourceType.hashCode() + targetType.hashCode();
+			}
 		}
 	}
 
@@ -225,10 +361,22 @@ class DefaultAuditableBeanWrapperFactory implements AuditableBeanWrapperFactory
 		 * @param target must not be {@literal null}.
 		 */
 		public ReflectionAuditingBeanWrapper(Object target) {
+			this(target, target == null ? null : AnnotationAuditingMetadata.getMetadata(target.getClass()));
+		}
+
+		/**
+		 * Creates a new {@link ReflectionAuditingBeanWrapper} to set auditing data on the given target object using the
+		 * given, already looked up {@link AnnotationAuditingMetadata}.
+		 * 
+		 * @param target must not be {@literal null}.
+		 * @param metadata must not be {@literal null}.
+		 */
+		ReflectionAuditingBeanWrapper(Object target, AnnotationAuditingMetadata metadata) {
 
 			Assert.notNull(target, "Target object must not be null!");
+			Assert.notNull(metadata, "AnnotationAuditingMetadata must not be null!");
 
-			this.metadata = AnnotationAuditingMetadata.getMetadata(target.getClass());
+			this.metadata = metadata;
 			this.target = target;
 		}
 
@@ -242,9 +390,10 @@ class DefaultAuditableBeanWrapperFactory implements AuditableBeanWrapperFactory
 
 		/*
 		 * (non-Javadoc)
-		 * @see org.springframework.data.auditing.AuditableBeanWrapper#setCreatedDate(java.util.Calendar)
+		 * @see org.springframework.data.auditing.DefaultAuditableBeanWrapperFactory.DateConvertingAuditableBeanWrapper#setCreatedDateValue(java.lang.Object)
 		 */
-		public void setCreatedDate(Calendar value) {
+		@Override
+		public void setCreatedDateValue(Object value) {
 			setDateField(metadata.getCreatedDateField(), value);
 		}
 
@@ -269,9 +418,10 @@ class DefaultAuditableBeanWrapperFactory implements AuditableBeanWrapperFactory
 
 		/*
 		 * (non-Javadoc)
-		 * @see org.springframework.data.auditing.AuditableBeanWrapper#setLastModifiedDate(java.util.Calendar)
+		 * @see org.springframework.data.auditing.DefaultAuditableBeanWrapperFactory.DateConvertingAuditableBeanWrapper#setLastModifiedDateValue(java.lang.Object)
 		 */
-		public void setLastModifiedDate(Calendar value) {
+		@Override
+		public void setLastModifiedDateValue(Object value) {
 			setDateField(metadata.getLastModifiedDateField(), value);
 		}
 
@@ -294,7 +444,7 @@ class DefaultAuditableBeanWrapperFactory implements AuditableBeanWrapperFactory
 		 * @param field
 		 * @param value
 		 */
-		private void setDateField(Field field, Calendar value) {
+		private void setDateField(Field field, Object value) {
 
 			if (field == null) {
 				return;
@@ -304,6 +454,16 @@ class DefaultAuditableBeanWrapperFactory implements AuditableBeanWrapperFactory
 		}
 	}
 
+	private static enum IdentityConverter implements Converter<Object, Object> {
+
+		INSTANCE;
+
+		@Override
+		public Object convert(Object source) {
+			return source;
+		}
+	}
+
 	private static enum CalendarToDateTimeConverter implements Converter<Calendar, DateTime> {
 
 		INSTANCE;
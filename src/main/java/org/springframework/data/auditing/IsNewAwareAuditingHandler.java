@@ -15,7 +15,9 @@
  */
 package org.springframework.data.auditing;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
@@ -24,6 +26,7 @@ import org.springframework.data.mapping.context.MappingContextIsNewStrategyFacto
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.data.support.IsNewStrategy;
 import org.springframework.data.support.IsNewStrategyFactory;
+import org.springframework.util.Assert;
 
 /**
  * {@link AuditingHandler} extension that uses an {@link IsNewStrategyFactory} to expose a generic
@@ -85,4 +88,47 @@ public class IsNewAwareAuditingHandler extends AuditingHandler {
 			markModified(object);
 		}
 	}
+
+	/**
+	 * Marks all of the given objects created or modified based on the {@link IsNewStrategy} returned by the
+	 * {@link IsNewStrategyFactory} configured. The current auditor and date are only looked up once for the entire
+	 * batch so that created and modified objects get the same auditing values assigned.
+	 * 
+	 * @param objects must not be {@literal null}.
+	 * @since 1.13
+	 */
+	public void markAllAudited(Iterable<?> objects) {
+
+		Assert.notNull(objects, "Objects must not be null!");
+
+		List<Object> created = new ArrayList<Object>();
+		List<Object> modified = new ArrayList<Object>();
+
+		Class<?> lastType = null;
+		IsNewStrategy strategy = null;
+
+		for (Object object : objects) {
+
+			if (object == null) {
+				continue;
+			}
+
+			if (!object.getClass().equals(lastType)) {
+				lastType = object.getClass();
+				strategy = isNewStrategyFactory.getIsNewStrategy(lastType);
+			}
+
+			(strategy.isNew(object) ? created : modified).add(object);
+		}
+
+		AuditingValues values = new AuditingValues();
+
+		if (!created.isEmpty()) {
+			touchAll(created, true, values);
+		}
+
+		if (!modified.isEmpty()) {
+			touchAll(modified, false, values);
+		}
+	}
 }
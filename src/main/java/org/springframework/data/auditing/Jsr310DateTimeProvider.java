@@ -0,0 +1,36 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.auditing;
+
+import java.time.Instant;
+
+/**
+ * {@link DateTimeProvider} that is able to expose the current time as JSR-310 {@link Instant}. Auditing uses the
+ * {@link Instant} to populate date properties directly, i.e. without a detour via {@link java.util.Calendar}. Requires
+ * Java 8.
+ * 
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+public interface Jsr310DateTimeProvider extends DateTimeProvider {
+
+	/**
+	 * Returns the current time to be used as modification or creation date.
+	 * 
+	 * @return
+	 */
+	Instant getNowAsInstant();
+}
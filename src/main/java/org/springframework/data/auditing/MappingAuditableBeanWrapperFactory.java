@@ -16,8 +16,7 @@
 package org.springframework.data.auditing;
 
 import java.util.Calendar;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
@@ -30,6 +29,7 @@ import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * {@link AuditableBeanWrapperFactory} that will create am {@link AuditableBeanWrapper} using mapping information
@@ -42,7 +42,7 @@ import org.springframework.util.Assert;
 public class MappingAuditableBeanWrapperFactory extends DefaultAuditableBeanWrapperFactory {
 
 	private final PersistentEntities entities;
-	private final Map<Class<?>, MappingAuditingMetadata> metadataCache;
+	private final ConcurrentMap<Class<?>, MappingAuditingMetadata> metadataCache;
 
 	/**
 	 * Creates a new {@link MappingAuditableBeanWrapperFactory} using the given {@link PersistentEntities}.
@@ -54,7 +54,7 @@ public class MappingAuditableBeanWrapperFactory extends DefaultAuditableBeanWrap
 		Assert.notNull(entities, "PersistentEntities must not be null!");
 
 		this.entities = entities;
-		this.metadataCache = new HashMap<Class<?>, MappingAuditingMetadata>();
+		this.metadataCache = new ConcurrentReferenceHashMap<Class<?>, MappingAuditingMetadata>();
 	}
 
 	/* 
@@ -72,22 +72,46 @@ public class MappingAuditableBeanWrapperFactory extends DefaultAuditableBeanWrap
 			return super.getBeanWrapperFor(source);
 		}
 
-		Class<?> type = source.getClass();
-		PersistentEntity<?, ?> entity = entities.getPersistentEntity(type);
+		MappingAuditingMetadata metadata = getMetadata(source.getClass());
 
-		if (entity == null) {
+		if (metadata == MappingAuditingMetadata.NO_ENTITY) {
 			return super.getBeanWrapperFor(source);
 		}
 
+		if (!metadata.isAuditable()) {
+			return null;
+		}
+
+		PersistentPropertyAccessor accessor = metadata.entity.getPropertyAccessor(source);
+		return new MappingMetadataAuditableBeanWrapper(accessor, metadata);
+	}
+
+	/**
+	 * Returns the {@link MappingAuditingMetadata} for the given type. Non-auditable entities are cached, too, so that
+	 * they are only inspected once. Types not managed by any of the {@link PersistentEntities} are not cached, as they
+	 * might get registered with a {@link MappingContext} later on.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private MappingAuditingMetadata getMetadata(Class<?> type) {
+
 		MappingAuditingMetadata metadata = metadataCache.get(type);
 
-		if (metadata == null) {
-			metadata = new MappingAuditingMetadata(entity);
-			metadataCache.put(type, metadata);
+		if (metadata != null) {
+			return metadata;
 		}
 
-		PersistentPropertyAccessor accessor = entity.getPropertyAccessor(source);
-		return metadata.isAuditable() ? new MappingMetadataAuditableBeanWrapper(accessor, metadata) : null;
+		PersistentEntity<?, ?> entity = entities.getPersistentEntity(type);
+
+		if (entity == null) {
+			return MappingAuditingMetadata.NO_ENTITY;
+		}
+
+		metadata = new MappingAuditingMetadata(entity);
+
+		MappingAuditingMetadata existing = metadataCache.putIfAbsent(type, metadata);
+		return existing == null ? metadata : existing;
 	}
 
 	/**
@@ -98,9 +122,24 @@ public class MappingAuditableBeanWrapperFactory extends DefaultAuditableBeanWrap
 	 */
 	static class MappingAuditingMetadata {
 
+		/**
+		 * Marker for types not managed by any {@link MappingContext}.
+		 */
+		static final MappingAuditingMetadata NO_ENTITY = new MappingAuditingMetadata();
+
+		private final PersistentEntity<?, ? extends PersistentProperty<?>> entity;
 		private final PersistentProperty<?> createdByProperty, createdDateProperty, lastModifiedByProperty,
 				lastModifiedDateProperty;
 
+		private MappingAuditingMetadata() {
+
+			this.entity = null;
+			this.createdByProperty = null;
+			this.createdDateProperty = null;
+			this.lastModifiedByProperty = null;
+			this.lastModifiedDateProperty = null;
+		}
+
 		/**
 		 * Creates a new {@link MappingAuditingMetadata} instance from the given {@link PersistentEntity}.
 		 * 
@@ -110,6 +149,7 @@ public class MappingAuditableBeanWrapperFactory extends DefaultAuditableBeanWrap
 
 			Assert.notNull(entity, "PersistentEntity must not be null!");
 
+			this.entity = entity;
 			this.createdByProperty = entity.getPersistentProperty(CreatedBy.class);
 			this.createdDateProperty = entity.getPersistentProperty(CreatedDate.class);
 			this.lastModifiedByProperty = entity.getPersistentProperty(LastModifiedBy.class);
@@ -170,10 +210,10 @@ public class MappingAuditableBeanWrapperFactory extends DefaultAuditableBeanWrap
 
 		/* 
 		 * (non-Javadoc)
-		 * @see org.springframework.data.auditing.AuditableBeanWrapper#setCreatedDate(java.util.Calendar)
+		 * @see org.springframework.data.auditing.DefaultAuditableBeanWrapperFactory.DateConvertingAuditableBeanWrapper#setCreatedDateValue(java.lang.Object)
 		 */
 		@Override
-		public void setCreatedDate(Calendar value) {
+		public void setCreatedDateValue(Object value) {
 
 			PersistentProperty<?> property = metadata.createdDateProperty;
 
@@ -212,10 +252,10 @@ public class MappingAuditableBeanWrapperFactory extends DefaultAuditableBeanWrap
 
 		/* 
 		 * (non-Javadoc)
-		 * @see org.springframework.data.auditing.AuditableBeanWrapper#setLastModifiedDate(java.util.Calendar)
+		 * @see org.springframework.data.auditing.DefaultAuditableBeanWrapperFactory.DateConvertingAuditableBeanWrapper#setLastModifiedDateValue(java.lang.Object)
 		 */
 		@Override
-		public void setLastModifiedDate(Calendar value) {
+		public void setLastModifiedDateValue(Object value) {
 
 			PersistentProperty<?> property = metadata.lastModifiedDateProperty;
 
@@ -23,9 +23,12 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 import org.springframework.asm.ClassWriter;
 import org.springframework.asm.MethodVisitor;
@@ -37,6 +40,7 @@ import org.springframework.data.mapping.PreferredConstructor;
 import org.springframework.data.mapping.PreferredConstructor.Parameter;
 import org.springframework.data.mapping.model.MappingInstantiationException;
 import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.data.mapping.model.PersistentEntityFingerprint;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -54,9 +58,11 @@ import org.springframework.util.ClassUtils;
  */
 public class ClassGeneratingEntityInstantiator implements EntityInstantiator {
 
+	private static final String PREGENERATED_CLASS_SUFFIX = "Pregenerated";
+
 	private final ObjectInstantiatorClassGenerator generator;
 
-	private volatile Map<TypeInformation<?>, EntityInstantiator> entityInstantiators = new HashMap<TypeInformation<?>, EntityInstantiator>(
+	private final ConcurrentMap<TypeInformation<?>, FutureTask<EntityInstantiator>> entityInstantiators = new ConcurrentHashMap<TypeInformation<?>, FutureTask<EntityInstantiator>>(
 			32);
 
 	/**
@@ -74,37 +80,79 @@ public class ClassGeneratingEntityInstantiator implements EntityInstantiator {
 	public <T, E extends PersistentEntity<? extends T, P>, P extends PersistentProperty<P>> T createInstance(E entity,
 			ParameterValueProvider<P> provider) {
 
-		EntityInstantiator instantiator = this.entityInstantiators.get(entity.getTypeInformation());
-
-		if (instantiator == null) {
-			instantiator = potentiallyCreateAndRegisterEntityInstantiator(entity);
-		}
+		EntityInstantiator instantiator = potentiallyCreateAndRegisterEntityInstantiator(entity);
 
 		return instantiator.createInstance(entity, provider);
 	}
 
 	/**
+	 * Eagerly creates and registers the {@link EntityInstantiator} for the given {@link PersistentEntity} so that the
+	 * first call to {@link #createInstance(PersistentEntity, ParameterValueProvider)} doesn't have to generate it.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @since 1.13
+	 */
+	public void warmUp(PersistentEntity<?, ?> entity) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+
+		potentiallyCreateAndRegisterEntityInstantiator(entity);
+	}
+
+	/**
+	 * Returns the {@link EntityInstantiator} for the given {@link PersistentEntity}, creating it if necessary. Creation
+	 * happens exactly once per entity type. Concurrent callers for the same type wait for the creation to complete while
+	 * instantiators for other types can be generated in parallel.
+	 *
 	 * @param entity
 	 * @return
 	 */
-	private synchronized EntityInstantiator potentiallyCreateAndRegisterEntityInstantiator(
-			PersistentEntity<?, ?> entity) {
+	private EntityInstantiator potentiallyCreateAndRegisterEntityInstantiator(final PersistentEntity<?, ?> entity) {
+
+		TypeInformation<?> key = entity.getTypeInformation();
+		FutureTask<EntityInstantiator> task = this.entityInstantiators.get(key);
+
+		if (task == null) {
+
+			FutureTask<EntityInstantiator> newTask = new FutureTask<EntityInstantiator>(new Callable<EntityInstantiator>() {
+
+				@Override
+				public EntityInstantiator call() {
+					return createEntityInstantiator(entity);
+				}
+			});
 
-		Map<TypeInformation<?>, EntityInstantiator> map = this.entityInstantiators;
-		EntityInstantiator instantiator = map.get(entity.getTypeInformation());
+			task = this.entityInstantiators.putIfAbsent(key, newTask);
 
-		if (instantiator != null) {
-			return instantiator;
+			if (task == null) {
+				task = newTask;
+				task.run();
+			}
 		}
 
-		instantiator = createEntityInstantiator(entity);
+		try {
+			return task.get();
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(String.format("Interrupted while creating instantiator for %s", entity), e);
 
-		map = new HashMap<TypeInformation<?>, EntityInstantiator>(map);
-		map.put(entity.getTypeInformation(), instantiator);
+		} catch (ExecutionException e) {
 
-		this.entityInstantiators = map;
+			this.entityInstantiators.remove(key, task);
 
-		return instantiator;
+			Throwable cause = e.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw new IllegalStateException(cause);
+		}
 	}
 
 	/**
@@ -118,17 +166,83 @@ public class ClassGeneratingEntityInstantiator implements EntityInstantiator {
 		}
 
 		try {
-			return new EntityInstantiatorAdapter(createObjectInstantiator(entity));
+
+			ObjectInstantiator pregenerated = findPregeneratedObjectInstantiator(entity);
+
+			return new EntityInstantiatorAdapter(pregenerated != null ? pregenerated : createObjectInstantiator(entity));
+
 		} catch (Throwable ex) {
 			return ReflectionEntityInstantiator.INSTANCE;
 		}
 	}
 
+	/**
+	 * Returns whether a class generated {@link EntityInstantiator} can be used for the given {@link PersistentEntity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 */
+	static boolean isSupported(PersistentEntity<?, ?> entity) {
+		return !shouldUseReflectionEntityInstantiator(entity);
+	}
+
+	/**
+	 * Returns the name of the instantiator class that can be generated for the given type at build time. If a class with
+	 * that name is present in the type's {@link ClassLoader} and was generated for the current state of the entity,
+	 * it's used instead of generating one at runtime.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	static String getPregeneratedClassName(Class<?> type) {
+		return type.getName() + ObjectInstantiatorClassGenerator.TAG + PREGENERATED_CLASS_SUFFIX;
+	}
+
+	/**
+	 * Generates the byte code of the instantiator class for the given {@link PersistentEntity} to be written to the class
+	 * path at build time.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 * @see #getPregeneratedClassName(Class)
+	 */
+	static byte[] generatePregeneratedBytecode(PersistentEntity<?, ?> entity) {
+		return ObjectInstantiatorClassGenerator.generateBytecode(getPregeneratedClassName(entity.getType()), entity,
+				PersistentEntityFingerprint.of(entity));
+	}
+
+	/**
+	 * Looks up an instantiator class generated at build time for the given {@link PersistentEntity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the {@link ObjectInstantiator} or {@literal null} if no pre-generated class is available or it was
+	 *         generated for a different state of the entity.
+	 * @throws Exception
+	 */
+	private static ObjectInstantiator findPregeneratedObjectInstantiator(PersistentEntity<?, ?> entity) throws Exception {
+
+		Class<?> type = entity.getType();
+		String className = getPregeneratedClassName(type);
+
+		if (!ClassUtils.isPresent(className, type.getClassLoader())) {
+			return null;
+		}
+
+		Class<?> instantiatorClass = ClassUtils.forName(className, type.getClassLoader());
+
+		if (!ObjectInstantiator.class.isAssignableFrom(instantiatorClass)
+				|| !PersistentEntityFingerprint.matches(instantiatorClass, entity)) {
+			return null;
+		}
+
+		return (ObjectInstantiator) instantiatorClass.newInstance();
+	}
+
 	/**
 	 * @param entity
 	 * @return
 	 */
-	private boolean shouldUseReflectionEntityInstantiator(PersistentEntity<?, ?> entity) {
+	private static boolean shouldUseReflectionEntityInstantiator(PersistentEntity<?, ?> entity) {
 
 		Class<?> type = entity.getType();
 
@@ -228,14 +342,6 @@ public class ClassGeneratingEntityInstantiator implements EntityInstantiator {
 		}
 	}
 
-	/**
-	 * @author Thomas Darimont
-	 */
-	private static interface ObjectInstantiator {
-
-		Object newInstance(Object... args);
-	}
-
 	/**
 	 * Generates a new {@link ObjectInstantiator} class for the given custom class.
 	 * <p>
@@ -304,7 +410,7 @@ public class ClassGeneratingEntityInstantiator implements EntityInstantiator {
 		public Class<?> generateCustomInstantiatorClass(PersistentEntity<?, ?> entity) {
 
 			String className = generateClassName(entity);
-			byte[] bytecode = generateBytecode(className, entity);
+			byte[] bytecode = generateBytecode(className, entity, null);
 
 			return classLoader.loadClass(className, bytecode);
 		}
@@ -321,15 +427,22 @@ public class ClassGeneratingEntityInstantiator implements EntityInstantiator {
 		 * Generate a new class for the given {@link InstantiatorKey}.
 		 *
 		 * @param key
+		 * @param fingerprint the {@link PersistentEntityFingerprint} to embed, can be {@literal null}.
 		 * @return
 		 */
-		public byte[] generateBytecode(String internalClassName, PersistentEntity<?, ?> entity) {
+		public static byte[] generateBytecode(String internalClassName, PersistentEntity<?, ?> entity,
+				String fingerprint) {
 
 			ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
 
 			cw.visit(Opcodes.V1_6, ACC_PUBLIC + ACC_SUPER, internalClassName.replace('.', '/'), null, JAVA_LANG_OBJECT,
 					IMPLEMENTED_INTERFACES);
 
+			if (fingerprint != null) {
+				cw.visitField(ACC_PUBLIC + ACC_STATIC + ACC_FINAL, PersistentEntityFingerprint.FIELD_NAME,
+						"Ljava/lang/String;", null, fingerprint).visitEnd();
+			}
+
 			visitDefaultConstructor(cw);
 
 			visitCreateMethod(cw, entity);
@@ -339,7 +452,7 @@ public class ClassGeneratingEntityInstantiator implements EntityInstantiator {
 			return cw.toByteArray();
 		}
 
-		private void visitDefaultConstructor(ClassWriter cw) {
+		private static void visitDefaultConstructor(ClassWriter cw) {
 
 			MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, INIT, "()V", null, null);
 			mv.visitCode();
@@ -356,7 +469,7 @@ public class ClassGeneratingEntityInstantiator implements EntityInstantiator {
 		 * @param cw
 		 * @param entity
 		 */
-		private void visitCreateMethod(ClassWriter cw, PersistentEntity<?, ?> entity) {
+		private static void visitCreateMethod(ClassWriter cw, PersistentEntity<?, ?> entity) {
 
 			String entityTypeResourcePath = Type.getInternalName(entity.getType());
 
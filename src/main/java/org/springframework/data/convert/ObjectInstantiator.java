@@ -0,0 +1,36 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.convert;
+
+/**
+ * SPI implemented by the instantiator classes {@link ClassGeneratingEntityInstantiator} generates at runtime or
+ * {@link PregeneratedClassWriter} writes at build time. Public as generated classes reside in the package of the
+ * entity type. Not intended to be implemented or used by application code.
+ *
+ * @author Thomas Darimont
+ * @author Mark Paluch
+ * @since 1.13
+ */
+public interface ObjectInstantiator {
+
+	/**
+	 * Creates a new instance of the entity using the given constructor arguments.
+	 *
+	 * @param args the constructor arguments.
+	 * @return
+	 */
+	Object newInstance(Object... args);
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.convert;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mapping.model.ClassGeneratingPropertyAccessorFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.FileCopyUtils;
+
+/**
+ * Writes property accessor and instantiator classes for {@link PersistentEntity} instances to a class output directory
+ * at build time (e.g. from a main class invoked by the build after compilation). Both
+ * {@link ClassGeneratingPropertyAccessorFactory} and {@link ClassGeneratingEntityInstantiator} pick up these classes
+ * from the class path instead of generating them on first use. Classes have to be generated with the same mapping
+ * configuration that is used at runtime.
+ *
+ * @author Mark Paluch
+ * @since 1.13
+ */
+public class PregeneratedClassWriter {
+
+	private final File outputDirectory;
+	private final ClassGeneratingPropertyAccessorFactory accessorFactory = new ClassGeneratingPropertyAccessorFactory();
+
+	/**
+	 * Creates a new {@link PregeneratedClassWriter} writing class files into the given directory.
+	 *
+	 * @param outputDirectory must not be {@literal null}.
+	 */
+	public PregeneratedClassWriter(File outputDirectory) {
+
+		Assert.notNull(outputDirectory, "Output directory must not be null!");
+
+		this.outputDirectory = outputDirectory;
+	}
+
+	/**
+	 * Writes accessor and instantiator classes for all {@link PersistentEntity} instances known to the given
+	 * {@link MappingContext}.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @return the names of the classes written.
+	 * @throws IOException
+	 */
+	public List<String> write(MappingContext<?, ?> context) throws IOException {
+
+		Assert.notNull(context, "MappingContext must not be null!");
+
+		List<String> classNames = new ArrayList<String>();
+
+		for (PersistentEntity<?, ?> entity : context.getPersistentEntities()) {
+			classNames.addAll(write(entity));
+		}
+
+		return classNames;
+	}
+
+	/**
+	 * Writes accessor and instantiator classes for the given {@link PersistentEntity} if it supports class generation.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the names of the classes written.
+	 * @throws IOException
+	 */
+	public List<String> write(PersistentEntity<?, ?> entity) throws IOException {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+
+		List<String> classNames = new ArrayList<String>(2);
+		Class<?> type = entity.getType();
+
+		if (accessorFactory.isSupported(entity)) {
+
+			String className = ClassGeneratingPropertyAccessorFactory.getPregeneratedClassName(type);
+			writeClass(className, ClassGeneratingPropertyAccessorFactory.generatePregeneratedBytecode(entity));
+			classNames.add(className);
+		}
+
+		if (ClassGeneratingEntityInstantiator.isSupported(entity)) {
+
+			String className = ClassGeneratingEntityInstantiator.getPregeneratedClassName(type);
+			writeClass(className, ClassGeneratingEntityInstantiator.generatePregeneratedBytecode(entity));
+			classNames.add(className);
+		}
+
+		return classNames;
+	}
+
+	private void writeClass(String className, byte[] bytecode) throws IOException {
+
+		File classFile = new File(outputDirectory, className.replace('.', File.separatorChar).concat(".class"));
+		File parent = classFile.getParentFile();
+
+		if (!parent.isDirectory() && !parent.mkdirs()) {
+			throw new IOException(String.format("Could not create directory %s!", parent));
+		}
+
+		FileCopyUtils.copy(bytecode, classFile);
+	}
+}
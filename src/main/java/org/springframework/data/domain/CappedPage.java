@@ -0,0 +1,37 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.domain;
+
+/**
+ * A {@link Page} whose total might only be a lower bound of the actual number of elements as counting was capped.
+ * Clients should check for this interface via {@code instanceof} as other {@link Page} implementations always report
+ * exact totals.
+ * 
+ * @param <T>
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+public interface CappedPage<T> extends Page<T> {
+
+	/**
+	 * Returns whether {@link #getTotalElements()} is the exact number of elements or just a lower bound as counting was
+	 * capped. In the latter case the total number of elements is at least {@link #getTotalElements()} and
+	 * {@link #getTotalPages()} is calculated based on that.
+	 * 
+	 * @return
+	 */
+	boolean isTotalExact();
+}
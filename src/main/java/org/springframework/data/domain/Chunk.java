@@ -34,11 +34,12 @@ abstract class Chunk<T> implements Slice<T>, Serializable {
 
 	private static final long serialVersionUID = 867755909294344406L;
 
-	private final List<T> content = new ArrayList<T>();
+	private final List<T> content;
 	private final Pageable pageable;
 
 	/**
-	 * Creates a new {@link Chunk} with the given content and the given governing {@link Pageable}.
+	 * Creates a new {@link Chunk} with the given content and the given governing {@link Pageable}. Lazily converted
+	 * content (see {@link #getLazilyConvertedContent(Converter)}) is not copied to keep the conversion lazy.
 	 * 
 	 * @param content must not be {@literal null}.
 	 * @param pageable can be {@literal null}.
@@ -47,7 +48,7 @@ abstract class Chunk<T> implements Slice<T>, Serializable {
 
 		Assert.notNull(content, "Content must not be null!");
 
-		this.content.addAll(content);
+		this.content = content instanceof ConvertingList ? content : new ArrayList<T>(content);
 		this.pageable = pageable;
 	}
 
@@ -171,6 +172,32 @@ abstract class Chunk<T> implements Slice<T>, Serializable {
 		return result;
 	}
 
+	/**
+	 * Returns a view of the content of the {@link Chunk} applying the given {@link Converter} to the elements on access.
+	 * Converted elements are memoized.
+	 * 
+	 * @param converter must not be {@literal null}.
+	 * @return
+	 * @since 1.13
+	 */
+	protected <S> List<S> getLazilyConvertedContent(Converter<? super T, ? extends S> converter) {
+
+		Assert.notNull(converter, "Converter must not be null!");
+
+		return ConvertingList.of(content, converter);
+	}
+
+	/**
+	 * Returns whether the content of the {@link Chunk} is converted lazily, i.e. the {@link Chunk} was created by a lazy
+	 * mapping operation.
+	 * 
+	 * @return
+	 * @since 1.13
+	 */
+	protected boolean isLazilyConverted() {
+		return content instanceof ConvertingList;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Object#equals(java.lang.Object)
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.domain;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.util.Assert;
+
+/**
+ * Unmodifiable {@link List} view converting the elements of a source {@link List} on access. Converted elements are
+ * memoized so that each one is converted at most once (concurrent access might convert an element more than once
+ * though). Converting a {@link ConvertingList} again composes the {@link Converter}s so that elements not yet converted
+ * by the original view don't need to be retained in intermediate form. Elements the original view already converted
+ * are reused. Serializes as a plain {@link ArrayList} of the converted elements.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+class ConvertingList<S, T> extends AbstractList<T> implements RandomAccess, Serializable {
+
+	private static final long serialVersionUID = 3390224419290004917L;
+	private static final Object NOT_CONVERTED = new Object();
+
+	private final List<? extends S> source;
+	private final Converter<? super S, ? extends T> converter;
+	private final Object[] converted;
+
+	private final ConvertingList<?, Object> previous;
+	private final Converter<Object, ? extends T> previousConverter;
+
+	/**
+	 * Creates a new {@link ConvertingList} for the given source {@link List} and {@link Converter}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 */
+	private ConvertingList(List<? extends S> source, Converter<? super S, ? extends T> converter) {
+		this(source, converter, null, null);
+	}
+
+	/**
+	 * Creates a new {@link ConvertingList} for the given source {@link List} and {@link Converter} reusing the elements
+	 * already converted by the given previous {@link ConvertingList}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param previous can be {@literal null}.
+	 * @param previousConverter the {@link Converter} to apply to the elements of the previous {@link ConvertingList},
+	 *          must not be {@literal null} if a previous {@link ConvertingList} is given.
+	 */
+	private ConvertingList(List<? extends S> source, Converter<? super S, ? extends T> converter,
+			ConvertingList<?, Object> previous, Converter<Object, ? extends T> previousConverter) {
+
+		Assert.notNull(source, "Source must not be null!");
+		Assert.notNull(converter, "Converter must not be null!");
+
+		this.source = source;
+		this.converter = converter;
+		this.converted = new Object[source.size()];
+		this.previous = previous;
+		this.previousConverter = previousConverter;
+
+		for (int i = 0; i < converted.length; i++) {
+			converted[i] = NOT_CONVERTED;
+		}
+	}
+
+	/**
+	 * Returns a {@link List} lazily converting the elements of the given source with the given {@link Converter}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public static <S, T> List<T> of(List<S> source, Converter<? super S, ? extends T> converter) {
+
+		Assert.notNull(source, "Source must not be null!");
+		Assert.notNull(converter, "Converter must not be null!");
+
+		if (source instanceof ConvertingList) {
+
+			ConvertingList<Object, S> list = (ConvertingList<Object, S>) source;
+			Converter<Object, T> composed = new ComposedConverter<Object, S, T>(list.converter, converter);
+
+			ConvertingList<?, Object> previous = (ConvertingList<?, Object>) (List<?>) source;
+
+			return new ConvertingList<Object, T>(list.source, composed, previous,
+					(Converter<Object, ? extends T>) converter);
+		}
+
+		return new ConvertingList<S, T>(source, converter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractList#get(int)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+
+		Object value = converted[index];
+
+		if (value == NOT_CONVERTED) {
+			value = previous != null && previous.isConverted(index) ? previousConverter.convert(previous.get(index))
+					: converter.convert(source.get(index));
+			converted[index] = value;
+		}
+
+		return (T) value;
+	}
+
+	/**
+	 * Returns whether the element at the given index has already been converted.
+	 *
+	 * @param index
+	 * @return
+	 */
+	private boolean isConverted(int index) {
+		return converted[index] != NOT_CONVERTED;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractCollection#size()
+	 */
+	@Override
+	public int size() {
+		return converted.length;
+	}
+
+	private Object writeReplace() {
+		return new ArrayList<T>(this);
+	}
+
+	/**
+	 * {@link Converter} applying two {@link Converter}s in sequence.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class ComposedConverter<S, I, T> implements Converter<S, T> {
+
+		private final Converter<? super S, ? extends I> first;
+		private final Converter<? super I, ? extends T> second;
+
+		public ComposedConverter(Converter<? super S, ? extends I> first, Converter<? super I, ? extends T> second) {
+			this.first = first;
+			this.second = second;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.core.convert.converter.Converter#convert(java.lang.Object)
+		 */
+		@Override
+		public T convert(S source) {
+			return second.convert(first.convert(source));
+		}
+	}
+}
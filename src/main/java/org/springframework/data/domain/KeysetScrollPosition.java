@@ -0,0 +1,194 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.domain;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+/**
+ * A position within a result ordered by a {@link Sort} described by the values of the sort properties of the last
+ * element seen (keyset or seek pagination). In contrast to offset based {@link Pageable}s, stores can translate keyset
+ * positions into a predicate on the sort properties and thus avoid scanning all preceding elements for deep positions.
+ * To guarantee a stable order, the {@link Sort} used should include a unique property (e.g. the identifier).
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ * @see Window
+ */
+public final class KeysetScrollPosition implements Serializable {
+
+	private static final long serialVersionUID = -2693394306294584627L;
+	private static final KeysetScrollPosition INITIAL = new KeysetScrollPosition(Collections.<String, Object> emptyMap(),
+			Direction.FORWARD);
+
+	private final Map<String, Object> keys;
+	private final Direction direction;
+
+	private KeysetScrollPosition(Map<String, ?> keys, Direction direction) {
+
+		this.keys = Collections.unmodifiableMap(new LinkedHashMap<String, Object>(keys));
+		this.direction = direction;
+	}
+
+	/**
+	 * Returns the initial position, i.e. the position before the first element.
+	 *
+	 * @return
+	 */
+	public static KeysetScrollPosition initial() {
+		return INITIAL;
+	}
+
+	/**
+	 * Creates a new {@link KeysetScrollPosition} to scroll forward from the element with the given sort property values.
+	 *
+	 * @param keys the sort property values keyed by property path in the order of the {@link Sort}, must not be
+	 *          {@literal null}.
+	 * @return
+	 */
+	public static KeysetScrollPosition of(Map<String, ?> keys) {
+		return of(keys, Direction.FORWARD);
+	}
+
+	/**
+	 * Creates a new {@link KeysetScrollPosition} to scroll from the element with the given sort property values in the
+	 * given {@link Direction}.
+	 *
+	 * @param keys the sort property values keyed by property path in the order of the {@link Sort}, must not be
+	 *          {@literal null}.
+	 * @param direction must not be {@literal null}.
+	 * @return
+	 */
+	public static KeysetScrollPosition of(Map<String, ?> keys, Direction direction) {
+
+		Assert.notNull(keys, "Keys must not be null!");
+		Assert.notNull(direction, "Direction must not be null!");
+
+		return keys.isEmpty() && Direction.FORWARD.equals(direction) ? INITIAL
+				: new KeysetScrollPosition(keys, direction);
+	}
+
+	/**
+	 * Returns whether the position is the initial one, i.e. no elements have been seen yet.
+	 *
+	 * @return
+	 */
+	public boolean isInitial() {
+		return keys.isEmpty();
+	}
+
+	/**
+	 * Returns the values of the sort properties keyed by property path in the order of the {@link Sort}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Map<String, Object> getKeys() {
+		return keys;
+	}
+
+	/**
+	 * Returns the direction to scroll in.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Direction getDirection() {
+		return direction;
+	}
+
+	/**
+	 * Returns a {@link KeysetScrollPosition} for the same keys scrolling forward.
+	 *
+	 * @return
+	 */
+	public KeysetScrollPosition forward() {
+		return Direction.FORWARD.equals(direction) ? this : of(keys, Direction.FORWARD);
+	}
+
+	/**
+	 * Returns a {@link KeysetScrollPosition} for the same keys scrolling backward.
+	 *
+	 * @return
+	 */
+	public KeysetScrollPosition backward() {
+		return Direction.BACKWARD.equals(direction) ? this : of(keys, Direction.BACKWARD);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof KeysetScrollPosition)) {
+			return false;
+		}
+
+		KeysetScrollPosition that = (KeysetScrollPosition) obj;
+
+		return this.keys.equals(that.keys) && this.direction.equals(that.direction);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+
+		int result = 17;
+
+		result += 31 * keys.hashCode();
+		result += 31 * direction.hashCode();
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("KeysetScrollPosition [%s, %s]", direction, keys);
+	}
+
+	/**
+	 * The direction to scroll in relative to the position.
+	 *
+	 * @author Oliver Gierke
+	 */
+	public static enum Direction {
+
+		/**
+		 * Elements following the position.
+		 */
+		FORWARD,
+
+		/**
+		 * Elements preceding the position.
+		 */
+		BACKWARD;
+	}
+}
@@ -25,11 +25,12 @@ import org.springframework.core.convert.converter.Converter;
  * @param <T> the type of which the page consists.
  * @author Oliver Gierke
  */
-public class PageImpl<T> extends Chunk<T> implements Page<T> {
+public class PageImpl<T> extends Chunk<T> implements CappedPage<T> {
 
 	private static final long serialVersionUID = 867755909294344406L;
 
 	private final long total;
+	private final boolean totalExact;
 	private final Pageable pageable;
 
 	/**
@@ -41,12 +42,27 @@ public class PageImpl<T> extends Chunk<T> implements Page<T> {
 	 *          given, if it is going to be the content of the last page. This is in place to mitigate inconsistencies
 	 */
 	public PageImpl(List<T> content, Pageable pageable, long total) {
+		this(content, pageable, total, true);
+	}
+
+	/**
+	 * Constructor of {@code PageImpl} allowing to mark the total as lower bound of the actual number of items, e.g. in
+	 * case counting was capped.
+	 * 
+	 * @param content the content of this page, must not be {@literal null}.
+	 * @param pageable the paging information, can be {@literal null}.
+	 * @param total the total amount of items available or the lower bound of it.
+	 * @param totalExact whether the given total is the exact amount of items available.
+	 * @since 1.13
+	 */
+	public PageImpl(List<T> content, Pageable pageable, long total, boolean totalExact) {
 
 		super(content, pageable);
 
 		this.pageable = pageable;
 		this.total = !content.isEmpty() && pageable != null && pageable.getOffset() + pageable.getPageSize() > total
 				? pageable.getOffset() + content.size() : total;
+		this.totalExact = totalExact;
 	}
 
 	/**
@@ -77,6 +93,15 @@ public class PageImpl<T> extends Chunk<T> implements Page<T> {
 		return total;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.CappedPage#isTotalExact()
+	 */
+	@Override
+	public boolean isTotalExact() {
+		return totalExact;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.domain.Slice#hasNext()
@@ -101,7 +126,24 @@ public class PageImpl<T> extends Chunk<T> implements Page<T> {
 	 */
 	@Override
 	public <S> Page<S> map(Converter<? super T, ? extends S> converter) {
-		return new PageImpl<S>(getConvertedContent(converter), pageable, total);
+
+		List<S> content = isLazilyConverted() ? getLazilyConvertedContent(converter) : getConvertedContent(converter);
+		return new PageImpl<S>(content, pageable, total, totalExact);
+	}
+
+	/**
+	 * Returns a new {@link Page} with the content of the current one mapped by the given {@link Converter} on access.
+	 * Converted elements are memoized and subsequent calls to {@link #map(Converter)} on the returned {@link Page} stay
+	 * lazy, so that mapping a {@link Page} multiple times doesn't create intermediate content lists. Note that the
+	 * {@link Converter} is invoked when the content is accessed, potentially outside of the scope the {@link Page} was
+	 * created in.
+	 * 
+	 * @param converter must not be {@literal null}.
+	 * @return
+	 * @since 1.13
+	 */
+	public <S> Page<S> mapLazily(Converter<? super T, ? extends S> converter) {
+		return new PageImpl<S>(getLazilyConvertedContent(converter), pageable, total, totalExact);
 	}
 
 	/*
@@ -138,7 +180,7 @@ public class PageImpl<T> extends Chunk<T> implements Page<T> {
 
 		PageImpl<?> that = (PageImpl<?>) obj;
 
-		return this.total == that.total && super.equals(obj);
+		return this.total == that.total && this.totalExact == that.totalExact && super.equals(obj);
 	}
 
 	/*
@@ -151,6 +193,7 @@ public class PageImpl<T> extends Chunk<T> implements Page<T> {
 		int result = 17;
 
 		result += 31 * (int) (total ^ total >>> 32);
+		result += 31 * (totalExact ? 1 : 0);
 		result += 31 * super.hashCode();
 
 		return result;
@@ -70,7 +70,24 @@ public class SliceImpl<T> extends Chunk<T> {
 	 */
 	@Override
 	public <S> Slice<S> map(Converter<? super T, ? extends S> converter) {
-		return new SliceImpl<S>(getConvertedContent(converter), pageable, hasNext);
+
+		List<S> content = isLazilyConverted() ? getLazilyConvertedContent(converter) : getConvertedContent(converter);
+		return new SliceImpl<S>(content, pageable, hasNext);
+	}
+
+	/**
+	 * Returns a new {@link Slice} with the content of the current one mapped by the given {@link Converter} on access.
+	 * Converted elements are memoized and subsequent calls to {@link #map(Converter)} on the returned {@link Slice} stay
+	 * lazy, so that mapping a {@link Slice} multiple times doesn't create intermediate content lists. Note that the
+	 * {@link Converter} is invoked when the content is accessed, potentially outside of the scope the {@link Slice} was
+	 * created in.
+	 * 
+	 * @param converter must not be {@literal null}.
+	 * @return
+	 * @since 1.13
+	 */
+	public <S> Slice<S> mapLazily(Converter<? super T, ? extends S> converter) {
+		return new SliceImpl<S>(getLazilyConvertedContent(converter), pageable, hasNext);
 	}
 
 	/*
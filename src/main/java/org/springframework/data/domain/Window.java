@@ -0,0 +1,100 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.domain;
+
+import java.util.List;
+
+import org.springframework.core.convert.converter.Converter;
+
+/**
+ * A window of elements of a sorted result obtained by keyset pagination. Exposes the {@link KeysetScrollPosition} of
+ * each element to resume scrolling from there. In contrast to a {@link Slice} a {@link Window} doesn't know about its
+ * absolute position within the result.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ * @see KeysetScrollPosition
+ */
+public interface Window<T> extends Iterable<T> {
+
+	/**
+	 * Returns the number of elements in the {@link Window}.
+	 *
+	 * @return
+	 */
+	int size();
+
+	/**
+	 * Returns whether the {@link Window} doesn't contain any elements.
+	 *
+	 * @return
+	 */
+	boolean isEmpty();
+
+	/**
+	 * Returns the content of the {@link Window} as {@link List}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	List<T> getContent();
+
+	/**
+	 * Returns the {@link Sort} the elements are ordered by.
+	 *
+	 * @return
+	 */
+	Sort getSort();
+
+	/**
+	 * Returns whether there are more elements following the {@link Window}.
+	 *
+	 * @return
+	 */
+	boolean hasNext();
+
+	/**
+	 * Returns whether the {@link Window} is the last one, i.e. there are no more elements following it.
+	 *
+	 * @return
+	 */
+	boolean isLast();
+
+	/**
+	 * Returns the {@link KeysetScrollPosition} of the element at the given index, i.e. the position to resume scrolling
+	 * right after that element.
+	 *
+	 * @param index must be a valid index within the {@link Window}.
+	 * @return will never be {@literal null}.
+	 */
+	KeysetScrollPosition positionAt(int index);
+
+	/**
+	 * Returns the {@link KeysetScrollPosition} to obtain the next {@link Window} from. Clients should check
+	 * {@link #hasNext()} before calling this method as it returns {@literal null} in case there are no more elements.
+	 *
+	 * @return
+	 */
+	KeysetScrollPosition nextPosition();
+
+	/**
+	 * Returns a new {@link Window} with the content of the current one mapped by the given {@link Converter}. The
+	 * positions are still derived from the original elements.
+	 *
+	 * @param converter must not be {@literal null}.
+	 * @return
+	 */
+	<S> Window<S> map(Converter<? super T, ? extends S> converter);
+}
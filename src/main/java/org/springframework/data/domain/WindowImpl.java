@@ -0,0 +1,267 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+import org.springframework.util.Assert;
+
+/**
+ * Default implementation of {@link Window}. Positions are calculated on access, by default by reading the values of
+ * the {@link Sort}'s properties from the elements.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+public class WindowImpl<T> implements Window<T> {
+
+	private final List<T> content;
+	private final Sort sort;
+	private final boolean hasNext;
+	private final List<?> source;
+	private final Converter<Object, KeysetScrollPosition> positionFunction;
+
+	/**
+	 * Creates a new {@link WindowImpl} for the given content, {@link Sort} and whether there are more elements following
+	 * the window. Positions are derived from the values of the sort properties of the elements.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param sort must not be {@literal null}.
+	 * @param hasNext whether there are more elements following the content.
+	 */
+	public WindowImpl(List<T> content, Sort sort, boolean hasNext) {
+		this(content, sort, hasNext, new SortPropertyPositionFunction(sort));
+	}
+
+	/**
+	 * Creates a new {@link WindowImpl} for the given content, {@link Sort} and whether there are more elements following
+	 * the window using the given {@link Converter} to calculate the {@link KeysetScrollPosition} of an element.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param sort must not be {@literal null}.
+	 * @param hasNext whether there are more elements following the content.
+	 * @param positionFunction must not be {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public WindowImpl(List<T> content, Sort sort, boolean hasNext,
+			Converter<? super T, KeysetScrollPosition> positionFunction) {
+		this(content, sort, hasNext, content, (Converter<Object, KeysetScrollPosition>) positionFunction);
+	}
+
+	private WindowImpl(List<T> content, Sort sort, boolean hasNext, List<?> source,
+			Converter<Object, KeysetScrollPosition> positionFunction) {
+
+		Assert.notNull(content, "Content must not be null!");
+		Assert.notNull(sort, "Sort must not be null!");
+		Assert.notNull(positionFunction, "Position function must not be null!");
+
+		this.content = Collections.unmodifiableList(new ArrayList<T>(content));
+		this.sort = sort;
+		this.hasNext = hasNext;
+		this.source = source == content ? this.content : source;
+		this.positionFunction = positionFunction;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.Window#size()
+	 */
+	@Override
+	public int size() {
+		return content.size();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.Window#isEmpty()
+	 */
+	@Override
+	public boolean isEmpty() {
+		return content.isEmpty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.Window#getContent()
+	 */
+	@Override
+	public List<T> getContent() {
+		return content;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.Window#getSort()
+	 */
+	@Override
+	public Sort getSort() {
+		return sort;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.Window#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+		return hasNext;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.Window#isLast()
+	 */
+	@Override
+	public boolean isLast() {
+		return !hasNext;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.Window#positionAt(int)
+	 */
+	@Override
+	public KeysetScrollPosition positionAt(int index) {
+
+		Assert.isTrue(index >= 0 && index < source.size(),
+				String.format("Index %s is out of bounds for a window of size %s!", index, source.size()));
+
+		return positionFunction.convert(source.get(index));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.Window#nextPosition()
+	 */
+	@Override
+	public KeysetScrollPosition nextPosition() {
+		return hasNext && !source.isEmpty() ? positionAt(source.size() - 1) : null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.Window#map(org.springframework.core.convert.converter.Converter)
+	 */
+	@Override
+	public <S> Window<S> map(Converter<? super T, ? extends S> converter) {
+
+		Assert.notNull(converter, "Converter must not be null!");
+
+		List<S> result = new ArrayList<S>(content.size());
+
+		for (T element : content) {
+			result.add(converter.convert(element));
+		}
+
+		return new WindowImpl<S>(result, sort, hasNext, source, positionFunction);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Iterable#iterator()
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return content.iterator();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof WindowImpl<?>)) {
+			return false;
+		}
+
+		WindowImpl<?> that = (WindowImpl<?>) obj;
+
+		return this.hasNext == that.hasNext && this.content.equals(that.content) && this.sort.equals(that.sort);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+
+		int result = 17;
+
+		result += 31 * (hasNext ? 1 : 0);
+		result += 31 * content.hashCode();
+		result += 31 * sort.hashCode();
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("Window with %s elements, has next: %s", content.size(), hasNext);
+	}
+
+	/**
+	 * Calculates the {@link KeysetScrollPosition} of an element by reading the values of the properties of a
+	 * {@link Sort}.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class SortPropertyPositionFunction implements Converter<Object, KeysetScrollPosition> {
+
+		private final Sort sort;
+
+		public SortPropertyPositionFunction(Sort sort) {
+
+			Assert.notNull(sort, "Sort must not be null!");
+			this.sort = sort;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.core.convert.converter.Converter#convert(java.lang.Object)
+		 */
+		@Override
+		public KeysetScrollPosition convert(Object source) {
+
+			DirectFieldAccessFallbackBeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(source);
+			Map<String, Object> keys = new LinkedHashMap<String, Object>();
+
+			for (Order order : sort) {
+				keys.put(order.getProperty(), wrapper.getPropertyValue(order.getProperty()));
+			}
+
+			return KeysetScrollPosition.of(keys);
+		}
+	}
+}
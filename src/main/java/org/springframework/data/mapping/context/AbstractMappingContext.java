@@ -18,14 +18,23 @@ package org.springframework.data.mapping.context;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -34,17 +43,18 @@ import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.mapping.model.ClassGeneratingPropertyAccessorFactory;
 import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.mapping.model.MutablePersistentEntity;
-import org.springframework.data.mapping.model.PersistentPropertyAccessorFactory;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.ReflectionUtils.FieldCallback;
 import org.springframework.util.ReflectionUtils.FieldFilter;
@@ -71,13 +81,17 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 		implements MappingContext<E, P>, ApplicationEventPublisherAware, InitializingBean {
 
 	private final Map<TypeInformation<?>, E> persistentEntities = new HashMap<TypeInformation<?>, E>();
-	private final PersistentPropertyAccessorFactory persistentPropertyAccessorFactory = new ClassGeneratingPropertyAccessorFactory();
+	private final ClassGeneratingPropertyAccessorFactory persistentPropertyAccessorFactory = new ClassGeneratingPropertyAccessorFactory();
+	private final Map<ResolvedSortCacheKey, ResolvedSort<P>> resolvedSorts =
+			new ConcurrentReferenceHashMap<ResolvedSortCacheKey, ResolvedSort<P>>();
 
 	private ApplicationEventPublisher applicationEventPublisher;
 
 	private Set<? extends Class<?>> initialEntitySet = new HashSet<Class<?>>();
 	private boolean strict = false;
 	private SimpleTypeHolder simpleTypeHolder = new SimpleTypeHolder();
+	private boolean warmUpOnInitialize = false;
+	private Executor warmUpExecutor;
 
 	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
 	private final Lock read = lock.readLock();
@@ -123,6 +137,28 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 		this.simpleTypeHolder = simpleTypes == null ? new SimpleTypeHolder() : simpleTypes;
 	}
 
+	/**
+	 * Configures whether {@link #initialize()} eagerly prepares the hot paths of all entities registered initially by
+	 * calling {@link #warmUp()}. Defaults to {@literal false}.
+	 *
+	 * @param warmUpOnInitialize
+	 * @since 1.13
+	 */
+	public void setWarmUpOnInitialize(boolean warmUpOnInitialize) {
+		this.warmUpOnInitialize = warmUpOnInitialize;
+	}
+
+	/**
+	 * Configures the {@link Executor} to be used to warm up entities in {@link #warmUp()}. If none is configured, a
+	 * temporary thread pool sized to the number of available processors is used.
+	 *
+	 * @param warmUpExecutor can be {@literal null}.
+	 * @since 1.13
+	 */
+	public void setWarmUpExecutor(Executor warmUpExecutor) {
+		this.warmUpExecutor = warmUpExecutor;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.mapping.model.MappingContext#getPersistentEntities()
@@ -231,6 +267,33 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 		return getPersistentPropertyPath(invalidPath.getResolvedPath(), invalidPath.getType());
 	}
 
+	/**
+	 * Returns the {@link ResolvedSort} for the given {@link Sort} and type, i.e. the {@link Sort} with all its orders
+	 * resolved into {@link PersistentPropertyPath}s. Resolved instances are cached so that repeated lookups for equal
+	 * {@link Sort}s don't resolve the property paths again.
+	 *
+	 * @param sort must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return
+	 * @throws InvalidPersistentPropertyPath in case a property of the {@link Sort} cannot be resolved.
+	 * @since 1.13
+	 */
+	public ResolvedSort<P> getResolvedSort(Sort sort, Class<?> type) {
+
+		Assert.notNull(sort, "Sort must not be null!");
+		Assert.notNull(type, "Type must not be null!");
+
+		ResolvedSortCacheKey key = new ResolvedSortCacheKey(sort, type);
+		ResolvedSort<P> resolvedSort = resolvedSorts.get(key);
+
+		if (resolvedSort == null) {
+			resolvedSort = ResolvedSort.of(sort, type, this);
+			resolvedSorts.put(key, resolvedSort);
+		}
+
+		return resolvedSort;
+	}
+
 	private PersistentPropertyPath<P> getPersistentPropertyPath(String propertyPath, TypeInformation<?> type) {
 		return getPersistentPropertyPath(Arrays.asList(propertyPath.split("\\.")), type);
 	}
@@ -410,6 +473,105 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 		for (Class<?> initialEntity : initialEntitySet) {
 			addPersistentEntity(initialEntity);
 		}
+
+		if (warmUpOnInitialize) {
+			warmUp();
+		}
+	}
+
+	/**
+	 * Eagerly prepares all {@link PersistentEntity} instances currently known to the context for use, i.e. generates
+	 * their property accessor classes, in parallel so that the first requests touching an entity don't have to pay for
+	 * it.
+	 *
+	 * @return the time in nanoseconds it took to warm up each entity, keyed by the entity's {@link TypeInformation}.
+	 * @see #warmUp(MutablePersistentEntity)
+	 * @since 1.13
+	 */
+	public Map<TypeInformation<?>, Long> warmUp() {
+
+		Collection<E> entities = getPersistentEntities();
+
+		if (entities.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		final Map<TypeInformation<?>, Long> durations = new ConcurrentHashMap<TypeInformation<?>, Long>();
+		List<FutureTask<Void>> tasks = new ArrayList<FutureTask<Void>>(entities.size());
+
+		Executor executor = this.warmUpExecutor;
+		ExecutorService temporaryExecutor = null;
+
+		if (executor == null) {
+
+			int threads = Math.min(entities.size(), Runtime.getRuntime().availableProcessors());
+			temporaryExecutor = Executors.newFixedThreadPool(threads);
+			executor = temporaryExecutor;
+		}
+
+		try {
+
+			for (final E entity : entities) {
+
+				FutureTask<Void> task = new FutureTask<Void>(new Callable<Void>() {
+
+					@Override
+					public Void call() {
+
+						long start = System.nanoTime();
+						warmUp(entity);
+						durations.put(entity.getTypeInformation(), System.nanoTime() - start);
+
+						return null;
+					}
+				});
+
+				tasks.add(task);
+				executor.execute(task);
+			}
+
+			for (FutureTask<Void> task : tasks) {
+				task.get();
+			}
+
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			throw new MappingException("Interrupted while warming up persistent entities!", e);
+
+		} catch (ExecutionException e) {
+
+			Throwable cause = e.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			throw new MappingException(String.format("Could not warm up persistent entities: %s", cause.getMessage()), cause);
+
+		} finally {
+
+			if (temporaryExecutor != null) {
+				temporaryExecutor.shutdown();
+			}
+		}
+
+		return Collections.unmodifiableMap(durations);
+	}
+
+	/**
+	 * Eagerly prepares the given {@link PersistentEntity} for use. Generates the entity's property accessor class by
+	 * default. Subclasses can override this method to prepare additional infrastructure, e.g. entity instantiators, but
+	 * should call the super method. Invoked concurrently for different entities.
+	 *
+	 * @param entity will never be {@literal null}.
+	 * @since 1.13
+	 */
+	protected void warmUp(E entity) {
+
+		if (persistentPropertyAccessorFactory.isSupported(entity)) {
+			persistentPropertyAccessorFactory.warmUp(entity);
+		}
 	}
 
 	/**
@@ -620,4 +782,51 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 			}
 		}
 	}
+
+	/**
+	 * Cache key for {@link ResolvedSort}s.
+	 *
+	 * @author Oliver Gierke
+	 * @since 1.13
+	 */
+	private static final class ResolvedSortCacheKey {
+
+		private final Sort sort;
+		private final Class<?> type;
+
+		public ResolvedSortCacheKey(Sort sort, Class<?> type) {
+
+			this.sort = sort;
+			this.type = type;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof ResolvedSortCacheKey)) {
+				return false;
+			}
+
+			ResolvedSortCacheKey that = (ResolvedSortCacheKey) obj;
+
+			return this.type.equals(that.type) && this.sort.equals(that.sort);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return 31 * sort.hashCode() + type.hashCode();
+		}
+	}
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.context;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link Sort} whose {@link Order}s have been resolved into {@link PersistentPropertyPath}s for a given domain type.
+ * Store modules can use a {@link ResolvedSort} to translate a {@link Sort} into a store specific representation
+ * without resolving the property references over and over again. Use
+ * {@link AbstractMappingContext#getResolvedSort(Sort, Class)} to obtain cached instances.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+public final class ResolvedSort<P extends PersistentProperty<P>> implements Iterable<ResolvedSort.ResolvedOrder<P>> {
+
+	private final Sort sort;
+	private final Class<?> type;
+	private final List<ResolvedOrder<P>> orders;
+
+	private ResolvedSort(Sort sort, Class<?> type, List<ResolvedOrder<P>> orders) {
+
+		this.sort = sort;
+		this.type = type;
+		this.orders = Collections.unmodifiableList(orders);
+	}
+
+	/**
+	 * Resolves the {@link Order}s of the given {@link Sort} against the given type using the given
+	 * {@link MappingContext}.
+	 *
+	 * @param sort must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param context must not be {@literal null}.
+	 * @return
+	 * @throws InvalidPersistentPropertyPath in case a property of the {@link Sort} cannot be resolved.
+	 */
+	public static <P extends PersistentProperty<P>> ResolvedSort<P> of(Sort sort, Class<?> type,
+			MappingContext<?, P> context) {
+
+		Assert.notNull(sort, "Sort must not be null!");
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(context, "MappingContext must not be null!");
+
+		List<ResolvedOrder<P>> orders = new ArrayList<ResolvedOrder<P>>();
+
+		for (Order order : sort) {
+			orders.add(new ResolvedOrder<P>(order, context.getPersistentPropertyPath(order.getProperty(), type)));
+		}
+
+		return new ResolvedSort<P>(sort, type, orders);
+	}
+
+	/**
+	 * Returns the {@link Sort} the {@link ResolvedSort} was created for.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Sort getSort() {
+		return sort;
+	}
+
+	/**
+	 * Returns the type the {@link Sort} was resolved against.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Class<?> getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the {@link ResolvedOrder}s in the order of the original {@link Sort}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<ResolvedOrder<P>> getOrders() {
+		return orders;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Iterable#iterator()
+	 */
+	@Override
+	public Iterator<ResolvedOrder<P>> iterator() {
+		return orders.iterator();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("%s for %s", sort, type.getName());
+	}
+
+	/**
+	 * An {@link Order} bound to the {@link PersistentPropertyPath} its property resolves to.
+	 *
+	 * @author Oliver Gierke
+	 */
+	public static final class ResolvedOrder<P extends PersistentProperty<P>> {
+
+		private final Order order;
+		private final PersistentPropertyPath<P> path;
+
+		private ResolvedOrder(Order order, PersistentPropertyPath<P> path) {
+
+			this.order = order;
+			this.path = path;
+		}
+
+		/**
+		 * Returns the original {@link Order}.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public Order getOrder() {
+			return order;
+		}
+
+		/**
+		 * Returns the {@link PersistentPropertyPath} the property of the {@link Order} resolves to.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public PersistentPropertyPath<P> getPath() {
+			return path;
+		}
+
+		/**
+		 * Returns the {@link PersistentProperty} the {@link Order} ultimately points to.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public P getLeafProperty() {
+			return path.getLeafProperty();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("%s -> %s", order, path.toDotPath());
+		}
+	}
+}
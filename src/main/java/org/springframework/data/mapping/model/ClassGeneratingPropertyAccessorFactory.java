@@ -21,20 +21,29 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.UtilityClass;
 
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.security.ProtectionDomain;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.asm.ClassWriter;
 import org.springframework.asm.Label;
 import org.springframework.asm.MethodVisitor;
@@ -64,8 +73,12 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 	private static final boolean IS_JAVA_7_OR_BETTER = org.springframework.util.ClassUtils
 			.isPresent("java.lang.invoke.MethodHandle", ClassGeneratingPropertyAccessorFactory.class.getClassLoader());
 
-	private volatile Map<TypeInformation<?>, Class<PersistentPropertyAccessor>> propertyAccessorClasses = new HashMap<TypeInformation<?>, Class<PersistentPropertyAccessor>>(
+	private static final Logger LOGGER = LoggerFactory.getLogger(ClassGeneratingPropertyAccessorFactory.class);
+	private static final String PREGENERATED_CLASS_SUFFIX = "Pregenerated";
+
+	private final ConcurrentMap<TypeInformation<?>, FutureTask<Class<PersistentPropertyAccessor>>> propertyAccessorClasses = new ConcurrentHashMap<TypeInformation<?>, FutureTask<Class<PersistentPropertyAccessor>>>(
 			32);
+	private final Map<Class<?>, String> unsupportedTypes = new ConcurrentHashMap<Class<?>, String>();
 
 	/*
 	 * (non-Javadoc)
@@ -74,11 +87,8 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 	@Override
 	public PersistentPropertyAccessor getPropertyAccessor(PersistentEntity<?, ?> entity, Object bean) {
 
-		Class<PersistentPropertyAccessor> propertyAccessorClass = propertyAccessorClasses.get(entity.getTypeInformation());
-
-		if (propertyAccessorClass == null) {
-			propertyAccessorClass = potentiallyCreateAndRegisterPersistentPropertyAccessorClass(entity);
-		}
+		Class<PersistentPropertyAccessor> propertyAccessorClass = potentiallyCreateAndRegisterPersistentPropertyAccessorClass(
+				entity);
 
 		try {
 			return (PersistentPropertyAccessor) propertyAccessorClass.getConstructors()[0].newInstance(bean);
@@ -87,6 +97,21 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 		}
 	}
 
+	/**
+	 * Eagerly generates and registers the accessor class for the given {@link PersistentEntity} so that the first call
+	 * to {@link #getPropertyAccessor(PersistentEntity, Object)} doesn't have to. Callers need to make sure the entity is
+	 * supported, i.e. {@link #isSupported(PersistentEntity)} returns {@literal true}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @since 1.13
+	 */
+	public void warmUp(PersistentEntity<?, ?> entity) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+
+		potentiallyCreateAndRegisterPersistentPropertyAccessorClass(entity);
+	}
+
 	/**
 	 * Checks whether an accessor class can be generated.
 	 *
@@ -100,12 +125,53 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 
 		Assert.notNull(entity, "PersistentEntity must not be null!");
 
+		String reason = getUnsupportedReason(entity);
+
+		if (reason == null) {
+			return true;
+		}
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug(String.format("Falling back to reflective property access for %s: %s.",
+					entity.getType().getName(), reason));
+		}
+
+		unsupportedTypes.put(entity.getType(), reason);
+
+		return false;
+	}
+
+	/**
+	 * Returns all types that were rejected by {@link #isSupported(PersistentEntity)} and thus fall back to reflective
+	 * property access along with the reason they were rejected.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Map<Class<?>, String> getUnsupportedTypes() {
+		return Collections.unmodifiableMap(unsupportedTypes);
+	}
+
+	/**
+	 * Returns the reason why no accessor class can be generated for the given {@link PersistentEntity} or
+	 * {@literal null} if an accessor class can be generated.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 */
+	private static String getUnsupportedReason(PersistentEntity<?, ?> entity) {
+
 		if (!IS_JAVA_7_OR_BETTER) {
-			return false;
+			return "MethodHandles not available on current runtime";
+		}
+
+		Class<?> type = entity.getType();
+
+		if (type.getClassLoader() == null) {
+			return "type loaded by the bootstrap class loader";
 		}
 
-		if (entity.getType().getClassLoader() == null || entity.getType().getPackage().getName().startsWith("java")) {
-			return false;
+		if (type.getName().startsWith("java.")) {
+			return "type declared in a java.* package";
 		}
 
 		final Set<Integer> hashCodes = new HashSet<Integer>();
@@ -134,43 +200,141 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 			}
 		});
 
-		return hashCodes.size() == propertyCount.get();
+		return hashCodes.size() == propertyCount.get() ? null : "property name hash codes are not unique";
 	}
 
 	/**
+	 * Returns the accessor class for the given {@link PersistentEntity}, generating it if necessary. Generation happens
+	 * exactly once per entity type. Concurrent callers for the same type wait for the generation to complete while
+	 * accessor classes for other types can be generated in parallel.
+	 *
 	 * @param entity must not be {@literal null}.
 	 * @return
 	 */
-	private synchronized Class<PersistentPropertyAccessor> potentiallyCreateAndRegisterPersistentPropertyAccessorClass(
-			PersistentEntity<?, ?> entity) {
+	private Class<PersistentPropertyAccessor> potentiallyCreateAndRegisterPersistentPropertyAccessorClass(
+			final PersistentEntity<?, ?> entity) {
+
+		TypeInformation<?> key = entity.getTypeInformation();
+		FutureTask<Class<PersistentPropertyAccessor>> task = propertyAccessorClasses.get(key);
+
+		if (task == null) {
 
-		Map<TypeInformation<?>, Class<PersistentPropertyAccessor>> map = this.propertyAccessorClasses;
-		Class<PersistentPropertyAccessor> propertyAccessorClass = map.get(entity.getTypeInformation());
+			FutureTask<Class<PersistentPropertyAccessor>> newTask = new FutureTask<Class<PersistentPropertyAccessor>>(
+					new Callable<Class<PersistentPropertyAccessor>>() {
 
-		if (propertyAccessorClass != null) {
-			return propertyAccessorClass;
+						@Override
+						public Class<PersistentPropertyAccessor> call() {
+							return createAccessorClass(entity);
+						}
+					});
+
+			task = propertyAccessorClasses.putIfAbsent(key, newTask);
+
+			if (task == null) {
+				task = newTask;
+				task.run();
+			}
 		}
 
-		propertyAccessorClass = createAccessorClass(entity);
+		try {
+			return task.get();
+		} catch (InterruptedException e) {
 
-		map = new HashMap<TypeInformation<?>, Class<PersistentPropertyAccessor>>(map);
-		map.put(entity.getTypeInformation(), propertyAccessorClass);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(String.format("Interrupted while creating accessor class for %s", entity), e);
 
-		this.propertyAccessorClasses = map;
+		} catch (ExecutionException e) {
 
-		return propertyAccessorClass;
+			propertyAccessorClasses.remove(key, task);
+
+			Throwable cause = e.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw new IllegalStateException(cause);
+		}
 	}
 
 	@SuppressWarnings("unchecked")
 	private Class<PersistentPropertyAccessor> createAccessorClass(PersistentEntity<?, ?> entity) {
 
 		try {
-			return (Class<PersistentPropertyAccessor>) PropertyAccessorClassGenerator.generateCustomAccessorClass(entity);
+
+			Class<?> pregenerated = findPregeneratedAccessorClass(entity);
+
+			return (Class<PersistentPropertyAccessor>) (pregenerated != null ? pregenerated
+					: PropertyAccessorClassGenerator.generateCustomAccessorClass(entity));
+
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
 	}
 
+	/**
+	 * Returns the name of the accessor class that can be generated for the given type at build time. If a class with
+	 * that name is present in the type's {@link ClassLoader} and was generated for the current state of the entity,
+	 * it's used instead of generating one at runtime.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 * @since 1.13
+	 */
+	public static String getPregeneratedClassName(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		return type.getName() + PropertyAccessorClassGenerator.TAG + PREGENERATED_CLASS_SUFFIX;
+	}
+
+	/**
+	 * Generates the byte code of the accessor class for the given {@link PersistentEntity} to be written to the class
+	 * path at build time. Callers need to make sure the entity is supported, i.e. {@link #isSupported(PersistentEntity)}
+	 * returns {@literal true}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 * @see #getPregeneratedClassName(Class)
+	 * @since 1.13
+	 */
+	public static byte[] generatePregeneratedBytecode(PersistentEntity<?, ?> entity) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+
+		String className = getPregeneratedClassName(entity.getType());
+
+		return PropertyAccessorClassGenerator.generateBytecode(className.replace('.', '/'), entity,
+				PersistentEntityFingerprint.of(entity));
+	}
+
+	/**
+	 * Looks up an accessor class generated at build time for the given {@link PersistentEntity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the accessor class or {@literal null} if no pre-generated class is available or it was generated for a
+	 *         different state of the entity.
+	 * @throws ClassNotFoundException
+	 */
+	private static Class<?> findPregeneratedAccessorClass(PersistentEntity<?, ?> entity) throws ClassNotFoundException {
+
+		Class<?> type = entity.getType();
+		String className = getPregeneratedClassName(type);
+
+		if (!org.springframework.util.ClassUtils.isPresent(className, type.getClassLoader())) {
+			return null;
+		}
+
+		Class<?> accessorClass = org.springframework.util.ClassUtils.forName(className, type.getClassLoader());
+
+		return PersistentPropertyAccessor.class.isAssignableFrom(accessorClass)
+				&& PersistentEntityFingerprint.matches(accessorClass, entity) ? accessorClass : null;
+	}
+
 	/**
 	 * Generates {@link PersistentPropertyAccessor} classes to access properties of a {@link PersistentEntity}. This code
 	 * uses {@code private final static} held method handles which perform about the speed of native method invocations
@@ -277,7 +441,7 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 		public static Class<?> generateCustomAccessorClass(PersistentEntity<?, ?> entity) {
 
 			String className = generateClassName(entity);
-			byte[] bytecode = generateBytecode(className.replace('.', '/'), entity);
+			byte[] bytecode = generateBytecode(className.replace('.', '/'), entity, null);
 
 			Class<?> accessorClass = Evil.defineClass(className, bytecode, 0, bytecode.length, entity);
 
@@ -289,13 +453,20 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 		 *
 		 * @param internalClassName
 		 * @param entity
+		 * @param fingerprint the {@link PersistentEntityFingerprint} to embed, can be {@literal null}.
 		 * @return
 		 */
-		public static byte[] generateBytecode(String internalClassName, PersistentEntity<?, ?> entity) {
+		public static byte[] generateBytecode(String internalClassName, PersistentEntity<?, ?> entity,
+				String fingerprint) {
 
 			ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
 			cw.visit(Opcodes.V1_6, ACC_PUBLIC + ACC_SUPER, internalClassName, null, JAVA_LANG_OBJECT, IMPLEMENTED_INTERFACES);
 
+			if (fingerprint != null) {
+				cw.visitField(ACC_PUBLIC + ACC_STATIC + ACC_FINAL, PersistentEntityFingerprint.FIELD_NAME,
+						referenceName(JAVA_LANG_STRING), null, fingerprint).visitEnd();
+			}
+
 			List<PersistentProperty<?>> persistentProperties = getPersistentProperties(entity);
 
 			visitFields(entity, persistentProperties, cw);
@@ -1158,23 +1329,14 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 			return !Modifier.isPrivate(modifiers);
 		}
 
-		private static boolean isDefault(int modifiers) {
-
-			if (Modifier.isPrivate(modifiers) || Modifier.isProtected(modifiers) || Modifier.isPublic(modifiers)) {
-				return false;
-			}
-
-			return true;
-		}
-
 		private static boolean generateSetterMethodHandle(PersistentEntity<?, ?> entity, Field field) {
 			return generateMethodHandle(entity, field) || Modifier.isFinal(field.getModifiers());
 		}
 
 		/**
 		 * Check whether to generate {@link java.lang.invoke.MethodHandle} access. Checks visibility rules of the member and
-		 * its declaring class. Use also {@link java.lang.invoke.MethodHandle} if visibility is protected/package-default
-		 * and packages of the declaring types are different.
+		 * its declaring class. Use also {@link java.lang.invoke.MethodHandle} if the member or its declaring type is not
+		 * public and the declaring type resides in a different runtime package than the entity type.
 		 *
 		 * @param entity
 		 * @param member
@@ -1182,19 +1344,34 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 		 */
 		private static boolean generateMethodHandle(PersistentEntity<?, ?> entity, Member member) {
 
-			if (isAccessible(entity)) {
+			if (!isAccessible(entity)) {
+				return true;
+			}
 
-				if (Modifier.isProtected(member.getModifiers()) || isDefault(member.getModifiers())) {
-					if (!member.getDeclaringClass().getPackage().equals(entity.getClass().getPackage())) {
-						return true;
-					}
-				}
+			Class<?> declaringClass = member.getDeclaringClass();
 
-				if (isAccessible(member.getDeclaringClass()) && isAccessible(member.getModifiers())) {
-					return false;
+			if (!isSamePackage(entity.getType(), declaringClass)) {
+
+				if (!Modifier.isPublic(declaringClass.getModifiers()) || !Modifier.isPublic(member.getModifiers())) {
+					return true;
 				}
 			}
-			return true;
+
+			return !isAccessible(declaringClass) || !isAccessible(member.getModifiers());
+		}
+
+		/**
+		 * Returns whether both given types reside in the same runtime package, i.e. share the package name and the
+		 * {@link ClassLoader}.
+		 *
+		 * @param left
+		 * @param right
+		 * @return
+		 */
+		private static boolean isSamePackage(Class<?> left, Class<?> right) {
+
+			return left.getClassLoader() == right.getClassLoader() && org.springframework.util.ClassUtils.getPackageName(left)
+					.equals(org.springframework.util.ClassUtils.getPackageName(right));
 		}
 
 		/**
@@ -1431,7 +1608,9 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 	/**
 	 * Yep, the name tells the truth. This little guy registers a class in the class loader of the
 	 * {@link PersistentEntity} to allow protected and package-default access as protected/package-default members must be
-	 * accessed from a class in the same class loader.
+	 * accessed from a class in the same class loader. Prefers {@code MethodHandles.Lookup#defineClass(byte[])} on
+	 * runtimes that provide it (Java 9 and newer) and falls back to invoking {@link ClassLoader}'s {@code defineClass}
+	 * reflectively.
 	 *
 	 * @author Mark Paluch
 	 */
@@ -1448,9 +1627,35 @@ public class ClassGeneratingPropertyAccessorFactory implements PersistentPropert
 		 * @param persistentEntity
 		 * @return
 		 */
-		@SuppressWarnings("rawtypes")
 		Class<?> defineClass(String name, byte[] bytes, int offset, int len, PersistentEntity<?, ?> persistentEntity) {
 
+			Class<?> type = persistentEntity.getType();
+			Method privateLookupIn = ReflectionUtils.findMethod(MethodHandles.class, "privateLookupIn", Class.class,
+					MethodHandles.Lookup.class);
+			Method lookupDefineClass = ReflectionUtils.findMethod(MethodHandles.Lookup.class, "defineClass", byte[].class);
+
+			if (privateLookupIn != null && lookupDefineClass != null) {
+
+				try {
+
+					Object lookup = privateLookupIn.invoke(null, type, MethodHandles.lookup());
+					byte[] classBytes = offset == 0 && len == bytes.length ? bytes
+							: Arrays.copyOfRange(bytes, offset, offset + len);
+
+					return (Class<?>) lookupDefineClass.invoke(lookup, (Object) classBytes);
+
+				} catch (ReflectiveOperationException e) {
+					// fall back to class loader based definition
+				}
+			}
+
+			return defineClassUsingClassLoader(name, bytes, offset, len, persistentEntity);
+		}
+
+		@SuppressWarnings("rawtypes")
+		private Class<?> defineClassUsingClassLoader(String name, byte[] bytes, int offset, int len,
+				PersistentEntity<?, ?> persistentEntity) {
+
 			ClassLoader classLoader = persistentEntity.getType().getClassLoader();
 			Class<?> classLoaderClass = classLoader.getClass();
 
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.mapping.model;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.SimpleAssociationHandler;
+import org.springframework.data.mapping.SimplePropertyHandler;
+import org.springframework.util.Assert;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Fingerprint of the persistent properties and the preferred constructor of a {@link PersistentEntity}. Classes
+ * generated at build time expose the fingerprint of the entity they were generated for in a
+ * {@code public static final String} field named {@value #FIELD_NAME} so that stale classes, e.g. left behind after
+ * a field or constructor change, can be detected and ignored at runtime.
+ *
+ * @author Mark Paluch
+ * @since 1.13
+ */
+public final class PersistentEntityFingerprint {
+
+	/**
+	 * The name of the field generated classes expose the fingerprint in.
+	 */
+	public static final String FIELD_NAME = "FINGERPRINT";
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private PersistentEntityFingerprint() {}
+
+	/**
+	 * Calculates the fingerprint of the given {@link PersistentEntity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static String of(PersistentEntity<?, ?> entity) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+
+		final List<String> properties = new ArrayList<String>();
+
+		entity.doWithProperties(new SimplePropertyHandler() {
+
+			@Override
+			public void doWithPersistentProperty(PersistentProperty<?> property) {
+				properties.add(describe(property));
+			}
+		});
+
+		entity.doWithAssociations(new SimpleAssociationHandler() {
+
+			@Override
+			public void doWithAssociation(Association<? extends PersistentProperty<?>> association) {
+				if (association.getInverse() != null) {
+					properties.add(describe(association.getInverse()));
+				}
+			}
+		});
+
+		Collections.sort(properties);
+
+		StringBuilder builder = new StringBuilder(entity.getType().getName());
+
+		for (String property : properties) {
+			builder.append(';').append(property);
+		}
+
+		PreferredConstructor<?, ?> constructor = entity.getPersistenceConstructor();
+
+		builder.append(";constructor:");
+		builder.append(constructor == null ? "" : constructor.getConstructor().toString());
+
+		return DigestUtils.md5DigestAsHex(builder.toString().getBytes(UTF_8));
+	}
+
+	/**
+	 * Returns whether the given generated class carries the fingerprint of the given {@link PersistentEntity}. Classes
+	 * without a fingerprint or failing to initialize are considered not to match.
+	 *
+	 * @param generatedClass must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 */
+	public static boolean matches(Class<?> generatedClass, PersistentEntity<?, ?> entity) {
+
+		Assert.notNull(generatedClass, "Generated class must not be null!");
+
+		try {
+			return of(entity).equals(generatedClass.getField(FIELD_NAME).get(null));
+		} catch (Exception o_O) {
+			return false;
+		} catch (LinkageError o_O) {
+			return false;
+		}
+	}
+
+	private static String describe(PersistentProperty<?> property) {
+
+		Field field = property.getField();
+		Method getter = property.getGetter();
+		Method setter = property.getSetter();
+
+		return String.format("%s:%s:%s:%s:%s", property.getName(), property.getType().getName(),
+				field == null ? "" : field.toString(), getter == null ? "" : getter.toString(),
+				setter == null ? "" : setter.toString());
+	}
+}
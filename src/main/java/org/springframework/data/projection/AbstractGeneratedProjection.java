@@ -0,0 +1,87 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.projection;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Base class for projection classes generated by {@link ProjectionClassGenerator}. Generated subclasses implement the
+ * projection interface by directly invoking the accessor methods of the target. Not intended to be used directly by
+ * client code but needs to be public as generated classes are defined in a separate {@link ClassLoader}.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+public abstract class AbstractGeneratedProjection implements TargetAware {
+
+	protected final Object target;
+
+	/**
+	 * Creates a new {@link AbstractGeneratedProjection} for the given target.
+	 *
+	 * @param target can be {@literal null} for prototype instances.
+	 */
+	protected AbstractGeneratedProjection(Object target) {
+		this.target = target;
+	}
+
+	/**
+	 * Creates a new instance of the generated projection class backed by the given target.
+	 *
+	 * @param target must not be {@literal null}.
+	 * @return
+	 */
+	public abstract Object newProjection(Object target);
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.projection.TargetAware#getTargetClass()
+	 */
+	@Override
+	@JsonIgnore
+	public Class<?> getTargetClass() {
+		return target.getClass();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.projection.TargetAware#getTarget()
+	 */
+	@Override
+	@JsonIgnore
+	public Object getTarget() {
+		return target;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.projection.TargetAware#getDecoratedClass()
+	 */
+	@Override
+	@JsonIgnore
+	public Class<?> getDecoratedClass() {
+		return target.getClass();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.valueOf(target);
+	}
+}
@@ -18,6 +18,7 @@ package org.springframework.data.projection;
 import java.beans.PropertyDescriptor;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.springframework.beans.BeanUtils;
@@ -34,6 +35,7 @@ class DefaultProjectionInformation implements ProjectionInformation {
 
 	private final Class<?> projectionType;
 	private final List<PropertyDescriptor> properties;
+	private volatile List<PropertyDescriptor> inputProperties;
 
 	/**
 	 * Creates a new {@link DefaultProjectionInformation} for the given type.
@@ -63,6 +65,12 @@ class DefaultProjectionInformation implements ProjectionInformation {
 	 */
 	public List<PropertyDescriptor> getInputProperties() {
 
+		List<PropertyDescriptor> inputProperties = this.inputProperties;
+
+		if (inputProperties != null) {
+			return inputProperties;
+		}
+
 		List<PropertyDescriptor> result = new ArrayList<PropertyDescriptor>();
 
 		for (PropertyDescriptor descriptor : properties) {
@@ -71,7 +79,9 @@ class DefaultProjectionInformation implements ProjectionInformation {
 			}
 		}
 
-		return result;
+		this.inputProperties = Collections.unmodifiableList(result);
+
+		return this.inputProperties;
 	}
 
 	/* 
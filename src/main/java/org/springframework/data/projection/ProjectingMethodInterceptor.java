@@ -16,12 +16,20 @@
 package org.springframework.data.projection;
 
 import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
@@ -32,6 +40,7 @@ import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ObjectUtils;
 
 /**
@@ -43,9 +52,13 @@ import org.springframework.util.ObjectUtils;
  */
 class ProjectingMethodInterceptor implements MethodInterceptor {
 
+	private static final Map<Method, TypeInformation<?>> RETURN_TYPES =
+			new ConcurrentReferenceHashMap<Method, TypeInformation<?>>();
+
 	private final ProjectionFactory factory;
 	private final MethodInterceptor delegate;
 	private final ConversionService conversionService;
+	private final boolean lazy;
 
 	/**
 	 * Creates a new {@link ProjectingMethodInterceptor} using the given {@link ProjectionFactory} and delegate
@@ -56,13 +69,49 @@ class ProjectingMethodInterceptor implements MethodInterceptor {
 	 * @param delegate the {@link MethodInterceptor} to trigger to create the source value, must not be {@literal null}..
 	 */
 	public ProjectingMethodInterceptor(ProjectionFactory factory, MethodInterceptor delegate) {
+		this(factory, delegate, new DefaultConversionService());
+	}
+
+	/**
+	 * Creates a new {@link ProjectingMethodInterceptor} using the given {@link ProjectionFactory}, delegate
+	 * {@link MethodInterceptor} and {@link ConversionService}. The {@link ConversionService} is usually shared between
+	 * all interceptors created by a {@link ProjectionFactory}.
+	 * 
+	 * @param factory the {@link ProjectionFactory} to use to create projections if types do not match, must not be
+	 *          {@literal null}.
+	 * @param delegate the {@link MethodInterceptor} to trigger to create the source value, must not be {@literal null}.
+	 * @param conversionService the {@link ConversionService} to convert values with, must not be {@literal null}.
+	 * @since 1.13
+	 */
+	public ProjectingMethodInterceptor(ProjectionFactory factory, MethodInterceptor delegate,
+			ConversionService conversionService) {
+		this(factory, delegate, conversionService, false);
+	}
+
+	/**
+	 * Creates a new {@link ProjectingMethodInterceptor} using the given {@link ProjectionFactory}, delegate
+	 * {@link MethodInterceptor} and {@link ConversionService}. In lazy mode, {@link List}s, {@link Set}s,
+	 * {@link Collection}s and {@link Map}s returned by the delegate are exposed as read-only views that create the
+	 * projections of their elements on access instead of being copied into a new collection of projections eagerly.
+	 * 
+	 * @param factory the {@link ProjectionFactory} to use to create projections if types do not match, must not be
+	 *          {@literal null}.
+	 * @param delegate the {@link MethodInterceptor} to trigger to create the source value, must not be {@literal null}.
+	 * @param conversionService the {@link ConversionService} to convert values with, must not be {@literal null}.
+	 * @param lazy whether to project collection elements and map values lazily.
+	 * @since 1.13
+	 */
+	public ProjectingMethodInterceptor(ProjectionFactory factory, MethodInterceptor delegate,
+			ConversionService conversionService, boolean lazy) {
 
 		Assert.notNull(factory, "ProjectionFactory must not be null!");
 		Assert.notNull(delegate, "Delegate MethodInterceptor must not be null!");
+		Assert.notNull(conversionService, "ConversionService must not be null!");
 
 		this.factory = factory;
 		this.delegate = delegate;
-		this.conversionService = new DefaultConversionService();
+		this.conversionService = conversionService;
+		this.lazy = lazy;
 	}
 
 	/* 
@@ -78,13 +127,19 @@ class ProjectingMethodInterceptor implements MethodInterceptor {
 			return null;
 		}
 
-		TypeInformation<?> type = ClassTypeInformation.fromReturnTypeOf(invocation.getMethod());
+		TypeInformation<?> type = getReturnType(invocation.getMethod());
 		Class<?> rawType = type.getType();
 
 		if (type.isCollectionLike() && !ClassUtils.isPrimitiveArray(rawType)) {
-			return projectCollectionElements(asCollection(result), type);
+
+			Collection<?> view = lazy ? potentiallyCreateProjectingView(result, type) : null;
+			return view != null ? view : projectCollectionElements(asCollection(result), type);
+
 		} else if (type.isMap()) {
-			return projectMapValues((Map<?, ?>) result, type);
+
+			return lazy && rawType.isAssignableFrom(Map.class)
+					? new ProjectingMap((Map<?, ?>) result, type.getMapValueType().getType())
+					: projectMapValues((Map<?, ?>) result, type);
 		} else if (conversionRequiredAndPossible(result, rawType)) {
 			return conversionService.convert(result, rawType);
 		} else {
@@ -92,6 +147,25 @@ class ProjectingMethodInterceptor implements MethodInterceptor {
 		}
 	}
 
+	/**
+	 * Returns the {@link TypeInformation} for the return type of the given {@link Method}, caching the result as it's
+	 * looked up for every invocation.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	private static TypeInformation<?> getReturnType(Method method) {
+
+		TypeInformation<?> type = RETURN_TYPES.get(method);
+
+		if (type == null) {
+			type = ClassTypeInformation.fromReturnTypeOf(method);
+			RETURN_TYPES.put(method, type);
+		}
+
+		return type;
+	}
+
 	/**
 	 * Creates projections of the given {@link Collection}'s elements if necessary and returns a new collection containing
 	 * the projection results.
@@ -117,6 +191,30 @@ class ProjectingMethodInterceptor implements MethodInterceptor {
 		return result;
 	}
 
+	/**
+	 * Returns a view on the given source value that lazily creates projections of its elements if the given return type
+	 * allows exposing one, {@literal null} otherwise.
+	 * 
+	 * @param source must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private Collection<?> potentiallyCreateProjectingView(Object source, TypeInformation<?> type) {
+
+		Class<?> rawType = type.getType();
+		Class<?> elementType = type.getComponentType().getType();
+
+		if (source instanceof List && rawType.isAssignableFrom(List.class)) {
+			return new ProjectingList((List<?>) source, elementType);
+		} else if (source instanceof Set && rawType.isAssignableFrom(Set.class)) {
+			return new ProjectingSet((Set<?>) source, elementType);
+		} else if (source instanceof Collection && rawType.isAssignableFrom(Collection.class)) {
+			return new ProjectingCollection((Collection<?>) source, elementType);
+		}
+
+		return null;
+	}
+
 	/**
 	 * Creates projections of the given {@link Map}'s values if necessary and returns an new {@link Map} with the handled
 	 * values.
@@ -177,4 +275,249 @@ class ProjectingMethodInterceptor implements MethodInterceptor {
 			return Collections.singleton(source);
 		}
 	}
+
+	/**
+	 * A read-only {@link List} view creating projections of the source elements on access.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private class ProjectingList extends AbstractList<Object> {
+
+		private final List<?> source;
+		private final Class<?> elementType;
+
+		public ProjectingList(List<?> source, Class<?> elementType) {
+
+			this.source = source;
+			this.elementType = elementType;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.util.AbstractList#get(int)
+		 */
+		@Override
+		public Object get(int index) {
+			return getProjection(source.get(index), elementType);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.util.AbstractList#iterator()
+		 */
+		@Override
+		public Iterator<Object> iterator() {
+			return new ProjectingIterator(source.iterator(), elementType);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.util.AbstractCollection#size()
+		 */
+		@Override
+		public int size() {
+			return source.size();
+		}
+	}
+
+	/**
+	 * A read-only {@link Set} view creating projections of the source elements on access.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private class ProjectingSet extends AbstractSet<Object> {
+
+		private final Set<?> source;
+		private final Class<?> elementType;
+
+		public ProjectingSet(Set<?> source, Class<?> elementType) {
+
+			this.source = source;
+			this.elementType = elementType;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.util.AbstractCollection#iterator()
+		 */
+		@Override
+		public Iterator<Object> iterator() {
+			return new ProjectingIterator(source.iterator(), elementType);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.util.AbstractCollection#size()
+		 */
+		@Override
+		public int size() {
+			return source.size();
+		}
+	}
+
+	/**
+	 * A read-only {@link Collection} view creating projections of the source elements on access.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private class ProjectingCollection extends AbstractCollection<Object> {
+
+		private final Collection<?> source;
+		private final Class<?> elementType;
+
+		public ProjectingCollection(Collection<?> source, Class<?> elementType) {
+
+			this.source = source;
+			this.elementType = elementType;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.util.AbstractCollection#iterator()
+		 */
+		@Override
+		public Iterator<Object> iterator() {
+			return new ProjectingIterator(source.iterator(), elementType);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.util.AbstractCollection#size()
+		 */
+		@Override
+		public int size() {
+			return source.size();
+		}
+	}
+
+	/**
+	 * A read-only {@link Map} view creating projections of the source values on access.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private class ProjectingMap extends AbstractMap<Object, Object> {
+
+		private final Map<?, ?> source;
+		private final Class<?> valueType;
+
+		public ProjectingMap(Map<?, ?> source, Class<?> valueType) {
+
+			this.source = source;
+			this.valueType = valueType;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.util.AbstractMap#get(java.lang.Object)
+		 */
+		@Override
+		public Object get(Object key) {
+			return getProjection(source.get(key), valueType);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.util.AbstractMap#containsKey(java.lang.Object)
+		 */
+		@Override
+		public boolean containsKey(Object key) {
+			return source.containsKey(key);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.util.AbstractMap#size()
+		 */
+		@Override
+		public int size() {
+			return source.size();
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.util.AbstractMap#entrySet()
+		 */
+		@Override
+		public Set<Entry<Object, Object>> entrySet() {
+
+			return new AbstractSet<Entry<Object, Object>>() {
+
+				@Override
+				public Iterator<Entry<Object, Object>> iterator() {
+
+					final Iterator<? extends Entry<?, ?>> iterator = source.entrySet().iterator();
+
+					return new Iterator<Entry<Object, Object>>() {
+
+						@Override
+						public boolean hasNext() {
+							return iterator.hasNext();
+						}
+
+						@Override
+						public Entry<Object, Object> next() {
+
+							Entry<?, ?> entry = iterator.next();
+							return new SimpleImmutableEntry<Object, Object>(entry.getKey(),
+									getProjection(entry.getValue(), valueType));
+						}
+
+						@Override
+						public void remove() {
+							throw new UnsupportedOperationException();
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return source.size();
+				}
+			};
+		}
+	}
+
+	/**
+	 * An {@link Iterator} creating projections of the elements of the source {@link Iterator}.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private class ProjectingIterator implements Iterator<Object> {
+
+		private final Iterator<?> source;
+		private final Class<?> elementType;
+
+		public ProjectingIterator(Iterator<?> source, Class<?> elementType) {
+
+			this.source = source;
+			this.elementType = elementType;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			return source.hasNext();
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public Object next() {
+			return getProjection(source.next(), elementType);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#remove()
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
 }
@@ -0,0 +1,367 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.projection;
+
+import static org.springframework.asm.Opcodes.*;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Type;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Generates classes implementing closed projection interfaces by directly delegating to the accessor methods of a
+ * particular source type. Instances of these classes are considerably cheaper to create and invoke than the JDK proxies
+ * created by {@link ProxyProjectionFactory}. Only simple projections are supported, i.e. projection interfaces that
+ * solely consist of abstract accessor methods which can be backed by public accessors of the source type with a
+ * compatible return type that doesn't require any conversion or nested projection. For all other combinations
+ * {@link #getPrototype(Class, Class)} returns {@literal null} and callers are expected to fall back to proxies.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+class ProjectionClassGenerator {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ProjectionClassGenerator.class);
+	private static final Object NOT_SUPPORTED = new Object();
+	private static final AtomicInteger COUNTER = new AtomicInteger();
+
+	private static final String TAG = "_Projection_";
+	private static final String BASE_CLASS = Type.getInternalName(AbstractGeneratedProjection.class);
+	private static final String INIT = "<init>";
+	private static final String CONSTRUCTOR_DESCRIPTOR = "(Ljava/lang/Object;)V";
+	private static final String NEW_PROJECTION_DESCRIPTOR = "(Ljava/lang/Object;)Ljava/lang/Object;";
+
+	private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Object>> prototypes =
+			new ConcurrentReferenceHashMap<Class<?>, ConcurrentMap<Class<?>, Object>>();
+
+	/**
+	 * Returns a prototype instance of the class generated for the given projection interface and source type or
+	 * {@literal null} if the combination is not supported. Use {@link AbstractGeneratedProjection#newProjection(Object)}
+	 * to create actual projection instances.
+	 *
+	 * @param projectionType must not be {@literal null}.
+	 * @param sourceType must not be {@literal null}.
+	 * @return
+	 */
+	public AbstractGeneratedProjection getPrototype(Class<?> projectionType, Class<?> sourceType) {
+
+		Assert.notNull(projectionType, "Projection type must not be null!");
+		Assert.notNull(sourceType, "Source type must not be null!");
+
+		ConcurrentMap<Class<?>, Object> bySourceType = prototypes.get(projectionType);
+
+		if (bySourceType == null) {
+
+			bySourceType = new ConcurrentHashMap<Class<?>, Object>();
+			ConcurrentMap<Class<?>, Object> existing = prototypes.putIfAbsent(projectionType, bySourceType);
+			bySourceType = existing == null ? bySourceType : existing;
+		}
+
+		Object prototype = bySourceType.get(sourceType);
+
+		if (prototype == null) {
+
+			prototype = createPrototype(projectionType, sourceType);
+			Object existing = bySourceType.putIfAbsent(sourceType, prototype);
+			prototype = existing == null ? prototype : existing;
+		}
+
+		return prototype == NOT_SUPPORTED ? null : (AbstractGeneratedProjection) prototype;
+	}
+
+	private static Object createPrototype(Class<?> projectionType, Class<?> sourceType) {
+
+		List<PropertyMethod> methods = getPropertyMethods(projectionType, sourceType);
+
+		if (methods == null) {
+			return NOT_SUPPORTED;
+		}
+
+		ClassLoader classLoader = getClassLoader(projectionType, sourceType);
+
+		if (classLoader == null) {
+			return NOT_SUPPORTED;
+		}
+
+		try {
+
+			String className = projectionType.getName().concat(TAG).concat(String.valueOf(COUNTER.incrementAndGet()));
+			byte[] bytecode = generateBytecode(className, projectionType, sourceType, methods);
+
+			Class<?> projectionClass = new ByteArrayClassLoader(classLoader).defineClass(className, bytecode);
+
+			return projectionClass.getConstructor(Object.class).newInstance(new Object[] { null });
+
+		} catch (Throwable o_O) {
+
+			LOGGER.debug(String.format("Could not generate projection class for %s backed by %s, falling back to "
+					+ "proxies.", projectionType.getName(), sourceType.getName()), o_O);
+
+			return NOT_SUPPORTED;
+		}
+	}
+
+	/**
+	 * Returns the accessor methods to implement for the given projection type and source type or {@literal null} if the
+	 * combination cannot be backed by a generated class.
+	 *
+	 * @param projectionType must not be {@literal null}.
+	 * @param sourceType must not be {@literal null}.
+	 * @return
+	 */
+	private static List<PropertyMethod> getPropertyMethods(Class<?> projectionType, Class<?> sourceType) {
+
+		if (!isPublic(projectionType) || !isPublic(sourceType) || sourceType.isInterface()
+				|| Map.class.isAssignableFrom(sourceType) || projectionType.getName().startsWith("java.")) {
+			return null;
+		}
+
+		List<PropertyMethod> result = new ArrayList<PropertyMethod>();
+		Set<String> signatures = new HashSet<String>();
+
+		for (Method method : projectionType.getMethods()) {
+
+			if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.isSynthetic()
+					|| method.getDeclaringClass().isAssignableFrom(TargetAware.class)) {
+				continue;
+			}
+
+			if (!Modifier.isAbstract(method.getModifiers()) || method.getParameterTypes().length != 0) {
+				return null;
+			}
+
+			Method readMethod = getSourceReadMethod(method, sourceType);
+
+			if (readMethod == null) {
+				return null;
+			}
+
+			if (signatures.add(method.getName().concat(Type.getMethodDescriptor(method)))) {
+				result.add(new PropertyMethod(method, readMethod));
+			}
+		}
+
+		return result;
+	}
+
+	private static Method getSourceReadMethod(Method method, Class<?> sourceType) {
+
+		PropertyDescriptor descriptor = BeanUtils.findPropertyForMethod(method);
+
+		if (descriptor == null) {
+			return null;
+		}
+
+		PropertyDescriptor sourceDescriptor = BeanUtils.getPropertyDescriptor(sourceType, descriptor.getName());
+		Method readMethod = sourceDescriptor == null ? null : sourceDescriptor.getReadMethod();
+
+		if (readMethod == null || Modifier.isStatic(readMethod.getModifiers())
+				|| !Modifier.isPublic(readMethod.getModifiers()) || !isPublic(readMethod.getDeclaringClass())) {
+			return null;
+		}
+
+		return isCompatible(method.getReturnType(), readMethod.getReturnType()) ? readMethod : null;
+	}
+
+	/**
+	 * Returns whether values of the given source return type can be returned from a method with the given projection
+	 * return type without any conversion or nested projection.
+	 *
+	 * @param projectionReturnType must not be {@literal null}.
+	 * @param sourceReturnType must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean isCompatible(Class<?> projectionReturnType, Class<?> sourceReturnType) {
+
+		if (void.class.equals(projectionReturnType) || projectionReturnType.isArray()
+				|| Collection.class.isAssignableFrom(projectionReturnType) || Map.class.isAssignableFrom(projectionReturnType)) {
+			return false;
+		}
+
+		if (projectionReturnType.isPrimitive() || sourceReturnType.isPrimitive()) {
+			return projectionReturnType.equals(sourceReturnType);
+		}
+
+		return projectionReturnType.isAssignableFrom(sourceReturnType);
+	}
+
+	/**
+	 * Returns the {@link ClassLoader} to define the generated class in, i.e. the first one of the source type's and
+	 * projection type's {@link ClassLoader} that can see all types referenced by the generated class.
+	 *
+	 * @param projectionType must not be {@literal null}.
+	 * @param sourceType must not be {@literal null}.
+	 * @return
+	 */
+	private static ClassLoader getClassLoader(Class<?> projectionType, Class<?> sourceType) {
+
+		for (ClassLoader candidate : new ClassLoader[] { sourceType.getClassLoader(), projectionType.getClassLoader() }) {
+
+			if (candidate != null && ClassUtils.isVisible(projectionType, candidate)
+					&& ClassUtils.isVisible(sourceType, candidate)
+					&& ClassUtils.isVisible(AbstractGeneratedProjection.class, candidate)) {
+				return candidate;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Generates a class extending {@link AbstractGeneratedProjection} and implementing the given projection type:
+	 *
+	 * <pre>
+	 * {@code
+	 * public final class Projection_Projection_1 extends AbstractGeneratedProjection implements Projection {
+	 *
+	 *   public Projection_Projection_1(Object target) {
+	 *     super(target);
+	 *   }
+	 *
+	 *   public Object newProjection(Object target) {
+	 *     return new Projection_Projection_1(target);
+	 *   }
+	 *
+	 *   public String getFirstname() {
+	 *     return ((Source) this.target).getFirstname();
+	 *   }
+	 * }
+	 * }
+	 * </pre>
+	 */
+	private static byte[] generateBytecode(String className, Class<?> projectionType, Class<?> sourceType,
+			List<PropertyMethod> methods) {
+
+		String internalClassName = className.replace('.', '/');
+		String sourceClassName = Type.getInternalName(sourceType);
+
+		ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, internalClassName, null, BASE_CLASS,
+				new String[] { Type.getInternalName(projectionType) });
+
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, INIT, CONSTRUCTOR_DESCRIPTOR, null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitMethodInsn(INVOKESPECIAL, BASE_CLASS, INIT, CONSTRUCTOR_DESCRIPTOR, false);
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0); // (0, 0) = computed via ClassWriter.COMPUTE_MAXS
+		mv.visitEnd();
+
+		mv = cw.visitMethod(ACC_PUBLIC, "newProjection", NEW_PROJECTION_DESCRIPTOR, null, null);
+		mv.visitCode();
+		mv.visitTypeInsn(NEW, internalClassName);
+		mv.visitInsn(DUP);
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitMethodInsn(INVOKESPECIAL, internalClassName, INIT, CONSTRUCTOR_DESCRIPTOR, false);
+		mv.visitInsn(ARETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		for (PropertyMethod method : methods) {
+
+			Method projectionMethod = method.getProjectionMethod();
+			Method readMethod = method.getReadMethod();
+
+			mv = cw.visitMethod(ACC_PUBLIC, projectionMethod.getName(), Type.getMethodDescriptor(projectionMethod), null,
+					null);
+			mv.visitCode();
+			mv.visitVarInsn(ALOAD, 0);
+			mv.visitFieldInsn(GETFIELD, BASE_CLASS, "target", "Ljava/lang/Object;");
+			mv.visitTypeInsn(CHECKCAST, sourceClassName);
+			mv.visitMethodInsn(INVOKEVIRTUAL, sourceClassName, readMethod.getName(), Type.getMethodDescriptor(readMethod),
+					false);
+			mv.visitInsn(Type.getType(projectionMethod.getReturnType()).getOpcode(IRETURN));
+			mv.visitMaxs(0, 0);
+			mv.visitEnd();
+		}
+
+		cw.visitEnd();
+
+		return cw.toByteArray();
+	}
+
+	private static boolean isPublic(Class<?> type) {
+
+		for (Class<?> current = type; current != null; current = current.getEnclosingClass()) {
+			if (!Modifier.isPublic(current.getModifiers())) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * A projection interface method and the source read method backing it.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class PropertyMethod {
+
+		private final Method projectionMethod;
+		private final Method readMethod;
+
+		public PropertyMethod(Method projectionMethod, Method readMethod) {
+
+			this.projectionMethod = projectionMethod;
+			this.readMethod = readMethod;
+		}
+
+		public Method getProjectionMethod() {
+			return projectionMethod;
+		}
+
+		public Method getReadMethod() {
+			return readMethod;
+		}
+	}
+
+	/**
+	 * A {@link ClassLoader} to define generated projection classes in.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class ByteArrayClassLoader extends ClassLoader {
+
+		public ByteArrayClassLoader(ClassLoader parent) {
+			super(parent);
+		}
+
+		public Class<?> defineClass(String name, byte[] bytes) {
+			return defineClass(name, bytes, 0, bytes.length);
+		}
+	}
+}
@@ -28,15 +28,19 @@ import org.springframework.aop.framework.Advised;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.context.ResourceLoaderAware;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * A {@link ProjectionFactory} to create JDK proxies to back interfaces and handle method invocations on them. By
  * default accessor methods are supported. In case the delegating lookups result in an object of different type that the
  * projection interface method's return type, another projection will be created to transparently mitigate between the
- * types.
+ * types. For closed projections backed by public accessor methods of public source types, a class implementing the
+ * projection interface is generated and instantiated instead of creating a proxy per source object.
  * 
  * @author Oliver Gierke
  * @see SpelAwareProxyProjectionFactory
@@ -48,7 +52,13 @@ class ProxyProjectionFactory implements ProjectionFactory, ResourceLoaderAware,
 			ProxyProjectionFactory.class.getClassLoader());
 
 	private final List<MethodInterceptorFactory> factories;
+	private final ProjectionClassGenerator generator = new ProjectionClassGenerator();
+	private final ConversionService conversionService = new DefaultConversionService();
+	private final Map<Class<?>, ProjectionInformation> projectionInformationCache =
+			new ConcurrentReferenceHashMap<Class<?>, ProjectionInformation>();
 	private ClassLoader classLoader;
+	private boolean generateProjectionClasses = false;
+	private boolean lazyProjections = false;
 
 	/**
 	 * Creates a new {@link ProxyProjectionFactory}.
@@ -93,6 +103,31 @@ class ProxyProjectionFactory implements ProjectionFactory, ResourceLoaderAware,
 		this.factories.add(0, factory);
 	}
 
+	/**
+	 * Configures whether to use generated classes instead of proxies for projections that support it. Generated
+	 * projections don't implement {@link org.springframework.aop.framework.Advised} and use identity based
+	 * {@code equals(…)} and {@code hashCode()}. Defaults to {@literal false}.
+	 * 
+	 * @param generateProjectionClasses
+	 * @since 1.13
+	 */
+	public void setGenerateProjectionClasses(boolean generateProjectionClasses) {
+		this.generateProjectionClasses = generateProjectionClasses;
+	}
+
+	/**
+	 * Configures whether collections and maps returned from projection methods shall be exposed as read-only views that
+	 * create the projections of their elements on access instead of eagerly copying them into new collections of
+	 * projections. Useful if only parts of large nested documents are read from the projection. Defaults to
+	 * {@literal false}.
+	 * 
+	 * @param lazyProjections
+	 * @since 1.13
+	 */
+	public void setLazyProjections(boolean lazyProjections) {
+		this.lazyProjections = lazyProjections;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.rest.core.projection.ProjectionFactory#createProjection(java.lang.Object, java.lang.Class)
@@ -108,6 +143,16 @@ class ProxyProjectionFactory implements ProjectionFactory, ResourceLoaderAware,
 			return null;
 		}
 
+		if (generateProjectionClasses && supportsGeneratedProjection(projectionType)
+				&& getFactoryFor(source, projectionType) == PropertyAccessingMethodInvokerFactory.INSTANCE) {
+
+			AbstractGeneratedProjection prototype = generator.getPrototype(projectionType, source.getClass());
+
+			if (prototype != null) {
+				return (T) prototype.newProjection(source);
+			}
+		}
+
 		ProxyFactory factory = new ProxyFactory();
 		factory.setTarget(source);
 		factory.setOpaque(true);
@@ -159,6 +204,28 @@ class ProxyProjectionFactory implements ProjectionFactory, ResourceLoaderAware,
 	 */
 	@Override
 	public ProjectionInformation getProjectionInformation(Class<?> projectionType) {
+
+		Assert.notNull(projectionType, "Projection type must not be null!");
+
+		ProjectionInformation information = projectionInformationCache.get(projectionType);
+
+		if (information == null) {
+			information = createProjectionInformation(projectionType);
+			projectionInformationCache.put(projectionType, information);
+		}
+
+		return information;
+	}
+
+	/**
+	 * Creates the {@link ProjectionInformation} for the given projection type. The result is cached by
+	 * {@link #getProjectionInformation(Class)}.
+	 * 
+	 * @param projectionType will never be {@literal null}.
+	 * @return
+	 * @since 1.13
+	 */
+	protected ProjectionInformation createProjectionInformation(Class<?> projectionType) {
 		return new DefaultProjectionInformation(projectionType);
 	}
 
@@ -175,7 +242,8 @@ class ProxyProjectionFactory implements ProjectionFactory, ResourceLoaderAware,
 				.createMethodInterceptor(source, projectionType);
 
 		return new ProjectingMethodInterceptor(this,
-				postProcessAccessorInterceptor(propertyInvocationInterceptor, source, projectionType));
+				postProcessAccessorInterceptor(propertyInvocationInterceptor, source, projectionType), conversionService,
+				lazyProjections);
 	}
 
 	/**
@@ -210,6 +278,20 @@ class ProxyProjectionFactory implements ProjectionFactory, ResourceLoaderAware,
 		return interceptor;
 	}
 
+	/**
+	 * Returns whether the given projection type can be backed by a generated class in general, i.e. whether it only
+	 * requires plain property access on the source object. Subclasses that add behavior to the
+	 * {@link MethodInterceptor} in {@link #postProcessAccessorInterceptor(MethodInterceptor, Object, Class)} have to
+	 * return {@literal false} for projection types affected by that.
+	 * 
+	 * @param projectionType will never be {@literal null}.
+	 * @return
+	 * @since 1.13
+	 */
+	protected boolean supportsGeneratedProjection(Class<?> projectionType) {
+		return true;
+	}
+
 	/**
 	 * Custom {@link MethodInterceptor} to expose the proxy target class even if we set
 	 * {@link ProxyFactory#setOpaque(boolean)} to true to prevent properties on {@link Advised} to be rendered.
@@ -17,8 +17,8 @@ package org.springframework.data.projection;
 
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Method;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 
 import org.aopalliance.intercept.MethodInterceptor;
 import org.springframework.beans.BeansException;
@@ -26,9 +26,9 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.annotation.AnnotationUtils;
-import org.springframework.data.util.AnnotationDetectionMethodCallback;
+import org.springframework.expression.Expression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.util.ReflectionUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * A {@link ProxyProjectionFactory} that adds support to use {@link Value}-annotated methods on a projection interface
@@ -41,7 +41,8 @@ import org.springframework.util.ReflectionUtils;
  */
 public class SpelAwareProxyProjectionFactory extends ProxyProjectionFactory implements BeanFactoryAware {
 
-	private final Map<Class<?>, Boolean> typeCache = new HashMap<Class<?>, Boolean>();
+	private final ConcurrentMap<Class<?>, Map<Integer, Expression>> expressionCache =
+			new ConcurrentReferenceHashMap<Class<?>, Map<Integer, Expression>>();
 	private final SpelExpressionParser parser = new SpelExpressionParser();
 
 	private BeanFactory beanFactory;
@@ -56,8 +57,8 @@ public class SpelAwareProxyProjectionFactory extends ProxyProjectionFactory impl
 	}
 
 	/**
-	 * Inspects the given target type for methods with {@link Value} annotations and caches the result. Will create a
-	 * {@link SpelEvaluatingMethodInterceptor} if an annotation was found or return the delegate as is if not.
+	 * Inspects the given target type for methods with {@link Value} annotations and caches the parsed expressions. Will
+	 * create a {@link SpelEvaluatingMethodInterceptor} if an annotation was found or return the delegate as is if not.
 	 * 
 	 * @param interceptor the root {@link MethodInterceptor}.
 	 * @param source The backing source object.
@@ -68,24 +69,48 @@ public class SpelAwareProxyProjectionFactory extends ProxyProjectionFactory impl
 	protected MethodInterceptor postProcessAccessorInterceptor(MethodInterceptor interceptor, Object source,
 			Class<?> projectionType) {
 
-		if (!typeCache.containsKey(projectionType)) {
+		Map<Integer, Expression> expressions = getExpressions(projectionType);
 
-			AnnotationDetectionMethodCallback<Value> callback = new AnnotationDetectionMethodCallback<Value>(Value.class);
-			ReflectionUtils.doWithMethods(projectionType, callback);
+		return expressions.isEmpty() ? interceptor
+				: new SpelEvaluatingMethodInterceptor(interceptor, source, beanFactory, expressions);
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.projection.ProxyProjectionFactory#supportsGeneratedProjection(java.lang.Class)
+	 */
+	@Override
+	protected boolean supportsGeneratedProjection(Class<?> projectionType) {
+		return getExpressions(projectionType).isEmpty();
+	}
 
-			typeCache.put(projectionType, callback.hasFoundAnnotation());
+	/**
+	 * Returns the {@link Expression}s parsed from the {@link Value} annotations on the given projection type's methods.
+	 * 
+	 * @param projectionType must not be {@literal null}.
+	 * @return
+	 */
+	private Map<Integer, Expression> getExpressions(Class<?> projectionType) {
+
+		Map<Integer, Expression> expressions = expressionCache.get(projectionType);
+
+		if (expressions != null) {
+			return expressions;
 		}
 
-		return typeCache.get(projectionType)
-				? new SpelEvaluatingMethodInterceptor(interceptor, source, beanFactory, parser, projectionType) : interceptor;
+		expressions = SpelEvaluatingMethodInterceptor.potentiallyCreateExpressionsForMethodsOnTargetInterface(parser,
+				projectionType);
+		Map<Integer, Expression> existing = expressionCache.putIfAbsent(projectionType, expressions);
+
+		return existing == null ? expressions : existing;
 	}
 
 	/* 
 	 * (non-Javadoc)
-	 * @see org.springframework.data.projection.ProxyProjectionFactory#getProjectionInformation(java.lang.Class)
+	 * @see org.springframework.data.projection.ProxyProjectionFactory#createProjectionInformation(java.lang.Class)
 	 */
 	@Override
-	public ProjectionInformation getProjectionInformation(Class<?> projectionType) {
+	protected ProjectionInformation createProjectionInformation(Class<?> projectionType) {
 
 		return new DefaultProjectionInformation(projectionType) {
 
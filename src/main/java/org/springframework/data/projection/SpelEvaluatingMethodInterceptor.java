@@ -65,10 +65,28 @@ class SpelEvaluatingMethodInterceptor implements MethodInterceptor {
 	public SpelEvaluatingMethodInterceptor(MethodInterceptor delegate, Object target, BeanFactory beanFactory,
 			SpelExpressionParser parser, Class<?> targetInterface) {
 
+		this(delegate, target, beanFactory,
+				potentiallyCreateExpressionsForMethodsOnTargetInterface(parser, targetInterface));
+	}
+
+	/**
+	 * Creates a new {@link SpelEvaluatingMethodInterceptor} delegating to the given {@link MethodInterceptor} as fallback
+	 * and using the given already parsed {@link Expression}s, usually obtained from
+	 * {@link #potentiallyCreateExpressionsForMethodsOnTargetInterface(SpelExpressionParser, Class)} once per projection
+	 * type.
+	 * 
+	 * @param delegate must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @param beanFactory can be {@literal null}.
+	 * @param expressions must not be {@literal null}.
+	 * @since 1.13
+	 */
+	SpelEvaluatingMethodInterceptor(MethodInterceptor delegate, Object target, BeanFactory beanFactory,
+			Map<Integer, Expression> expressions) {
+
 		Assert.notNull(delegate, "Delegate MethodInterceptor must not be null!");
 		Assert.notNull(target, "Target object must not be null!");
-		Assert.notNull(parser, "SpelExpressionParser must not be null!");
-		Assert.notNull(targetInterface, "Target interface must not be null!");
+		Assert.notNull(expressions, "Expressions must not be null!");
 
 		StandardEvaluationContext evaluationContext = new StandardEvaluationContext(new TargetWrapper(target));
 
@@ -80,8 +98,7 @@ class SpelEvaluatingMethodInterceptor implements MethodInterceptor {
 			evaluationContext.setBeanResolver(new BeanFactoryResolver(beanFactory));
 		}
 
-		this.expressions = potentiallyCreateExpressionsForMethodsOnTargetInterface(parser, targetInterface);
-
+		this.expressions = expressions;
 		this.evaluationContext = evaluationContext;
 		this.delegate = delegate;
 	}
@@ -95,9 +112,12 @@ class SpelEvaluatingMethodInterceptor implements MethodInterceptor {
 	 * @param targetInterface must not be {@literal null}.
 	 * @return
 	 */
-	private static Map<Integer, Expression> potentiallyCreateExpressionsForMethodsOnTargetInterface(
+	static Map<Integer, Expression> potentiallyCreateExpressionsForMethodsOnTargetInterface(
 			SpelExpressionParser parser, Class<?> targetInterface) {
 
+		Assert.notNull(parser, "SpelExpressionParser must not be null!");
+		Assert.notNull(targetInterface, "Target interface must not be null!");
+
 		Map<Integer, Expression> expressions = new HashMap<Integer, Expression>();
 
 		for (Method method : targetInterface.getMethods()) {
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core;
+
+import java.lang.reflect.Method;
+
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * Extension of {@link CrudMethods} exposing the methods of a repository taking multiple identifiers or entities in a
+ * single invocation.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+public interface BulkCrudMethods extends CrudMethods {
+
+	/**
+	 * Returns the method to look up multiple entities by their identifiers in a single invocation. Usually signature
+	 * compatible to {@link CrudRepository#findAll(Iterable)}.
+	 *
+	 * @return the find all by id method of the repository or {@literal null} if not available.
+	 * @see #hasFindAllByIdMethod()
+	 */
+	Method getFindAllByIdMethod();
+
+	/**
+	 * Returns whether the repository exposes a method to look up multiple entities by their identifiers.
+	 *
+	 * @return
+	 */
+	boolean hasFindAllByIdMethod();
+
+	/**
+	 * Returns the method to save multiple entities in a single invocation. Usually signature compatible to
+	 * {@link CrudRepository#save(Iterable)}.
+	 *
+	 * @return the save all method of the repository or {@literal null} if not available.
+	 * @see #hasSaveAllMethod()
+	 */
+	Method getSaveAllMethod();
+
+	/**
+	 * Returns whether the repository exposes a method to save multiple entities.
+	 *
+	 * @return
+	 */
+	boolean hasSaveAllMethod();
+
+	/**
+	 * Returns the method to delete multiple entities in a single invocation. Usually signature compatible to
+	 * {@link CrudRepository#delete(Iterable)}.
+	 *
+	 * @return the delete all method of the repository or {@literal null} if not available.
+	 * @see #hasDeleteAllMethod()
+	 */
+	Method getDeleteAllMethod();
+
+	/**
+	 * Returns whether the repository exposes a method to delete multiple entities.
+	 *
+	 * @return
+	 */
+	boolean hasDeleteAllMethod();
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.ExampleMatcher.NullHandler;
+import org.springframework.data.domain.ExampleMatcher.StringMatcher;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * An {@link Example} compiled into a tree of predicates to efficiently match objects in memory. Compilation walks the
+ * probe once, resolves the property paths to match, applies the {@link ExampleMatcher.PropertyValueTransformer}s and
+ * precomputes case-folded values and regular expressions so that matching a candidate only reads the relevant
+ * properties and compares them. Collection and map properties are not considered, nested entities are matched property
+ * by property.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+public class CompiledExample<T> {
+
+	private final Example<T> example;
+	private final List<PropertyPredicate> predicates;
+	private final boolean allMatching;
+
+	private CompiledExample(Example<T> example, List<PropertyPredicate> predicates) {
+
+		this.example = example;
+		this.predicates = predicates;
+		this.allMatching = example.getMatcher().isAllMatching();
+	}
+
+	/**
+	 * Compiles the given {@link Example} resolving the properties of the probe against the given
+	 * {@link MappingContext}.
+	 *
+	 * @param example must not be {@literal null}.
+	 * @param context must not be {@literal null}.
+	 * @return
+	 */
+	public static <T, P extends PersistentProperty<P>> CompiledExample<T> of(Example<T> example,
+			MappingContext<? extends PersistentEntity<?, P>, P> context) {
+
+		Assert.notNull(example, "Example must not be null!");
+		Assert.notNull(context, "MappingContext must not be null!");
+
+		List<PropertyPredicate> predicates = new ArrayList<PropertyPredicate>();
+		PersistentEntity<?, P> entity = context.getPersistentEntity(example.getProbeType());
+
+		new ProbeCompiler<P>(context, new ExampleMatcherAccessor(example.getMatcher()), predicates).compile(entity,
+				example.getProbe(), "", Collections.<P> emptyList(), new IdentityHashMap<Object, Boolean>());
+
+		return new CompiledExample<T>(example, Collections.unmodifiableList(predicates));
+	}
+
+	/**
+	 * Returns the {@link Example} the {@link CompiledExample} was created from.
+	 *
+	 * @return
+	 */
+	public Example<T> getExample() {
+		return example;
+	}
+
+	/**
+	 * Returns whether the given candidate matches the {@link Example}. Candidates not assignable to the type of the probe
+	 * never match.
+	 *
+	 * @param candidate can be {@literal null}.
+	 * @return
+	 */
+	public boolean matches(Object candidate) {
+
+		if (!example.getProbeType().isInstance(candidate)) {
+			return false;
+		}
+
+		if (predicates.isEmpty()) {
+			return true;
+		}
+
+		for (PropertyPredicate predicate : predicates) {
+
+			boolean matches = predicate.matches(candidate);
+
+			if (allMatching != matches) {
+				return matches;
+			}
+		}
+
+		return allMatching;
+	}
+
+	/**
+	 * Returns all elements of the given {@link Iterable} matching the {@link Example}.
+	 *
+	 * @param candidates must not be {@literal null}.
+	 * @return
+	 */
+	public <S extends T> List<S> filter(Iterable<S> candidates) {
+
+		Assert.notNull(candidates, "Candidates must not be null!");
+
+		List<S> result = new ArrayList<S>();
+
+		for (S candidate : candidates) {
+			if (matches(candidate)) {
+				result.add(candidate);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Walks the probe and creates {@link PropertyPredicate}s for the properties to match.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class ProbeCompiler<P extends PersistentProperty<P>> {
+
+		private final MappingContext<? extends PersistentEntity<?, P>, P> context;
+		private final ExampleMatcherAccessor accessor;
+		private final List<PropertyPredicate> predicates;
+
+		public ProbeCompiler(MappingContext<? extends PersistentEntity<?, P>, P> context, ExampleMatcherAccessor accessor,
+				List<PropertyPredicate> predicates) {
+
+			this.context = context;
+			this.accessor = accessor;
+			this.predicates = predicates;
+		}
+
+		public void compile(final PersistentEntity<?, P> entity, final Object probe, final String prefix,
+				final List<P> parents, final Map<Object, Boolean> visited) {
+
+			if (visited.put(probe, Boolean.TRUE) != null) {
+				return;
+			}
+
+			entity.doWithProperties(new PropertyHandler<P>() {
+
+				@Override
+				public void doWithPersistentProperty(P property) {
+
+					String path = prefix.isEmpty() ? property.getName() : prefix + "." + property.getName();
+
+					if (accessor.isIgnoredPath(path) || property.isCollectionLike() || property.isMap()) {
+						return;
+					}
+
+					List<P> properties = new ArrayList<P>(parents);
+					properties.add(property);
+
+					Object value = accessor.getValueTransformerForPath(path)
+							.convert(entity.getPropertyAccessor(probe).getProperty(property));
+
+					if (value == null) {
+
+						if (NullHandler.INCLUDE.equals(accessor.getNullHandler())) {
+							predicates.add(new NullPredicate(properties));
+						}
+
+						return;
+					}
+
+					if (property.isEntity()) {
+						compile(context.getPersistentEntity(property), value, path, properties, visited);
+						return;
+					}
+
+					if (value instanceof String) {
+
+						StringMatcher matcher = accessor.getStringMatcherForPath(path);
+						predicates.add(new StringPredicate(properties, (String) value, matcher,
+								accessor.isIgnoreCaseForPath(path)));
+						return;
+					}
+
+					predicates.add(new EqualsPredicate(properties, value));
+				}
+			});
+
+			visited.remove(probe);
+		}
+	}
+
+	/**
+	 * A predicate on the value of a property path of a candidate.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static abstract class PropertyPredicate {
+
+		private final List<? extends PersistentProperty<?>> properties;
+
+		public PropertyPredicate(List<? extends PersistentProperty<?>> properties) {
+			this.properties = properties;
+		}
+
+		public boolean matches(Object candidate) {
+
+			Object current = candidate;
+
+			for (PersistentProperty<?> property : properties) {
+
+				if (current == null) {
+					break;
+				}
+
+				current = property.getOwner().getPropertyAccessor(current).getProperty(property);
+			}
+
+			return matchesValue(current);
+		}
+
+		protected abstract boolean matchesValue(Object value);
+	}
+
+	/**
+	 * Matches {@literal null} values.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class NullPredicate extends PropertyPredicate {
+
+		public NullPredicate(List<? extends PersistentProperty<?>> properties) {
+			super(properties);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.core.support.CompiledExample.PropertyPredicate#matchesValue(java.lang.Object)
+		 */
+		@Override
+		protected boolean matchesValue(Object value) {
+			return value == null;
+		}
+	}
+
+	/**
+	 * Matches values equal to the value of the probe.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class EqualsPredicate extends PropertyPredicate {
+
+		private final Object expected;
+
+		public EqualsPredicate(List<? extends PersistentProperty<?>> properties, Object expected) {
+
+			super(properties);
+			this.expected = expected;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.core.support.CompiledExample.PropertyPredicate#matchesValue(java.lang.Object)
+		 */
+		@Override
+		protected boolean matchesValue(Object value) {
+			return ObjectUtils.nullSafeEquals(expected, value);
+		}
+	}
+
+	/**
+	 * Matches {@link String} values according to a {@link StringMatcher}. {@link StringMatcher#DEFAULT} is treated as
+	 * {@link StringMatcher#EXACT}.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class StringPredicate extends PropertyPredicate {
+
+		private final StringMatcher matcher;
+		private final boolean ignoreCase;
+		private final String expected;
+		private final Pattern pattern;
+
+		public StringPredicate(List<? extends PersistentProperty<?>> properties, String expected, StringMatcher matcher,
+				boolean ignoreCase) {
+
+			super(properties);
+
+			this.matcher = matcher;
+			this.ignoreCase = ignoreCase;
+			this.expected = ignoreCase ? expected.toLowerCase(Locale.ENGLISH) : expected;
+			this.pattern = StringMatcher.REGEX.equals(matcher)
+					? Pattern.compile(expected, ignoreCase ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : 0) : null;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.core.support.CompiledExample.PropertyPredicate#matchesValue(java.lang.Object)
+		 */
+		@Override
+		protected boolean matchesValue(Object value) {
+
+			if (!(value instanceof String)) {
+				return false;
+			}
+
+			if (pattern != null) {
+				return pattern.matcher((String) value).matches();
+			}
+
+			String source = ignoreCase ? ((String) value).toLowerCase(Locale.ENGLISH) : (String) value;
+
+			switch (matcher) {
+				case STARTING:
+					return source.startsWith(expected);
+				case ENDING:
+					return source.endsWith(expected);
+				case CONTAINING:
+					return source.contains(expected);
+				default:
+					return source.equals(expected);
+			}
+		}
+	}
+}
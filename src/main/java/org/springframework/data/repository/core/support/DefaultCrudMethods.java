@@ -26,7 +26,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
-import org.springframework.data.repository.core.CrudMethods;
+import org.springframework.data.repository.core.BulkCrudMethods;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -41,7 +41,7 @@ import org.springframework.util.ReflectionUtils;
  * @author Thomas Darimont
  * @since 1.6
  */
-public class DefaultCrudMethods implements CrudMethods {
+public class DefaultCrudMethods implements BulkCrudMethods {
 
 	private static final String FIND_ONE = "findOne";
 	private static final String SAVE = "save";
@@ -52,6 +52,9 @@ public class DefaultCrudMethods implements CrudMethods {
 	private final Method findOneMethod;
 	private final Method saveMethod;
 	private final Method deleteMethod;
+	private final Method findAllByIdMethod;
+	private final Method saveAllMethod;
+	private final Method deleteAllMethod;
 
 	/**
 	 * Creates a new {@link DefaultCrudMethods} using the given {@link RepositoryMetadata}.
@@ -66,6 +69,23 @@ public class DefaultCrudMethods implements CrudMethods {
 		this.findAllMethod = selectMostSuitableFindAllMethod(metadata);
 		this.deleteMethod = selectMostSuitableDeleteMethod(metadata);
 		this.saveMethod = selectMostSuitableSaveMethod(metadata);
+		this.findAllByIdMethod = selectIterableMethod(metadata, FIND_ALL);
+		this.saveAllMethod = selectIterableMethod(metadata, SAVE);
+		this.deleteAllMethod = selectIterableMethod(metadata, DELETE);
+	}
+
+	/**
+	 * Looks up the method with the given name taking an {@link Iterable} as single parameter, i.e. the bulk variants of
+	 * the CRUD methods like {@link CrudRepository#findAll(Iterable)}.
+	 * 
+	 * @param metadata must not be {@literal null}.
+	 * @param name must not be {@literal null} or empty.
+	 * @return the method or {@literal null} if no method could be found.
+	 */
+	private static Method selectIterableMethod(RepositoryMetadata metadata, String name) {
+
+		Method candidate = findMethod(metadata.getRepositoryInterface(), name, Iterable.class);
+		return candidate == null ? null : getMostSpecificMethod(candidate, metadata.getRepositoryInterface());
 	}
 
 	/**
@@ -270,4 +290,58 @@ public class DefaultCrudMethods implements CrudMethods {
 	public Method getDeleteMethod() {
 		return this.deleteMethod;
 	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.BulkCrudMethods#getFindAllByIdMethod()
+	 */
+	@Override
+	public Method getFindAllByIdMethod() {
+		return findAllByIdMethod;
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.BulkCrudMethods#hasFindAllByIdMethod()
+	 */
+	@Override
+	public boolean hasFindAllByIdMethod() {
+		return findAllByIdMethod != null;
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.BulkCrudMethods#getSaveAllMethod()
+	 */
+	@Override
+	public Method getSaveAllMethod() {
+		return saveAllMethod;
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.BulkCrudMethods#hasSaveAllMethod()
+	 */
+	@Override
+	public boolean hasSaveAllMethod() {
+		return saveAllMethod != null;
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.BulkCrudMethods#getDeleteAllMethod()
+	 */
+	@Override
+	public Method getDeleteAllMethod() {
+		return deleteAllMethod;
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.BulkCrudMethods#hasDeleteAllMethod()
+	 */
+	@Override
+	public boolean hasDeleteAllMethod() {
+		return deleteAllMethod != null;
+	}
 }
@@ -22,20 +22,25 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import org.springframework.core.io.Resource;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.util.ClassUtils;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
- * A {@link ResourceReader} using Jackson to read JSON into objects.
+ * A {@link ResourceReader} using Jackson to read JSON into objects. Supports streaming the elements of a JSON array
+ * one by one via {@link #stream(Resource, ClassLoader)}.
  * 
  * @author Oliver Gierke
  * @since 1.6
  */
-public class Jackson2ResourceReader implements ResourceReader {
+public class Jackson2ResourceReader implements StreamingResourceReader {
 
 	private static final String DEFAULT_TYPE_KEY = "_class";
 	private static final ObjectMapper DEFAULT_MAPPER = new ObjectMapper();
@@ -98,6 +103,23 @@ public class Jackson2ResourceReader implements ResourceReader {
 		return readSingle(node, classLoader);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.init.StreamingResourceReader#stream(org.springframework.core.io.Resource, java.lang.ClassLoader)
+	 */
+	@Override
+	public CloseableIterator<Object> stream(Resource resource, ClassLoader classLoader) throws Exception {
+
+		JsonParser parser = mapper.getFactory().createParser(resource.getInputStream());
+
+		try {
+			return new JsonElementIterator(parser, classLoader);
+		} catch (IOException o_O) {
+			parser.close();
+			throw o_O;
+		}
+	}
+
 	/**
 	 * Reads the given {@link JsonNode} into an instance of the type encoded in it using the configured type key.
 	 * 
@@ -114,4 +136,93 @@ public class Jackson2ResourceReader implements ResourceReader {
 
 		return mapper.reader(type).readValue(node);
 	}
+
+	/**
+	 * {@link CloseableIterator} reading the elements of a top-level JSON array one by one from a {@link JsonParser}.
+	 * Only the element currently read is held in memory. A single top-level object is exposed as the only element.
+	 * 
+	 * @author Oliver Gierke
+	 * @since 1.13
+	 */
+	private class JsonElementIterator implements CloseableIterator<Object> {
+
+		private final JsonParser parser;
+		private final ClassLoader classLoader;
+		private final boolean array;
+
+		private JsonToken next;
+
+		/**
+		 * Creates a new {@link JsonElementIterator} for the given {@link JsonParser} and {@link ClassLoader}.
+		 * 
+		 * @param parser must not be {@literal null}.
+		 * @param classLoader can be {@literal null}.
+		 * @throws IOException
+		 */
+		public JsonElementIterator(JsonParser parser, ClassLoader classLoader) throws IOException {
+
+			this.parser = parser;
+			this.classLoader = classLoader;
+
+			JsonToken token = parser.nextToken();
+
+			this.array = JsonToken.START_ARRAY.equals(token);
+			this.next = array ? parser.nextToken() : token;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			return next != null && !JsonToken.END_ARRAY.equals(next);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public Object next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			try {
+
+				JsonNode node = mapper.readTree(parser);
+				this.next = array ? parser.nextToken() : null;
+
+				return readSingle(node, classLoader);
+
+			} catch (IOException o_O) {
+				throw new IllegalStateException("Could not read JSON element!", o_O);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#remove()
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.util.CloseableIterator#close()
+		 */
+		@Override
+		public void close() {
+
+			try {
+				parser.close();
+			} catch (IOException o_O) {
+				throw new IllegalStateException("Could not close JSON parser!", o_O);
+			}
+		}
+	}
 }
@@ -16,8 +16,16 @@
 package org.springframework.data.repository.init;
 
 import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,14 +34,21 @@ import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.support.DefaultRepositoryInvokerFactory;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.util.Assert;
 
 /**
  * A {@link RepositoryPopulator} using a {@link ResourceReader} to read objects from the configured {@link Resource}s.
+ * Reads the objects one by one if the {@link ResourceReader} is a {@link StreamingResourceReader}. Consecutive objects
+ * of the same domain type can be persisted in batches via {@link CrudRepository#save(Iterable)} by configuring a batch
+ * size (see {@link #setBatchSize(int)}). If an {@link Executor} is configured, the {@link Resource}s are populated in
+ * parallel.
+ * Resources that depend on others can be declared as subsequent phases via {@link #addResourcePhase(Resource...)}.
  * 
  * @author Oliver Gierke
  * @since 1.4
@@ -47,7 +62,9 @@ public class ResourceReaderRepositoryPopulator implements RepositoryPopulator, A
 	private final ClassLoader classLoader;
 
 	private ApplicationEventPublisher publisher;
-	private Collection<Resource> resources;
+	private List<Collection<Resource>> phases = new ArrayList<Collection<Resource>>();
+	private int batchSize = 1;
+	private Executor executor;
 
 	/**
 	 * Creates a new {@link ResourceReaderRepositoryPopulator} using the given {@link ResourceReader}.
@@ -87,12 +104,57 @@ public class ResourceReaderRepositoryPopulator implements RepositoryPopulator, A
 	}
 
 	/**
-	 * Configures the {@link Resource}s to be used to initialize the repositories.
+	 * Configures the {@link Resource}s to be used to initialize the repositories. Replaces all phases configured so
+	 * far.
 	 * 
 	 * @param resources
 	 */
 	public void setResources(Resource... resources) {
-		this.resources = Arrays.asList(resources);
+
+		this.phases = new ArrayList<Collection<Resource>>();
+		this.phases.add(Arrays.asList(resources));
+	}
+
+	/**
+	 * Adds the given {@link Resource}s as a new phase to be populated after all {@link Resource}s configured before.
+	 * Allows to declare an order between {@link Resource}s containing objects depending on each other when populating
+	 * the repositories in parallel.
+	 * 
+	 * @param resources must not be {@literal null}.
+	 * @since 1.13
+	 */
+	public void addResourcePhase(Resource... resources) {
+
+		Assert.notNull(resources, "Resources must not be null!");
+		this.phases.add(Arrays.asList(resources));
+	}
+
+	/**
+	 * Configures the {@link Executor} to be used to populate the {@link Resource}s of a phase in parallel. Use a
+	 * bounded {@link Executor} to limit the number of {@link Resource}s read at the same time. If none is configured,
+	 * {@link Resource}s are populated one after another.
+	 * 
+	 * @param executor can be {@literal null}.
+	 * @since 1.13
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Configures the number of consecutive objects of the same domain type to be persisted in a single call to
+	 * {@link CrudRepository#save(Iterable)}. A batch is also persisted as soon as an object of a different type is
+	 * read, so that objects are persisted in the order they appear in the {@link Resource}, e.g. parents listed before
+	 * their children. Objects are saved one by one for repositories not extending {@link CrudRepository}. Defaults to
+	 * 1, i.e. every object is persisted individually.
+	 * 
+	 * @param batchSize must be greater than zero.
+	 * @since 1.13
+	 */
+	public void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+		this.batchSize = batchSize;
 	}
 
 	/* 
@@ -109,30 +171,120 @@ public class ResourceReaderRepositoryPopulator implements RepositoryPopulator, A
 	 */
 	public void populate(Repositories repositories) {
 
-		RepositoryInvokerFactory invokerFactory = new DefaultRepositoryInvokerFactory(repositories);
+		for (Collection<Resource> phase : phases) {
+
+			if (executor == null) {
+				for (Resource resource : phase) {
+					populate(resource, repositories);
+				}
+			} else {
+				populateInParallel(phase, repositories);
+			}
+		}
+
+		if (publisher != null) {
+			publisher.publishEvent(new RepositoriesPopulatedEvent(this, repositories));
+		}
+	}
+
+	/**
+	 * Populates the given {@link Resource}s in parallel using the configured {@link Executor} and waits for all of them
+	 * to complete.
+	 * 
+	 * @param resources must not be {@literal null}.
+	 * @param repositories must not be {@literal null}.
+	 */
+	private void populateInParallel(Collection<Resource> resources, final Repositories repositories) {
+
+		List<FutureTask<Void>> tasks = new ArrayList<FutureTask<Void>>(resources.size());
+
+		for (final Resource resource : resources) {
+
+			FutureTask<Void> task = new FutureTask<Void>(new Callable<Void>() {
+
+				@Override
+				public Void call() {
+
+					populate(resource, repositories);
+					return null;
+				}
+			});
+
+			tasks.add(task);
+			executor.execute(task);
+		}
+
+		RuntimeException failure = null;
+
+		for (FutureTask<Void> task : tasks) {
+
+			try {
+				task.get();
+			} catch (InterruptedException e) {
+
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while populating repositories!", e);
+
+			} catch (ExecutionException e) {
+
+				Throwable cause = e.getCause();
+
+				if (failure == null) {
+					failure = cause instanceof RuntimeException ? (RuntimeException) cause
+							: new RuntimeException(cause);
+				}
+			}
+		}
+
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Reads the objects from the given {@link Resource} and persists them using the suitable repositories.
+	 * 
+	 * @param resource must not be {@literal null}.
+	 * @param repositories must not be {@literal null}.
+	 */
+	private void populate(Resource resource, Repositories repositories) {
+
+		LOGGER.info(String.format("Reading resource: %s", resource));
+
+		long start = System.nanoTime();
+		Batches batches = new Batches(repositories, new DefaultRepositoryInvokerFactory(repositories));
+
+		if (reader instanceof StreamingResourceReader) {
 
-		for (Resource resource : resources) {
+			CloseableIterator<Object> elements = streamObjectsFrom(resource);
 
-			LOGGER.info(String.format("Reading resource: %s", resource));
+			try {
+				while (elements.hasNext()) {
+					batches.add(elements.next());
+				}
+			} finally {
+				elements.close();
+			}
+
+		} else {
 
 			Object result = readObjectFrom(resource);
 
 			if (result instanceof Collection) {
 				for (Object element : (Collection<?>) result) {
-					if (element != null) {
-						persist(element, invokerFactory);
-					} else {
-						LOGGER.info("Skipping null element found in unmarshal result!");
-					}
+					batches.add(element);
 				}
 			} else {
-				persist(result, invokerFactory);
+				batches.add(result);
 			}
 		}
 
-		if (publisher != null) {
-			publisher.publishEvent(new RepositoriesPopulatedEvent(this, repositories));
-		}
+		batches.flush();
+
+		long millis = Math.max(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), 1);
+
+		LOGGER.info(String.format("Persisted %s objects from resource %s in %s ms (%s objects/s).",
+				batches.getPersisted(), resource, millis, batches.getPersisted() * 1000 / millis));
 	}
 
 	/**
@@ -149,6 +301,21 @@ public class ResourceReaderRepositoryPopulator implements RepositoryPopulator, A
 		}
 	}
 
+	/**
+	 * Opens a {@link CloseableIterator} over the objects contained in the given {@link Resource} using the configured
+	 * {@link StreamingResourceReader}.
+	 * 
+	 * @param resource must not be {@literal null}.
+	 * @return
+	 */
+	private CloseableIterator<Object> streamObjectsFrom(Resource resource) {
+		try {
+			return ((StreamingResourceReader) reader).stream(resource, classLoader);
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+	}
+
 	/**
 	 * Persists the given {@link Object} using a suitable repository.
 	 * 
@@ -161,4 +328,98 @@ public class ResourceReaderRepositoryPopulator implements RepositoryPopulator, A
 		LOGGER.debug(String.format("Persisting %s using repository %s", object, invoker));
 		invoker.invokeSave(object);
 	}
+
+	/**
+	 * Collects consecutive objects of the same domain type read from a {@link Resource} and persists them once the
+	 * configured batch size is reached or an object of a different type is read, so that the order of the objects in
+	 * the {@link Resource} is preserved.
+	 * 
+	 * @author Oliver Gierke
+	 * @since 1.13
+	 */
+	private class Batches {
+
+		private final Repositories repositories;
+		private final RepositoryInvokerFactory invokerFactory;
+
+		private List<Object> pending = new ArrayList<Object>();
+		private Class<?> pendingType;
+		private long persisted = 0;
+
+		public Batches(Repositories repositories, RepositoryInvokerFactory invokerFactory) {
+
+			this.repositories = repositories;
+			this.invokerFactory = invokerFactory;
+		}
+
+		/**
+		 * Adds the given object to the current batch, persisting the batch if it's full or contains objects of a
+		 * different type.
+		 * 
+		 * @param object can be {@literal null}.
+		 */
+		public void add(Object object) {
+
+			if (object == null) {
+				LOGGER.info("Skipping null element found in unmarshal result!");
+				return;
+			}
+
+			if (batchSize == 1) {
+				persist(object, invokerFactory);
+				persisted++;
+				return;
+			}
+
+			Class<?> type = object.getClass();
+
+			if (!type.equals(pendingType)) {
+				flush();
+				pendingType = type;
+			}
+
+			pending.add(object);
+
+			if (pending.size() >= batchSize) {
+				flush();
+			}
+		}
+
+		/**
+		 * Persists the pending batch.
+		 */
+		@SuppressWarnings("unchecked")
+		public void flush() {
+
+			if (pending.isEmpty()) {
+				return;
+			}
+
+			Object repository = repositories.getRepositoryFor(pendingType);
+
+			if (repository instanceof CrudRepository) {
+				((CrudRepository<Object, Serializable>) repository).save(pending);
+			} else {
+				for (Object object : pending) {
+					persist(object, invokerFactory);
+				}
+			}
+
+			persisted += pending.size();
+
+			LOGGER.info(String.format("Persisted batch of %s %s instances, %s objects persisted so far.",
+					pending.size(), pendingType.getSimpleName(), persisted));
+
+			pending = new ArrayList<Object>(batchSize);
+		}
+
+		/**
+		 * Returns the number of objects persisted so far.
+		 * 
+		 * @return
+		 */
+		public long getPersisted() {
+			return persisted;
+		}
+	}
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.init;
+
+import org.springframework.core.io.Resource;
+import org.springframework.data.util.CloseableIterator;
+
+/**
+ * {@link ResourceReader} that is able to read the objects contained in a {@link Resource} one by one so that the
+ * objects don't have to be held in memory all at once.
+ * 
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+public interface StreamingResourceReader extends ResourceReader {
+
+	/**
+	 * Returns a {@link CloseableIterator} over the objects contained in the given {@link Resource}. Objects are read
+	 * lazily while iterating. Clients have to close the {@link CloseableIterator} to release the underlying
+	 * {@link Resource}.
+	 * 
+	 * @param resource must not be {@literal null}.
+	 * @param classLoader can be {@literal null}.
+	 * @return
+	 * @throws Exception in case the {@link Resource} cannot be opened.
+	 */
+	CloseableIterator<Object> stream(Resource resource, ClassLoader classLoader) throws Exception;
+}
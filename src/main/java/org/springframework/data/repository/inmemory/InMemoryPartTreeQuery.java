@@ -0,0 +1,179 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.inmemory;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RepositoryQuery} executing derived queries against an {@link InMemoryStore}. The {@link PartTree} of the
+ * query method is compiled into an {@link InMemoryQuery} once on creation.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+public class InMemoryPartTreeQuery implements RepositoryQuery {
+
+	private final QueryMethod method;
+	private final InMemoryStore store;
+	private final Class<?> domainType;
+	private final PartTree tree;
+	private final InMemoryQuery query;
+	private final SortComparator staticSortComparator;
+
+	/**
+	 * Creates a new {@link InMemoryPartTreeQuery} for the given {@link QueryMethod}, domain type and
+	 * {@link InMemoryStore}. Query methods returning a {@link org.springframework.data.domain.Window} or a
+	 * {@code Stream} are rejected.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param store must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 */
+	public InMemoryPartTreeQuery(QueryMethod method, Class<?> domainType, InMemoryStore store,
+			ConversionService conversionService) {
+
+		Assert.notNull(method, "QueryMethod must not be null!");
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(store, "InMemoryStore must not be null!");
+
+		if (method.isWindowQuery() || method.isStreamQuery()) {
+			throw new IllegalStateException(String.format(
+					"In-memory repositories don't support Window or Stream return types! Offending method: %s",
+					method));
+		}
+
+		this.method = method;
+		this.store = store;
+		this.domainType = domainType;
+		this.tree = new PartTree(method.getName(), domainType);
+		this.query = new InMemoryQueryCreator(tree, store.getMappingContext(), conversionService).createQuery();
+		this.staticSortComparator = query.getSort() == null ? null
+				: new SortComparator(query.getSort(), domainType, store.getMappingContext());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.RepositoryQuery#execute(java.lang.Object[])
+	 */
+	@Override
+	public Object execute(Object[] parameters) {
+
+		ParametersParameterAccessor accessor = new ParametersParameterAccessor(method.getParameters(), parameters);
+		InMemoryTable table = store.getTable(domainType);
+
+		Object[] arguments = new Object[method.getParameters().getBindableParameters().getNumberOfParameters()];
+
+		for (int i = 0; i < arguments.length; i++) {
+			arguments[i] = accessor.getBindableValue(i);
+		}
+
+		List<Object> result = query.execute(table, arguments);
+
+		if (tree.isDelete()) {
+			return delete(table, result);
+		}
+
+		if (tree.isCountProjection()) {
+			return (long) result.size();
+		}
+
+		if (tree.isExistsProjection()) {
+			return !result.isEmpty();
+		}
+
+		sort(result, accessor.getSort());
+
+		if (tree.isLimiting() && result.size() > tree.getMaxResults()) {
+			result = result.subList(0, tree.getMaxResults());
+		}
+
+		return method.getResultProcessor().withDynamicProjection(accessor).processResult(page(result, accessor));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.RepositoryQuery#getQueryMethod()
+	 */
+	@Override
+	public QueryMethod getQueryMethod() {
+		return method;
+	}
+
+	private Object delete(InMemoryTable table, List<Object> result) {
+
+		PersistentEntity<?, InMemoryPersistentProperty> entity = table.getEntity();
+
+		for (Object element : result) {
+			table.remove(entity.getPropertyAccessor(element).getProperty(entity.getIdProperty()));
+		}
+
+		return method.isCollectionQuery() ? result : (long) result.size();
+	}
+
+	private void sort(List<Object> result, Sort dynamicSort) {
+
+		if (dynamicSort != null) {
+
+			Sort sort = query.getSort() == null ? dynamicSort : query.getSort().and(dynamicSort);
+			Collections.sort(result, new SortComparator(sort, domainType, store.getMappingContext()));
+
+		} else if (staticSortComparator != null) {
+			Collections.sort(result, staticSortComparator);
+		}
+	}
+
+	private Object page(List<Object> result, ParametersParameterAccessor accessor) {
+
+		Pageable pageable = accessor.getPageable();
+
+		int offset = pageable == null ? 0 : Math.min(pageable.getOffset(), result.size());
+		int end = pageable == null ? result.size() : Math.min(offset + pageable.getPageSize(), result.size());
+		List<Object> content = result.subList(offset, end);
+
+		if (method.isPageQuery()) {
+			return new PageImpl<Object>(content, pageable, result.size());
+		}
+
+		if (method.isSliceQuery()) {
+			return new SliceImpl<Object>(content, pageable, end < result.size());
+		}
+
+		if (method.isCollectionQuery()) {
+			return content;
+		}
+
+		if (result.size() > 1) {
+			throw new IncorrectResultSizeDataAccessException(1, result.size());
+		}
+
+		return result.isEmpty() ? null : result.get(0);
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.inmemory;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.model.AnnotationBasedPersistentProperty;
+import org.springframework.data.mapping.model.SimpleTypeHolder;
+
+/**
+ * Persistent property of entities managed by the {@link InMemoryStore}.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+public class InMemoryPersistentProperty extends AnnotationBasedPersistentProperty<InMemoryPersistentProperty> {
+
+	private final Indexed indexed;
+
+	/**
+	 * Creates a new {@link InMemoryPersistentProperty}.
+	 *
+	 * @param field must not be {@literal null}.
+	 * @param propertyDescriptor can be {@literal null}.
+	 * @param owner must not be {@literal null}.
+	 * @param simpleTypeHolder must not be {@literal null}.
+	 */
+	public InMemoryPersistentProperty(Field field, PropertyDescriptor propertyDescriptor,
+			PersistentEntity<?, InMemoryPersistentProperty> owner, SimpleTypeHolder simpleTypeHolder) {
+
+		super(field, propertyDescriptor, owner, simpleTypeHolder);
+
+		this.indexed = findAnnotation(Indexed.class);
+	}
+
+	/**
+	 * Returns whether the property is indexed.
+	 *
+	 * @return
+	 * @see Indexed
+	 */
+	public boolean isIndexed() {
+		return indexed != null;
+	}
+
+	/**
+	 * Returns the {@link IndexType} of the property or {@literal null} if the property is not indexed.
+	 *
+	 * @return
+	 */
+	public IndexType getIndexType() {
+		return indexed == null ? null : indexed.value();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.mapping.model.AbstractPersistentProperty#createAssociation()
+	 */
+	@Override
+	protected Association<InMemoryPersistentProperty> createAssociation() {
+		return null;
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.inmemory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.inmemory.InMemoryTable.IndexLookup;
+import org.springframework.util.Assert;
+
+/**
+ * A derived query compiled into a disjunction of conjunctions of {@link PartMatcher}s. Executing the query looks up
+ * candidates from the {@link PropertyIndex}es of the {@link InMemoryTable} if every disjunct contains at least one
+ * indexed part, and scans all entities otherwise.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+class InMemoryQuery {
+
+	private final List<List<PartMatcher>> branches;
+	private final Sort sort;
+	private final int numberOfArguments;
+
+	private volatile IndexPlan plan;
+
+	/**
+	 * Creates a new {@link InMemoryQuery}.
+	 *
+	 * @param branches the or-concatenated lists of and-concatenated {@link PartMatcher}s, must not be {@literal null}.
+	 * @param sort can be {@literal null}.
+	 * @param numberOfArguments the number of arguments bound by the matchers.
+	 */
+	public InMemoryQuery(List<List<PartMatcher>> branches, Sort sort, int numberOfArguments) {
+
+		Assert.notNull(branches, "Branches must not be null!");
+
+		this.branches = branches;
+		this.sort = sort;
+		this.numberOfArguments = numberOfArguments;
+	}
+
+	/**
+	 * Returns the static {@link Sort} of the query.
+	 *
+	 * @return can be {@literal null}.
+	 */
+	public Sort getSort() {
+		return sort;
+	}
+
+	/**
+	 * Returns the entities of the given {@link InMemoryTable} matching the query for the given bindable arguments.
+	 *
+	 * @param table must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @return
+	 */
+	public List<Object> execute(InMemoryTable table, Object[] arguments) {
+
+		Assert.notNull(table, "InMemoryTable must not be null!");
+		Assert.notNull(arguments, "Arguments must not be null!");
+
+		if (branches.isEmpty()) {
+			return table.getAll();
+		}
+
+		Object[] prepared = new Object[numberOfArguments];
+
+		for (List<PartMatcher> branch : branches) {
+			for (PartMatcher matcher : branch) {
+				matcher.prepare(arguments, prepared);
+			}
+		}
+
+		List<IndexLookup> lookups = getIndexLookups(table);
+		List<Object> candidates = lookups == null ? table.getAll() : table.find(lookups, prepared);
+		List<Object> result = new ArrayList<Object>(candidates.size());
+
+		for (Object candidate : candidates) {
+			if (matches(candidate, prepared)) {
+				result.add(candidate);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the {@link IndexLookup}s to find the candidates for the query or {@literal null} if at least one branch
+	 * of the query can't be answered by an index. As the indexes of an {@link InMemoryTable} are fixed on its creation,
+	 * the lookups are only computed once per table.
+	 *
+	 * @param table must not be {@literal null}.
+	 * @return
+	 */
+	List<IndexLookup> getIndexLookups(InMemoryTable table) {
+
+		IndexPlan plan = this.plan;
+
+		if (plan == null || plan.table != table) {
+
+			plan = new IndexPlan(table, createIndexLookups(table));
+			this.plan = plan;
+		}
+
+		return plan.lookups;
+	}
+
+	private List<IndexLookup> createIndexLookups(InMemoryTable table) {
+
+		List<IndexLookup> lookups = new ArrayList<IndexLookup>(branches.size());
+
+		for (List<PartMatcher> branch : branches) {
+
+			IndexLookup lookup = null;
+
+			for (PartMatcher matcher : branch) {
+
+				InMemoryPersistentProperty property = matcher.getIndexCandidate();
+				PropertyIndex index = property == null ? null : table.getIndex(property);
+
+				if (index == null || !index.supports(matcher.getType())) {
+					continue;
+				}
+
+				lookup = new IndexLookup(index, matcher.getType(), matcher.getOffset());
+
+				// Hash lookups are the most selective ones we can get
+				if (IndexType.HASH.equals(index.getType())) {
+					break;
+				}
+			}
+
+			if (lookup == null) {
+				return null;
+			}
+
+			lookups.add(lookup);
+		}
+
+		return Collections.unmodifiableList(lookups);
+	}
+
+	private boolean matches(Object entity, Object[] arguments) {
+
+		for (List<PartMatcher> branch : branches) {
+
+			boolean matches = true;
+
+			for (PartMatcher matcher : branch) {
+				if (!matcher.matches(entity, arguments)) {
+					matches = false;
+					break;
+				}
+			}
+
+			if (matches) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * The {@link IndexLookup}s computed for a particular {@link InMemoryTable}.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class IndexPlan {
+
+		private final InMemoryTable table;
+		private final List<IndexLookup> lookups;
+
+		public IndexPlan(InMemoryTable table, List<IndexLookup> lookups) {
+
+			this.table = table;
+			this.lookups = lookups;
+		}
+	}
+}
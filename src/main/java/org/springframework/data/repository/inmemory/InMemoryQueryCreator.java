@@ -0,0 +1,114 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.inmemory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.parser.AbstractQueryCreator;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AbstractQueryCreator} compiling a {@link PartTree} into an {@link InMemoryQuery} once. Arguments are bound by
+ * position on execution.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+class InMemoryQueryCreator extends AbstractQueryCreator<InMemoryQuery, List<List<PartMatcher>>> {
+
+	private final InMemoryMappingContext context;
+	private final ConversionService conversionService;
+	private int offset;
+
+	/**
+	 * Creates a new {@link InMemoryQueryCreator} for the given {@link PartTree}.
+	 *
+	 * @param tree must not be {@literal null}.
+	 * @param context must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 */
+	public InMemoryQueryCreator(PartTree tree, InMemoryMappingContext context, ConversionService conversionService) {
+
+		super(tree);
+
+		Assert.notNull(context, "InMemoryMappingContext must not be null!");
+		Assert.notNull(conversionService, "ConversionService must not be null!");
+
+		this.context = context;
+		this.conversionService = conversionService;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.parser.AbstractQueryCreator#create(org.springframework.data.repository.query.parser.Part, java.util.Iterator)
+	 */
+	@Override
+	protected List<List<PartMatcher>> create(Part part, Iterator<Object> iterator) {
+
+		List<PartMatcher> branch = new ArrayList<PartMatcher>();
+		branch.add(createMatcher(part));
+
+		List<List<PartMatcher>> criteria = new ArrayList<List<PartMatcher>>();
+		criteria.add(branch);
+
+		return criteria;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.parser.AbstractQueryCreator#and(org.springframework.data.repository.query.parser.Part, java.lang.Object, java.util.Iterator)
+	 */
+	@Override
+	protected List<List<PartMatcher>> and(Part part, List<List<PartMatcher>> base, Iterator<Object> iterator) {
+
+		base.get(base.size() - 1).add(createMatcher(part));
+		return base;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.parser.AbstractQueryCreator#or(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	protected List<List<PartMatcher>> or(List<List<PartMatcher>> base, List<List<PartMatcher>> criteria) {
+
+		base.addAll(criteria);
+		return base;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.query.parser.AbstractQueryCreator#complete(java.lang.Object, org.springframework.data.domain.Sort)
+	 */
+	@Override
+	protected InMemoryQuery complete(List<List<PartMatcher>> criteria, Sort sort) {
+		return new InMemoryQuery(criteria == null ? new ArrayList<List<PartMatcher>>() : criteria, sort, offset);
+	}
+
+	private PartMatcher createMatcher(Part part) {
+
+		PartMatcher matcher = new PartMatcher(part, offset, context, conversionService);
+		offset += part.getNumberOfArguments();
+
+		return matcher;
+	}
+}
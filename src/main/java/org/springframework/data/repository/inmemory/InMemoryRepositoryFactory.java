@@ -0,0 +1,127 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.inmemory;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.annotation.QueryAnnotation;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.PersistentEntityInformation;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+import org.springframework.data.repository.query.EvaluationContextProvider;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryLookupStrategy.Key;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RepositoryFactorySupport} creating repositories backed by an {@link InMemoryStore}. Query methods are derived
+ * from their names and use the secondary indexes declared via {@link Indexed} where possible. Declared queries, i.e.
+ * named queries or queries defined via an annotation, are not supported.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+public class InMemoryRepositoryFactory extends RepositoryFactorySupport {
+
+	private final InMemoryStore store;
+	private final ConversionService conversionService;
+
+	/**
+	 * Creates a new {@link InMemoryRepositoryFactory} for the given {@link InMemoryStore}.
+	 *
+	 * @param store must not be {@literal null}.
+	 */
+	public InMemoryRepositoryFactory(InMemoryStore store) {
+
+		Assert.notNull(store, "InMemoryStore must not be null!");
+
+		this.store = store;
+		this.conversionService = new DefaultConversionService();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getEntityInformation(java.lang.Class)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T, ID extends Serializable> EntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
+
+		PersistentEntity<T, ?> entity = (PersistentEntity<T, ?>) store.getMappingContext()
+				.getPersistentEntity(domainClass);
+
+		return new PersistentEntityInformation<T, ID>(entity);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getTargetRepository(org.springframework.data.repository.core.RepositoryInformation)
+	 */
+	@Override
+	protected Object getTargetRepository(RepositoryInformation metadata) {
+		return getTargetRepositoryViaReflection(metadata, getEntityInformation(metadata.getDomainType()), store);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getRepositoryBaseClass(org.springframework.data.repository.core.RepositoryMetadata)
+	 */
+	@Override
+	protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+		return SimpleInMemoryRepository.class;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getQueryLookupStrategy(org.springframework.data.repository.query.QueryLookupStrategy.Key, org.springframework.data.repository.query.EvaluationContextProvider)
+	 */
+	@Override
+	protected QueryLookupStrategy getQueryLookupStrategy(Key key, EvaluationContextProvider evaluationContextProvider) {
+
+		Assert.isTrue(key == null || key == Key.CREATE || key == Key.CREATE_IF_NOT_FOUND,
+				String.format("Unsupported query lookup strategy %s! In-memory repositories only support derived "
+						+ "queries.", key));
+
+		return new QueryLookupStrategy() {
+
+			@Override
+			public RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
+					NamedQueries namedQueries) {
+
+				QueryMethod queryMethod = new QueryMethod(method, metadata, factory);
+
+				if (AnnotationUtils.findAnnotation(method, QueryAnnotation.class) != null
+						|| namedQueries.hasQuery(queryMethod.getNamedQueryName())) {
+					throw new IllegalStateException(String.format(
+							"In-memory repositories don't support declared queries! Offending method: %s", method));
+				}
+
+				return new InMemoryPartTreeQuery(queryMethod, metadata.getDomainType(), store, conversionService);
+			}
+		};
+	}
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.inmemory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Stores entities in memory keyed by their identifiers, one table per entity type. Properties annotated with
+ * {@link Indexed} are backed by secondary indexes that are used by derived queries. Entities are stored by reference,
+ * so they have to be saved again after modification to keep the indexes up to date.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+public class InMemoryStore {
+
+	private final InMemoryMappingContext context;
+	private final ConcurrentMap<Class<?>, InMemoryTable> tables = new ConcurrentHashMap<Class<?>, InMemoryTable>();
+
+	/**
+	 * Creates a new {@link InMemoryStore} using a default {@link InMemoryMappingContext}.
+	 */
+	public InMemoryStore() {
+		this(new InMemoryMappingContext());
+	}
+
+	/**
+	 * Creates a new {@link InMemoryStore} using the given {@link InMemoryMappingContext}.
+	 *
+	 * @param context must not be {@literal null}.
+	 */
+	public InMemoryStore(InMemoryMappingContext context) {
+
+		Assert.notNull(context, "InMemoryMappingContext must not be null!");
+		this.context = context;
+	}
+
+	/**
+	 * Returns the {@link InMemoryMappingContext} used by the store.
+	 *
+	 * @return
+	 */
+	public InMemoryMappingContext getMappingContext() {
+		return context;
+	}
+
+	/**
+	 * Saves the given entity in the table for the given type. Generates an identifier for entities without one if the
+	 * identifier is of type {@link Long}, {@link Integer}, {@link String} or {@link UUID}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return the saved entity.
+	 */
+	public <T> T save(T entity, Class<?> type) {
+
+		Assert.notNull(entity, "Entity must not be null!");
+
+		InMemoryTable table = getTable(type);
+		PersistentEntity<?, InMemoryPersistentProperty> persistentEntity = table.getEntity();
+		InMemoryPersistentProperty idProperty = persistentEntity.getIdProperty();
+		PersistentPropertyAccessor accessor = persistentEntity.getPropertyAccessor(entity);
+
+		Object id = accessor.getProperty(idProperty);
+
+		if (id == null || idProperty.getType().isPrimitive() && id instanceof Number && ((Number) id).longValue() == 0) {
+			id = generateId(table, idProperty.getType());
+			accessor.setProperty(idProperty, id);
+		}
+
+		table.put(id, entity);
+
+		return entity;
+	}
+
+	/**
+	 * Returns the entity of the given type with the given identifier.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return the entity or {@literal null} if none found.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T findOne(Object id, Class<T> type) {
+
+		Assert.notNull(id, "Id must not be null!");
+		return (T) getTable(type).get(id);
+	}
+
+	/**
+	 * Returns all entities of the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> List<T> findAll(Class<T> type) {
+		return (List<T>) getTable(type).getAll();
+	}
+
+	/**
+	 * Returns the number of entities of the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	public long count(Class<?> type) {
+		return getTable(type).count();
+	}
+
+	/**
+	 * Deletes the entity of the given type with the given identifier.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return whether an entity was deleted.
+	 */
+	public boolean delete(Object id, Class<?> type) {
+		return getTable(type).remove(id) != null;
+	}
+
+	/**
+	 * Deletes all entities of the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 */
+	public void deleteAll(Class<?> type) {
+		getTable(type).clear();
+	}
+
+	/**
+	 * Deletes all entities.
+	 */
+	public void clear() {
+
+		for (InMemoryTable table : new ArrayList<InMemoryTable>(tables.values())) {
+			table.clear();
+		}
+	}
+
+	/**
+	 * Returns the {@link InMemoryTable} for the given type, creating it if necessary.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	InMemoryTable getTable(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		Class<?> userType = ClassUtils.getUserClass(type);
+		InMemoryTable table = tables.get(userType);
+
+		if (table != null) {
+			return table;
+		}
+
+		table = new InMemoryTable(context.getPersistentEntity(userType));
+		InMemoryTable existing = tables.putIfAbsent(userType, table);
+
+		return existing == null ? table : existing;
+	}
+
+	private static Object generateId(InMemoryTable table, Class<?> type) {
+
+		Class<?> idType = ClassUtils.resolvePrimitiveIfNecessary(type);
+
+		if (Long.class.equals(idType)) {
+			return table.nextSequenceValue();
+		}
+
+		if (Integer.class.equals(idType)) {
+			return (int) table.nextSequenceValue();
+		}
+
+		if (UUID.class.equals(idType)) {
+			return UUID.randomUUID();
+		}
+
+		if (String.class.equals(idType)) {
+			return UUID.randomUUID().toString();
+		}
+
+		throw new IllegalArgumentException(String.format("Cannot generate identifier of type %s!", type.getName()));
+	}
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.inmemory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.repository.query.parser.Part.Type;
+import org.springframework.util.Assert;
+
+/**
+ * The entities of a particular type stored in an {@link InMemoryStore} keyed by their identifiers along with the
+ * {@link PropertyIndex}es for the properties annotated with {@link Indexed}. Lookups by identifier don't block,
+ * modifications and index lookups are guarded by a {@link ReadWriteLock} to keep the indexes consistent with the
+ * entities.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+class InMemoryTable {
+
+	private final PersistentEntity<?, InMemoryPersistentProperty> entity;
+	private final ConcurrentMap<Object, Object> entities = new ConcurrentHashMap<Object, Object>();
+	private final Map<InMemoryPersistentProperty, PropertyIndex> indexes;
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final AtomicLong sequence = new AtomicLong();
+
+	/**
+	 * Creates a new {@link InMemoryTable} for the given {@link PersistentEntity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 */
+	public InMemoryTable(PersistentEntity<?, InMemoryPersistentProperty> entity) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+		Assert.isTrue(entity.hasIdProperty(), String.format("Entity %s does not declare an identifier!", entity.getType()));
+
+		final Map<InMemoryPersistentProperty, PropertyIndex> indexes =
+				new HashMap<InMemoryPersistentProperty, PropertyIndex>();
+
+		entity.doWithProperties(new PropertyHandler<InMemoryPersistentProperty>() {
+
+			@Override
+			public void doWithPersistentProperty(InMemoryPersistentProperty property) {
+
+				if (property.isIndexed()) {
+					indexes.put(property, PropertyIndex.of(property.getIndexType()));
+				}
+			}
+		});
+
+		this.entity = entity;
+		this.indexes = Collections.unmodifiableMap(indexes);
+	}
+
+	/**
+	 * Returns the {@link PersistentEntity} of the entities stored in the table.
+	 *
+	 * @return
+	 */
+	public PersistentEntity<?, InMemoryPersistentProperty> getEntity() {
+		return entity;
+	}
+
+	/**
+	 * Returns the {@link PropertyIndex} for the given property or {@literal null} if the property is not indexed.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return
+	 */
+	public PropertyIndex getIndex(InMemoryPersistentProperty property) {
+		return indexes.get(property);
+	}
+
+	/**
+	 * Returns the next value of the sequence used to generate identifiers.
+	 *
+	 * @return
+	 */
+	public long nextSequenceValue() {
+		return sequence.incrementAndGet();
+	}
+
+	/**
+	 * Returns the entity with the given identifier.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @return
+	 */
+	public Object get(Object id) {
+		return entities.get(id);
+	}
+
+	/**
+	 * Returns all entities of the table.
+	 *
+	 * @return
+	 */
+	public List<Object> getAll() {
+		return new ArrayList<Object>(entities.values());
+	}
+
+	/**
+	 * Returns the number of entities in the table.
+	 *
+	 * @return
+	 */
+	public long count() {
+		return entities.size();
+	}
+
+	/**
+	 * Stores the given entity under the given identifier and updates the indexes.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 */
+	public void put(Object id, Object value) {
+
+		Assert.notNull(id, "Id must not be null!");
+		Assert.notNull(value, "Entity must not be null!");
+
+		Map<PropertyIndex, Object> indexValues = new HashMap<PropertyIndex, Object>(indexes.size());
+
+		if (!indexes.isEmpty()) {
+
+			PersistentPropertyAccessor accessor = entity.getPropertyAccessor(value);
+
+			for (Entry<InMemoryPersistentProperty, PropertyIndex> index : indexes.entrySet()) {
+
+				Object indexValue = accessor.getProperty(index.getKey());
+
+				if (IndexType.SORTED.equals(index.getValue().getType()) && indexValue != null
+						&& !(indexValue instanceof Comparable)) {
+					throw new IllegalArgumentException(String.format("Sorted index on %s requires Comparable values but got %s!",
+							index.getKey().getName(), indexValue));
+				}
+
+				indexValues.put(index.getValue(), indexValue);
+			}
+		}
+
+		lock.writeLock().lock();
+
+		try {
+
+			for (Entry<PropertyIndex, Object> entry : indexValues.entrySet()) {
+				entry.getKey().add(id, entry.getValue());
+			}
+
+			entities.put(id, value);
+
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Removes the entity with the given identifier from the table and the indexes.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @return the removed entity or {@literal null} if no entity was stored for the given identifier.
+	 */
+	public Object remove(Object id) {
+
+		Assert.notNull(id, "Id must not be null!");
+
+		lock.writeLock().lock();
+
+		try {
+
+			for (PropertyIndex index : indexes.values()) {
+				index.remove(id);
+			}
+
+			return entities.remove(id);
+
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Removes all entities from the table.
+	 */
+	public void clear() {
+
+		lock.writeLock().lock();
+
+		try {
+
+			for (PropertyIndex index : indexes.values()) {
+				index.clear();
+			}
+
+			entities.clear();
+
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the entities matching any of the given {@link IndexLookup}s.
+	 *
+	 * @param lookups must not be {@literal null}.
+	 * @param arguments the arguments to hand into the lookups, must not be {@literal null}.
+	 * @return
+	 */
+	public List<Object> find(Collection<IndexLookup> lookups, Object[] arguments) {
+
+		Assert.notNull(lookups, "Lookups must not be null!");
+		Assert.notNull(arguments, "Arguments must not be null!");
+
+		lock.readLock().lock();
+
+		try {
+
+			Set<Object> ids = new LinkedHashSet<Object>();
+
+			for (IndexLookup lookup : lookups) {
+				ids.addAll(lookup.index.lookup(lookup.type, arguments, lookup.offset));
+			}
+
+			List<Object> result = new ArrayList<Object>(ids.size());
+
+			for (Object id : ids) {
+
+				Object candidate = entities.get(id);
+
+				if (candidate != null) {
+					result.add(candidate);
+				}
+			}
+
+			return result;
+
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * A lookup of a {@link PropertyIndex} for a particular {@link Type} and arguments.
+	 *
+	 * @author Oliver Gierke
+	 */
+	static class IndexLookup {
+
+		private final PropertyIndex index;
+		private final Type type;
+		private final int offset;
+
+		/**
+		 * Creates a new {@link IndexLookup}.
+		 *
+		 * @param index must not be {@literal null}.
+		 * @param type must be supported by the given index.
+		 * @param offset the position of the first argument of the lookup.
+		 */
+		public IndexLookup(PropertyIndex index, Type type, int offset) {
+
+			Assert.notNull(index, "Index must not be null!");
+			Assert.isTrue(index.supports(type), String.format("Index does not support %s!", type));
+
+			this.index = index;
+			this.type = type;
+			this.offset = offset;
+		}
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.inmemory;
+
+/**
+ * The types of secondary indexes supported by the {@link InMemoryStore}.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ * @see Indexed
+ */
+public enum IndexType {
+
+	/**
+	 * Hash based index supporting equality, {@code In} and {@code Null} lookups in constant time.
+	 */
+	HASH,
+
+	/**
+	 * Sorted index additionally supporting range ({@code GreaterThan}, {@code Between} etc.) and {@code StartingWith}
+	 * lookups in logarithmic time. Requires the property values to be {@link Comparable}.
+	 */
+	SORTED;
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.inmemory;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.Part.IgnoreCaseType;
+import org.springframework.data.repository.query.parser.Part.Type;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * A {@link Part} of a derived query compiled into a predicate on entities. The arguments of the query are converted
+ * into the type of the property once per execution (see {@link #prepare(Object[], Object[])}) so that matching
+ * doesn't need to convert or parse anything.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+class PartMatcher {
+
+	private final Type type;
+	private final PropertyPathAccessor accessor;
+	private final Class<?> propertyType;
+	private final boolean ignoreCase;
+	private final int offset;
+	private final ConversionService conversionService;
+
+	/**
+	 * Creates a new {@link PartMatcher} for the given {@link Part}.
+	 *
+	 * @param part must not be {@literal null}.
+	 * @param offset the position of the first argument of the {@link Part} within the bindable arguments.
+	 * @param context must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 */
+	public PartMatcher(Part part, int offset, InMemoryMappingContext context, ConversionService conversionService) {
+
+		Assert.notNull(part, "Part must not be null!");
+		Assert.notNull(context, "InMemoryMappingContext must not be null!");
+		Assert.notNull(conversionService, "ConversionService must not be null!");
+
+		if (Type.NEAR.equals(part.getType()) || Type.WITHIN.equals(part.getType())) {
+			throw new IllegalArgumentException(
+					String.format("Keyword %s is not supported by in-memory queries!", part.getType()));
+		}
+
+		this.type = part.getType();
+		this.accessor = new PropertyPathAccessor(context.getPersistentPropertyPath(part.getProperty()));
+		this.propertyType = ClassUtils.resolvePrimitiveIfNecessary(accessor.getLeafProperty().getActualType());
+		this.ignoreCase = IgnoreCaseType.ALWAYS.equals(part.shouldIgnoreCase())
+				|| IgnoreCaseType.WHEN_POSSIBLE.equals(part.shouldIgnoreCase()) && String.class.equals(propertyType);
+		this.offset = offset;
+		this.conversionService = conversionService;
+	}
+
+	/**
+	 * Returns the {@link Type} of the underlying {@link Part}.
+	 *
+	 * @return
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the position of the first argument of the {@link Part} within the bindable arguments.
+	 *
+	 * @return
+	 */
+	public int getOffset() {
+		return offset;
+	}
+
+	/**
+	 * Returns the property that could be looked up in an index to find matching candidates or {@literal null} if the
+	 * part can't be answered by an index.
+	 *
+	 * @return
+	 */
+	public InMemoryPersistentProperty getIndexCandidate() {
+
+		if (ignoreCase || !accessor.isRootProperty() || !accessor.getLeafProperty().isIndexed()) {
+			return null;
+		}
+
+		if (Type.STARTING_WITH.equals(type) && !String.class.equals(propertyType)) {
+			return null;
+		}
+
+		return accessor.getLeafProperty().isCollectionLike() ? null : accessor.getLeafProperty();
+	}
+
+	/**
+	 * Converts the arguments of the part from the given source array into the given target array.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 */
+	public void prepare(Object[] source, Object[] target) {
+
+		for (int i = offset; i < offset + type.getNumberOfArguments(); i++) {
+			target[i] = prepare(source[i]);
+		}
+	}
+
+	/**
+	 * Returns whether the given entity matches the part for the given prepared arguments.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @return
+	 */
+	public boolean matches(Object entity, Object[] arguments) {
+
+		Object value = normalize(accessor.getValue(entity));
+		Object argument = type.getNumberOfArguments() > 0 ? arguments[offset] : null;
+
+		switch (type) {
+			case SIMPLE_PROPERTY:
+				return ObjectUtils.nullSafeEquals(value, argument);
+			case NEGATING_SIMPLE_PROPERTY:
+				return !ObjectUtils.nullSafeEquals(value, argument);
+			case IS_NULL:
+				return value == null;
+			case IS_NOT_NULL:
+			case EXISTS:
+				return value != null;
+			case TRUE:
+				return Boolean.TRUE.equals(value);
+			case FALSE:
+				return Boolean.FALSE.equals(value);
+			case GREATER_THAN:
+			case AFTER:
+				return value != null && argument != null && compare(value, argument) > 0;
+			case GREATER_THAN_EQUAL:
+				return value != null && argument != null && compare(value, argument) >= 0;
+			case LESS_THAN:
+			case BEFORE:
+				return value != null && argument != null && compare(value, argument) < 0;
+			case LESS_THAN_EQUAL:
+				return value != null && argument != null && compare(value, argument) <= 0;
+			case BETWEEN:
+				Object upper = arguments[offset + 1];
+				return value != null && argument != null && upper != null && compare(value, argument) >= 0
+						&& compare(value, upper) <= 0;
+			case IN:
+				return argument instanceof Collection && ((Collection<?>) argument).contains(value);
+			case NOT_IN:
+				return argument instanceof Collection && !((Collection<?>) argument).contains(value);
+			case STARTING_WITH:
+				return value instanceof String && argument != null && ((String) value).startsWith((String) argument);
+			case ENDING_WITH:
+				return value instanceof String && argument != null && ((String) value).endsWith((String) argument);
+			case CONTAINING:
+				return contains(value, argument);
+			case NOT_CONTAINING:
+				return value != null && !contains(value, argument);
+			case LIKE:
+			case REGEX:
+				return value != null && argument != null && ((Pattern) argument).matcher(value.toString()).matches();
+			case NOT_LIKE:
+				return value != null && argument != null && !((Pattern) argument).matcher(value.toString()).matches();
+			default:
+				throw new IllegalStateException(String.format("Unsupported keyword %s!", type));
+		}
+	}
+
+	private Object prepare(Object argument) {
+
+		if (argument == null) {
+			return null;
+		}
+
+		switch (type) {
+			case IN:
+			case NOT_IN:
+
+				List<Object> result = new ArrayList<Object>();
+
+				if (argument instanceof Collection) {
+					for (Object element : (Collection<?>) argument) {
+						result.add(convert(element));
+					}
+				} else if (argument.getClass().isArray()) {
+					for (int i = 0; i < Array.getLength(argument); i++) {
+						result.add(convert(Array.get(argument, i)));
+					}
+				} else {
+					result.add(convert(argument));
+				}
+
+				return result;
+
+			case LIKE:
+			case NOT_LIKE:
+				return Pattern.compile(toRegex(argument.toString()), ignoreCase ? Pattern.CASE_INSENSITIVE : 0);
+			case REGEX:
+				return Pattern.compile(argument.toString(), ignoreCase ? Pattern.CASE_INSENSITIVE : 0);
+			case STARTING_WITH:
+			case ENDING_WITH:
+				return normalize(argument.toString());
+			case CONTAINING:
+			case NOT_CONTAINING:
+				return accessor.getLeafProperty().isCollectionLike() ? convert(argument) : normalize(argument.toString());
+			default:
+				return convert(argument);
+		}
+	}
+
+	private Object convert(Object source) {
+
+		if (source == null || propertyType.isInstance(source)) {
+			return normalize(source);
+		}
+
+		return normalize(conversionService.canConvert(source.getClass(), propertyType)
+				? conversionService.convert(source, propertyType) : source);
+	}
+
+	private Object normalize(Object source) {
+		return ignoreCase && source instanceof String ? ((String) source).toLowerCase(Locale.ENGLISH) : source;
+	}
+
+	private static boolean contains(Object value, Object argument) {
+
+		if (value instanceof Collection) {
+			return ((Collection<?>) value).contains(argument);
+		}
+
+		return value instanceof String && argument != null && ((String) value).contains(argument.toString());
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static int compare(Object value, Object argument) {
+		return ((Comparable) value).compareTo(argument);
+	}
+
+	private static String toRegex(String like) {
+
+		StringBuilder builder = new StringBuilder();
+		StringBuilder literal = new StringBuilder();
+
+		for (char character : like.toCharArray()) {
+
+			if (character == '%' || character == '_') {
+
+				builder.append(literal.length() == 0 ? "" : Pattern.quote(literal.toString()));
+				builder.append(character == '%' ? ".*" : ".");
+				literal.setLength(0);
+
+			} else {
+				literal.append(character);
+			}
+		}
+
+		return builder.append(literal.length() == 0 ? "" : Pattern.quote(literal.toString())).toString();
+	}
+}
@@ -0,0 +1,371 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.inmemory;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.data.repository.query.parser.Part.Type;
+import org.springframework.util.Assert;
+
+/**
+ * Secondary index mapping the values of a property to the identifiers of the entities carrying them. Instances are
+ * not thread-safe, synchronization is left to the owning {@link InMemoryTable}.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+abstract class PropertyIndex {
+
+	private final Map<Object, Object> values = new HashMap<Object, Object>();
+	private final Set<Object> nullIds = new LinkedHashSet<Object>();
+
+	/**
+	 * Creates a new {@link PropertyIndex} for the given {@link IndexType}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	public static PropertyIndex of(IndexType type) {
+
+		Assert.notNull(type, "Index type must not be null!");
+
+		return IndexType.SORTED.equals(type) ? new SortedPropertyIndex() : new HashPropertyIndex();
+	}
+
+	/**
+	 * Returns the {@link IndexType} of the index.
+	 *
+	 * @return
+	 */
+	public abstract IndexType getType();
+
+	/**
+	 * Returns whether the index can answer lookups for the given {@link Type}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	public boolean supports(Type type) {
+
+		switch (type) {
+			case SIMPLE_PROPERTY:
+			case IN:
+			case IS_NULL:
+			case TRUE:
+			case FALSE:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Indexes the given value for the entity with the given identifier, replacing a previously indexed value.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param value can be {@literal null}.
+	 */
+	public void add(Object id, Object value) {
+
+		remove(id);
+
+		values.put(id, value);
+
+		if (value == null) {
+			nullIds.add(id);
+			return;
+		}
+
+		Set<Object> ids = getBuckets().get(value);
+
+		if (ids == null) {
+			ids = new LinkedHashSet<Object>();
+			getBuckets().put(value, ids);
+		}
+
+		ids.add(id);
+	}
+
+	/**
+	 * Removes the entity with the given identifier from the index.
+	 *
+	 * @param id must not be {@literal null}.
+	 */
+	public void remove(Object id) {
+
+		if (!values.containsKey(id)) {
+			return;
+		}
+
+		Object value = values.remove(id);
+
+		if (value == null) {
+			nullIds.remove(id);
+			return;
+		}
+
+		Set<Object> ids = getBuckets().get(value);
+
+		if (ids != null) {
+
+			ids.remove(id);
+
+			if (ids.isEmpty()) {
+				getBuckets().remove(value);
+			}
+		}
+	}
+
+	/**
+	 * Removes all entries from the index.
+	 */
+	public void clear() {
+
+		values.clear();
+		nullIds.clear();
+		getBuckets().clear();
+	}
+
+	/**
+	 * Looks up the identifiers of the entities matching the given {@link Type} and arguments. Arguments are expected to
+	 * be converted into the type of the indexed property already.
+	 *
+	 * @param type must be supported by the index, see {@link #supports(Type)}.
+	 * @param arguments must not be {@literal null}.
+	 * @param offset the position of the first argument to consider.
+	 * @return
+	 */
+	public Collection<Object> lookup(Type type, Object[] arguments, int offset) {
+
+		switch (type) {
+			case SIMPLE_PROPERTY:
+				return get(arguments[offset]);
+			case IS_NULL:
+				return nullIds;
+			case TRUE:
+				return get(Boolean.TRUE);
+			case FALSE:
+				return get(Boolean.FALSE);
+			case IN:
+
+				Object source = arguments[offset];
+				Set<Object> result = new LinkedHashSet<Object>();
+
+				if (source instanceof Collection) {
+					for (Object element : (Collection<?>) source) {
+						result.addAll(get(element));
+					}
+				} else if (source != null && source.getClass().isArray()) {
+					for (int i = 0; i < Array.getLength(source); i++) {
+						result.addAll(get(Array.get(source, i)));
+					}
+				}
+
+				return result;
+
+			default:
+				throw new IllegalArgumentException(String.format("Unsupported index lookup %s!", type));
+		}
+	}
+
+	/**
+	 * Returns the map of indexed values to the identifiers of the entities carrying them.
+	 *
+	 * @return
+	 */
+	protected abstract Map<Object, Set<Object>> getBuckets();
+
+	private Collection<Object> get(Object value) {
+
+		if (value == null) {
+			return nullIds;
+		}
+
+		Set<Object> ids = getBuckets().get(value);
+		return ids == null ? Collections.<Object> emptySet() : ids;
+	}
+
+	/**
+	 * {@link PropertyIndex} based on a {@link HashMap}.
+	 *
+	 * @author Oliver Gierke
+	 */
+	static class HashPropertyIndex extends PropertyIndex {
+
+		private final Map<Object, Set<Object>> buckets = new HashMap<Object, Set<Object>>();
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.inmemory.PropertyIndex#getType()
+		 */
+		@Override
+		public IndexType getType() {
+			return IndexType.HASH;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.inmemory.PropertyIndex#getBuckets()
+		 */
+		@Override
+		protected Map<Object, Set<Object>> getBuckets() {
+			return buckets;
+		}
+	}
+
+	/**
+	 * {@link PropertyIndex} based on a {@link TreeMap} additionally supporting range lookups.
+	 *
+	 * @author Oliver Gierke
+	 */
+	static class SortedPropertyIndex extends PropertyIndex {
+
+		private final NavigableMap<Object, Set<Object>> buckets = new TreeMap<Object, Set<Object>>();
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.inmemory.PropertyIndex#getType()
+		 */
+		@Override
+		public IndexType getType() {
+			return IndexType.SORTED;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.inmemory.PropertyIndex#supports(org.springframework.data.repository.query.parser.Part.Type)
+		 */
+		@Override
+		public boolean supports(Type type) {
+
+			switch (type) {
+				case GREATER_THAN:
+				case GREATER_THAN_EQUAL:
+				case AFTER:
+				case LESS_THAN:
+				case LESS_THAN_EQUAL:
+				case BEFORE:
+				case BETWEEN:
+				case STARTING_WITH:
+					return true;
+				default:
+					return super.supports(type);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.inmemory.PropertyIndex#add(java.lang.Object, java.lang.Object)
+		 */
+		@Override
+		public void add(Object id, Object value) {
+
+			Assert.isTrue(value == null || value instanceof Comparable,
+					String.format("Sorted index requires Comparable values but got %s!", value));
+
+			super.add(id, value);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.inmemory.PropertyIndex#lookup(org.springframework.data.repository.query.parser.Part.Type, java.lang.Object[], int)
+		 */
+		@Override
+		public Collection<Object> lookup(Type type, Object[] arguments, int offset) {
+
+			Object argument = arguments[offset];
+
+			switch (type) {
+				case GREATER_THAN:
+				case AFTER:
+					return argument == null ? Collections.<Object> emptySet() : flatten(buckets.tailMap(argument, false));
+				case GREATER_THAN_EQUAL:
+					return argument == null ? Collections.<Object> emptySet() : flatten(buckets.tailMap(argument, true));
+				case LESS_THAN:
+				case BEFORE:
+					return argument == null ? Collections.<Object> emptySet() : flatten(buckets.headMap(argument, false));
+				case LESS_THAN_EQUAL:
+					return argument == null ? Collections.<Object> emptySet() : flatten(buckets.headMap(argument, true));
+				case BETWEEN:
+
+					Object upper = arguments[offset + 1];
+
+					if (argument == null || upper == null || compare(argument, upper) > 0) {
+						return Collections.<Object> emptySet();
+					}
+
+					return flatten(buckets.subMap(argument, true, upper, true));
+
+				case STARTING_WITH:
+
+					if (!(argument instanceof String)) {
+						return Collections.<Object> emptySet();
+					}
+
+					String prefix = (String) argument;
+					Set<Object> result = new LinkedHashSet<Object>();
+
+					for (Entry<Object, Set<Object>> entry : buckets.tailMap(prefix, true).entrySet()) {
+
+						if (!((String) entry.getKey()).startsWith(prefix)) {
+							break;
+						}
+
+						result.addAll(entry.getValue());
+					}
+
+					return result;
+
+				default:
+					return super.lookup(type, arguments, offset);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.inmemory.PropertyIndex#getBuckets()
+		 */
+		@Override
+		protected Map<Object, Set<Object>> getBuckets() {
+			return buckets;
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private static int compare(Object left, Object right) {
+			return ((Comparable) left).compareTo(right);
+		}
+
+		private static Collection<Object> flatten(Map<Object, Set<Object>> source) {
+
+			Set<Object> result = new LinkedHashSet<Object>();
+
+			for (Set<Object> ids : source.values()) {
+				result.addAll(ids);
+			}
+
+			return result;
+		}
+	}
+}
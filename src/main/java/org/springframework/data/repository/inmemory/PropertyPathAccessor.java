@@ -0,0 +1,91 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.inmemory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.mapping.context.PersistentPropertyPath;
+import org.springframework.util.Assert;
+
+/**
+ * Reads the value of a {@link PersistentPropertyPath} from entities using the property accessors of the owning
+ * entities.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+class PropertyPathAccessor {
+
+	private final List<InMemoryPersistentProperty> properties;
+
+	/**
+	 * Creates a new {@link PropertyPathAccessor} for the given {@link PersistentPropertyPath}.
+	 *
+	 * @param path must not be {@literal null}.
+	 */
+	public PropertyPathAccessor(PersistentPropertyPath<InMemoryPersistentProperty> path) {
+
+		Assert.notNull(path, "PersistentPropertyPath must not be null!");
+
+		this.properties = new ArrayList<InMemoryPersistentProperty>();
+
+		for (InMemoryPersistentProperty property : path) {
+			this.properties.add(property);
+		}
+	}
+
+	/**
+	 * Returns the last property of the path.
+	 *
+	 * @return
+	 */
+	public InMemoryPersistentProperty getLeafProperty() {
+		return properties.get(properties.size() - 1);
+	}
+
+	/**
+	 * Returns whether the path points to a property of the root entity.
+	 *
+	 * @return
+	 */
+	public boolean isRootProperty() {
+		return properties.size() == 1;
+	}
+
+	/**
+	 * Returns the value of the path for the given entity. Returns {@literal null} if any intermediate value is
+	 * {@literal null}.
+	 *
+	 * @param source can be {@literal null}.
+	 * @return
+	 */
+	public Object getValue(Object source) {
+
+		Object current = source;
+
+		for (InMemoryPersistentProperty property : properties) {
+
+			if (current == null) {
+				return null;
+			}
+
+			current = property.getOwner().getPropertyAccessor(current).getProperty(property);
+		}
+
+		return current;
+	}
+}
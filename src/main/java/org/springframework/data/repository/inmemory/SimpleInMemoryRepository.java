@@ -0,0 +1,225 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.inmemory;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.util.Assert;
+
+/**
+ * {@link PagingAndSortingRepository} implementation backed by an {@link InMemoryStore}.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+public class SimpleInMemoryRepository<T, ID extends Serializable> implements PagingAndSortingRepository<T, ID> {
+
+	private final EntityInformation<T, ID> entityInformation;
+	private final InMemoryStore store;
+
+	/**
+	 * Creates a new {@link SimpleInMemoryRepository} for the given {@link EntityInformation} and {@link InMemoryStore}.
+	 *
+	 * @param entityInformation must not be {@literal null}.
+	 * @param store must not be {@literal null}.
+	 */
+	public SimpleInMemoryRepository(EntityInformation<T, ID> entityInformation, InMemoryStore store) {
+
+		Assert.notNull(entityInformation, "EntityInformation must not be null!");
+		Assert.notNull(store, "InMemoryStore must not be null!");
+
+		this.entityInformation = entityInformation;
+		this.store = store;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.CrudRepository#save(java.lang.Object)
+	 */
+	@Override
+	public <S extends T> S save(S entity) {
+
+		Assert.notNull(entity, "Entity must not be null!");
+		return store.save(entity, entityInformation.getJavaType());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.CrudRepository#save(java.lang.Iterable)
+	 */
+	@Override
+	public <S extends T> Iterable<S> save(Iterable<S> entities) {
+
+		Assert.notNull(entities, "Entities must not be null!");
+
+		List<S> result = new ArrayList<S>();
+
+		for (S entity : entities) {
+			result.add(save(entity));
+		}
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.CrudRepository#findOne(java.io.Serializable)
+	 */
+	@Override
+	public T findOne(ID id) {
+		return store.findOne(id, entityInformation.getJavaType());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.CrudRepository#exists(java.io.Serializable)
+	 */
+	@Override
+	public boolean exists(ID id) {
+		return findOne(id) != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.CrudRepository#findAll()
+	 */
+	@Override
+	public List<T> findAll() {
+		return store.findAll(entityInformation.getJavaType());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.CrudRepository#findAll(java.lang.Iterable)
+	 */
+	@Override
+	public List<T> findAll(Iterable<ID> ids) {
+
+		Assert.notNull(ids, "Ids must not be null!");
+
+		List<T> result = new ArrayList<T>();
+
+		for (ID id : ids) {
+
+			T candidate = findOne(id);
+
+			if (candidate != null) {
+				result.add(candidate);
+			}
+		}
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.PagingAndSortingRepository#findAll(org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public List<T> findAll(Sort sort) {
+
+		List<T> result = findAll();
+
+		if (sort != null) {
+			Collections.sort(result,
+					new SortComparator(sort, entityInformation.getJavaType(), store.getMappingContext()));
+		}
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.PagingAndSortingRepository#findAll(org.springframework.data.domain.Pageable)
+	 */
+	@Override
+	public Page<T> findAll(Pageable pageable) {
+
+		if (pageable == null) {
+			return new PageImpl<T>(findAll());
+		}
+
+		List<T> result = findAll(pageable.getSort());
+
+		int offset = Math.min(pageable.getOffset(), result.size());
+		int end = Math.min(offset + pageable.getPageSize(), result.size());
+
+		return new PageImpl<T>(result.subList(offset, end), pageable, result.size());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.CrudRepository#count()
+	 */
+	@Override
+	public long count() {
+		return store.count(entityInformation.getJavaType());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.CrudRepository#delete(java.io.Serializable)
+	 */
+	@Override
+	public void delete(ID id) {
+
+		Assert.notNull(id, "Id must not be null!");
+		store.delete(id, entityInformation.getJavaType());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.CrudRepository#delete(java.lang.Object)
+	 */
+	@Override
+	public void delete(T entity) {
+
+		Assert.notNull(entity, "Entity must not be null!");
+		delete(entityInformation.getId(entity));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.CrudRepository#delete(java.lang.Iterable)
+	 */
+	@Override
+	public void delete(Iterable<? extends T> entities) {
+
+		Assert.notNull(entities, "Entities must not be null!");
+
+		for (T entity : entities) {
+			delete(entity);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.CrudRepository#deleteAll()
+	 */
+	@Override
+	public void deleteAll() {
+		store.deleteAll(entityInformation.getJavaType());
+	}
+}
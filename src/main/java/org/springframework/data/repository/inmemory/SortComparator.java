@@ -0,0 +1,120 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.inmemory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.NullHandling;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Comparator} ordering entities by the properties of a {@link Sort}. {@link NullHandling#NATIVE} sorts
+ * {@literal null} values last.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+class SortComparator implements Comparator<Object> {
+
+	private final List<OrderComparator> comparators = new ArrayList<OrderComparator>();
+
+	/**
+	 * Creates a new {@link SortComparator} for the given {@link Sort} and entity type.
+	 *
+	 * @param sort must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param context must not be {@literal null}.
+	 */
+	public SortComparator(Sort sort, Class<?> type, InMemoryMappingContext context) {
+
+		Assert.notNull(sort, "Sort must not be null!");
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(context, "InMemoryMappingContext must not be null!");
+
+		for (Order order : sort) {
+			comparators.add(new OrderComparator(order,
+					new PropertyPathAccessor(context.getPersistentPropertyPath(order.getProperty(), type))));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Comparator#compare(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public int compare(Object left, Object right) {
+
+		for (OrderComparator comparator : comparators) {
+
+			int result = comparator.compare(left, right);
+
+			if (result != 0) {
+				return result;
+			}
+		}
+
+		return 0;
+	}
+
+	/**
+	 * {@link Comparator} for a single {@link Order}.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static class OrderComparator implements Comparator<Object> {
+
+		private final Order order;
+		private final PropertyPathAccessor accessor;
+
+		public OrderComparator(Order order, PropertyPathAccessor accessor) {
+
+			this.order = order;
+			this.accessor = accessor;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Comparator#compare(java.lang.Object, java.lang.Object)
+		 */
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public int compare(Object left, Object right) {
+
+			Object leftValue = accessor.getValue(left);
+			Object rightValue = accessor.getValue(right);
+
+			if (leftValue == null || rightValue == null) {
+
+				if (leftValue == rightValue) {
+					return 0;
+				}
+
+				int result = leftValue == null ? 1 : -1;
+				return NullHandling.NULLS_FIRST.equals(order.getNullHandling()) ? -result : result;
+			}
+
+			int result = order.isIgnoreCase() && leftValue instanceof String && rightValue instanceof String
+					? ((String) leftValue).compareToIgnoreCase((String) rightValue)
+					: ((Comparable) leftValue).compareTo(rightValue);
+
+			return order.isAscending() ? result : -result;
+		}
+	}
+}
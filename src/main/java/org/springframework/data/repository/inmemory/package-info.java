@@ -0,0 +1,4 @@
+/**
+ * In-memory repository implementation backed by concurrent maps with support for secondary indexes.
+ */
+package org.springframework.data.repository.inmemory;
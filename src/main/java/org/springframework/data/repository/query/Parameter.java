@@ -23,6 +23,7 @@ import java.util.List;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.util.QueryExecutionConverters;
@@ -37,7 +38,8 @@ import org.springframework.util.Assert;
  */
 public class Parameter {
 
-	@SuppressWarnings("unchecked") static final List<Class<?>> TYPES = Arrays.asList(Pageable.class, Sort.class);
+	@SuppressWarnings("unchecked") static final List<Class<?>> TYPES = Arrays.asList(Pageable.class, Sort.class,
+			KeysetScrollPosition.class);
 
 	private static final String NAMED_PARAMETER_TEMPLATE = ":%s";
 	private static final String POSITION_PARAMETER_TEMPLATE = "?%s";
@@ -177,6 +179,16 @@ public class Parameter {
 		return Sort.class.isAssignableFrom(getType());
 	}
 
+	/**
+	 * Returns whether the {@link Parameter} is a {@link KeysetScrollPosition} parameter.
+	 * 
+	 * @return
+	 * @since 1.13
+	 */
+	boolean isScrollPosition() {
+		return KeysetScrollPosition.class.isAssignableFrom(getType());
+	}
+
 	/**
 	 * Returns whether the given {@link MethodParameter} is a dynamic projection parameter, which means it carries a
 	 * dynamic type parameter which is identical to the type parameter of the actually returned type.
@@ -26,6 +26,7 @@ import java.util.List;
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.util.Assert;
@@ -38,17 +39,20 @@ import org.springframework.util.Assert;
 public abstract class Parameters<S extends Parameters<S, T>, T extends Parameter> implements Iterable<T> {
 
 	@SuppressWarnings("unchecked") //
-	public static final List<Class<?>> TYPES = Arrays.asList(Pageable.class, Sort.class);
+	public static final List<Class<?>> TYPES = Arrays.asList(Pageable.class, Sort.class, KeysetScrollPosition.class);
 
-	private static final String PARAM_ON_SPECIAL = format("You must not user @%s on a parameter typed %s or %s",
-			Param.class.getSimpleName(), Pageable.class.getSimpleName(), Sort.class.getSimpleName());
+	private static final String PARAM_ON_SPECIAL = format("You must not user @%s on a parameter typed %s, %s or %s",
+			Param.class.getSimpleName(), Pageable.class.getSimpleName(), Sort.class.getSimpleName(),
+			KeysetScrollPosition.class.getSimpleName());
 	private static final String ALL_OR_NOTHING = String.format(
-			"Either use @%s on all parameters except %s and %s typed once, or none at all!", Param.class.getSimpleName(),
-			Pageable.class.getSimpleName(), Sort.class.getSimpleName());
+			"Either use @%s on all parameters except %s, %s and %s typed once, or none at all!",
+			Param.class.getSimpleName(), Pageable.class.getSimpleName(), Sort.class.getSimpleName(),
+			KeysetScrollPosition.class.getSimpleName());
 
 	private final ParameterNameDiscoverer discoverer = new DefaultParameterNameDiscoverer();
 	private final int pageableIndex;
 	private final int sortIndex;
+	private final int scrollPositionIndex;
 	private final List<T> parameters;
 
 	private int dynamicProjectionIndex;
@@ -87,6 +91,7 @@ public abstract class Parameters<S extends Parameters<S, T>, T extends Parameter
 
 		this.pageableIndex = types.indexOf(Pageable.class);
 		this.sortIndex = types.indexOf(Sort.class);
+		this.scrollPositionIndex = types.indexOf(KeysetScrollPosition.class);
 
 		assertEitherAllParamAnnotatedOrNone();
 	}
@@ -102,6 +107,7 @@ public abstract class Parameters<S extends Parameters<S, T>, T extends Parameter
 
 		int pageableIndexTemp = -1;
 		int sortIndexTemp = -1;
+		int scrollPositionIndexTemp = -1;
 		int dynamicProjectionTemp = -1;
 
 		for (int i = 0; i < originals.size(); i++) {
@@ -111,11 +117,13 @@ public abstract class Parameters<S extends Parameters<S, T>, T extends Parameter
 
 			pageableIndexTemp = original.isPageable() ? i : -1;
 			sortIndexTemp = original.isSort() ? i : -1;
+			scrollPositionIndexTemp = original.isScrollPosition() ? i : scrollPositionIndexTemp;
 			dynamicProjectionTemp = original.isDynamicProjectionParameter() ? i : -1;
 		}
 
 		this.pageableIndex = pageableIndexTemp;
 		this.sortIndex = sortIndexTemp;
+		this.scrollPositionIndex = scrollPositionIndexTemp;
 		this.dynamicProjectionIndex = dynamicProjectionTemp;
 	}
 
@@ -156,6 +164,27 @@ public abstract class Parameters<S extends Parameters<S, T>, T extends Parameter
 		return sortIndex;
 	}
 
+	/**
+	 * Returns whether the method the {@link Parameters} was created for contains a {@link KeysetScrollPosition} argument.
+	 * 
+	 * @return
+	 * @since 1.13
+	 */
+	public boolean hasScrollPositionParameter() {
+		return scrollPositionIndex != -1;
+	}
+
+	/**
+	 * Returns the index of the {@link KeysetScrollPosition} {@link Method} parameter if available. Will return
+	 * {@literal -1} if there is no {@link KeysetScrollPosition} argument in the {@link Method}'s parameter list.
+	 * 
+	 * @return
+	 * @since 1.13
+	 */
+	public int getScrollPositionIndex() {
+		return scrollPositionIndex;
+	}
+
 	/**
 	 * Returns whether the method the {@link Parameters} was created for contains a {@link Sort} argument.
 	 * 
@@ -225,12 +254,13 @@ public abstract class Parameters<S extends Parameters<S, T>, T extends Parameter
 	}
 
 	/**
-	 * Returns whether the method signature contains one of the special parameters ({@link Pageable}, {@link Sort}).
+	 * Returns whether the method signature contains one of the special parameters ({@link Pageable}, {@link Sort},
+	 * {@link KeysetScrollPosition}).
 	 * 
 	 * @return
 	 */
 	public boolean hasSpecialParameter() {
-		return hasSortParameter() || hasPageableParameter();
+		return hasSortParameter() || hasPageableParameter() || hasScrollPositionParameter();
 	}
 
 	/**
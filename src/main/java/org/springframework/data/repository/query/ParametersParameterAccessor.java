@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.util.QueryExecutionConverters;
@@ -97,6 +98,25 @@ public class ParametersParameterAccessor implements ParameterAccessor {
 		return null;
 	}
 
+	/**
+	 * Returns the {@link KeysetScrollPosition} of the parameters. Returns {@link KeysetScrollPosition#initial()} if the
+	 * method declares a {@link KeysetScrollPosition} parameter but {@literal null} was given and {@literal null} if the
+	 * method doesn't declare one.
+	 * 
+	 * @return
+	 * @since 1.13
+	 */
+	public KeysetScrollPosition getScrollPosition() {
+
+		if (!parameters.hasScrollPositionParameter()) {
+			return null;
+		}
+
+		KeysetScrollPosition position = (KeysetScrollPosition) values.get(parameters.getScrollPositionIndex());
+
+		return position == null ? KeysetScrollPosition.initial() : position;
+	}
+
 	/**
 	 * Returns the dynamic projection type if available, {@literal null} otherwise.
 	 * 
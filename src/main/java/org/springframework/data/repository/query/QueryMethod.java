@@ -23,6 +23,7 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.EntityMetadata;
@@ -94,6 +95,12 @@ public class QueryMethod {
 					String.format("Paging query needs to have a Pageable parameter! Offending method %s", method.toString()));
 		}
 
+		if (isWindowQuery()) {
+			Assert.isTrue(this.parameters.hasScrollPositionParameter(),
+					String.format("Window query needs to have a KeysetScrollPosition parameter! Offending method %s",
+							method.toString()));
+		}
+
 		this.resultProcessor = new ResultProcessor(this, factory);
 	}
 
@@ -173,7 +180,7 @@ public class QueryMethod {
 	 */
 	public boolean isCollectionQuery() {
 
-		return !(isPageQuery() || isSliceQuery())
+		return !(isPageQuery() || isSliceQuery() || isWindowQuery())
 				&& org.springframework.util.ClassUtils.isAssignable(Iterable.class, unwrappedReturnType)
 				|| unwrappedReturnType.isArray();
 	}
@@ -188,6 +195,16 @@ public class QueryMethod {
 		return !isPageQuery() && org.springframework.util.ClassUtils.isAssignable(Slice.class, unwrappedReturnType);
 	}
 
+	/**
+	 * Returns whether the query method will return a {@link Window} obtained by keyset pagination.
+	 * 
+	 * @return
+	 * @since 1.13
+	 */
+	public boolean isWindowQuery() {
+		return org.springframework.util.ClassUtils.isAssignable(Window.class, unwrappedReturnType);
+	}
+
 	/**
 	 * Returns whether the finder will return a {@link Page} of results.
 	 * 
@@ -30,7 +30,10 @@ import org.springframework.core.CollectionFactory;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.util.ReflectionUtils;
 import org.springframework.util.Assert;
@@ -137,7 +140,11 @@ public class ResultProcessor {
 				.and(this.converter);
 
 		if (source instanceof Slice && method.isPageQuery() || method.isSliceQuery()) {
-			return (T) ((Slice<?>) source).map(converter);
+			return (T) map((Slice<?>) source, converter);
+		}
+
+		if (source instanceof Window && method.isWindowQuery()) {
+			return (T) ((Window<?>) source).map(converter);
 		}
 
 		if (source instanceof Collection && method.isCollectionQuery()) {
@@ -159,6 +166,27 @@ public class ResultProcessor {
 		return (T) converter.convert(source);
 	}
 
+	/**
+	 * Maps the given {@link Slice} using the given {@link Converter}. Uses lazy mapping for {@link PageImpl}s and
+	 * {@link SliceImpl}s so that the content is only converted on access.
+	 * 
+	 * @param slice must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @return
+	 */
+	private static Slice<?> map(Slice<?> slice, Converter<Object, Object> converter) {
+
+		if (slice instanceof PageImpl) {
+			return ((PageImpl<?>) slice).mapLazily(converter);
+		}
+
+		if (slice instanceof SliceImpl) {
+			return ((SliceImpl<?>) slice).mapLazily(converter);
+		}
+
+		return slice.map(converter);
+	}
+
 	@RequiredArgsConstructor(staticName = "of")
 	private static class ChainingConverter implements Converter<Object, Object> {
 
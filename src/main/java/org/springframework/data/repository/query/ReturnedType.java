@@ -18,21 +18,30 @@ package org.springframework.data.repository.query;
 import lombok.AccessLevel;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mapping.context.PersistentPropertyPath;
+import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.mapping.model.PreferredConstructorDiscoverer;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.ProjectionInformation;
+import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * A representation of the type returned by a {@link QueryMethod}.
@@ -43,7 +52,11 @@ import org.springframework.util.ClassUtils;
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public abstract class ReturnedType {
 
+	private static final Map<CacheKey, ReturnedType> CACHE = new ConcurrentReferenceHashMap<CacheKey, ReturnedType>();
+
 	private final @NonNull Class<?> domainType;
+	private final Map<MappingContext<?, ?>, List<?>> inputPropertyPaths =
+			new ConcurrentReferenceHashMap<MappingContext<?, ?>, List<?>>();
 
 	/**
 	 * Creates a new {@link ReturnedType} for the given returned type, domain type and {@link ProjectionFactory}.
@@ -59,9 +72,18 @@ public abstract class ReturnedType {
 		Assert.notNull(domainType, "Domain type must not be null!");
 		Assert.notNull(factory, "ProjectionFactory must not be null!");
 
-		return (ReturnedType) (returnedType.isInterface()
-				? new ReturnedInterface(factory.getProjectionInformation(returnedType), domainType)
-				: new ReturnedClass(returnedType, domainType));
+		CacheKey key = new CacheKey(returnedType, domainType, returnedType.isInterface() ? factory : null);
+		ReturnedType type = CACHE.get(key);
+
+		if (type == null) {
+
+			type = returnedType.isInterface()
+					? new ReturnedInterface(factory.getProjectionInformation(returnedType), domainType, factory)
+					: new ReturnedClass(returnedType, domainType);
+			CACHE.put(key, type);
+		}
+
+		return type;
 	}
 
 	/**
@@ -119,6 +141,78 @@ public abstract class ReturnedType {
 	 */
 	public abstract List<String> getInputProperties();
 
+	/**
+	 * Returns the {@link PersistentPropertyPath}s of the domain type that need to be read to populate the result, i.e.
+	 * the read plan store modules can use to only fetch the required fields. Nested closed interface projections are
+	 * expanded into the paths of the nested properties they require. Input properties that cannot be resolved against
+	 * the domain type are not included. An empty list is returned if the returned type doesn't need custom construction,
+	 * i.e. the entire domain object needs to be read. The plan is calculated once per {@link MappingContext}.
+	 * 
+	 * @param context must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 1.13
+	 */
+	@SuppressWarnings("unchecked")
+	public <P extends PersistentProperty<P>> List<PersistentPropertyPath<P>> getInputPropertyPaths(
+			MappingContext<?, P> context) {
+
+		Assert.notNull(context, "MappingContext must not be null!");
+
+		List<?> paths = inputPropertyPaths.get(context);
+
+		if (paths == null) {
+
+			paths = needsCustomConstruction() && context.getPersistentEntity(domainType) != null
+					? Collections.unmodifiableList(detectInputPropertyPaths(context))
+					: Collections.<PersistentPropertyPath<P>> emptyList();
+			inputPropertyPaths.put(context, paths);
+		}
+
+		return (List<PersistentPropertyPath<P>>) paths;
+	}
+
+	/**
+	 * Calculates the {@link PersistentPropertyPath}s to be returned by {@link #getInputPropertyPaths(MappingContext)}.
+	 * Defaults to the paths of the top-level input properties.
+	 * 
+	 * @param context will never be {@literal null}.
+	 * @return
+	 */
+	<P extends PersistentProperty<P>> List<PersistentPropertyPath<P>> detectInputPropertyPaths(
+			MappingContext<?, P> context) {
+
+		List<PersistentPropertyPath<P>> result = new ArrayList<PersistentPropertyPath<P>>();
+
+		for (String property : getInputProperties()) {
+
+			PersistentPropertyPath<P> path = getPersistentPropertyPath(context, property);
+
+			if (path != null) {
+				result.add(path);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the {@link PersistentPropertyPath} for the given dot-path on the domain type or {@literal null} if it
+	 * cannot be resolved.
+	 * 
+	 * @param context must not be {@literal null}.
+	 * @param path must not be {@literal null} or empty.
+	 * @return
+	 */
+	final <P extends PersistentProperty<P>> PersistentPropertyPath<P> getPersistentPropertyPath(
+			MappingContext<?, P> context, String path) {
+
+		try {
+			return context.getPersistentPropertyPath(path, domainType);
+		} catch (MappingException o_O) {
+			return null;
+		}
+	}
+
 	/**
 	 * A {@link ReturnedType} that's backed by an interface.
 	 *
@@ -129,21 +223,27 @@ public abstract class ReturnedType {
 
 		private final ProjectionInformation information;
 		private final Class<?> domainType;
+		private final ProjectionFactory factory;
+		private final List<String> inputProperties;
 
 		/**
 		 * Creates a new {@link ReturnedInterface} from the given {@link ProjectionInformation} and domain type.
 		 * 
 		 * @param information must not be {@literal null}.
 		 * @param domainType must not be {@literal null}.
+		 * @param factory must not be {@literal null}.
 		 */
-		public ReturnedInterface(ProjectionInformation information, Class<?> domainType) {
+		public ReturnedInterface(ProjectionInformation information, Class<?> domainType, ProjectionFactory factory) {
 
 			super(domainType);
 
 			Assert.notNull(information, "Projection information must not be null!");
+			Assert.notNull(factory, "ProjectionFactory must not be null!");
 
 			this.information = information;
 			this.domainType = domainType;
+			this.factory = factory;
+			this.inputProperties = detectInputProperties(information);
 		}
 
 		/* 
@@ -187,6 +287,88 @@ public abstract class ReturnedType {
 		 */
 		@Override
 		public List<String> getInputProperties() {
+			return inputProperties;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.query.ReturnedType#detectInputPropertyPaths(org.springframework.data.mapping.context.MappingContext)
+		 */
+		@Override
+		<P extends PersistentProperty<P>> List<PersistentPropertyPath<P>> detectInputPropertyPaths(
+				MappingContext<?, P> context) {
+
+			List<PersistentPropertyPath<P>> result = new ArrayList<PersistentPropertyPath<P>>();
+			Set<Class<?>> visited = new HashSet<Class<?>>();
+			visited.add(information.getType());
+
+			collectInputPropertyPaths(context, information, "", visited, result);
+
+			return result;
+		}
+
+		/**
+		 * Collects the {@link PersistentPropertyPath}s for the input properties of the given {@link ProjectionInformation}
+		 * and expands properties using a nested closed interface projection into the nested projection's properties.
+		 * 
+		 * @param context must not be {@literal null}.
+		 * @param information must not be {@literal null}.
+		 * @param prefix the dot-path of the property the given projection is used for, must not be {@literal null}.
+		 * @param visited the projection types currently being expanded to guard against cycles.
+		 * @param result the list to add the paths to.
+		 */
+		private <P extends PersistentProperty<P>> void collectInputPropertyPaths(MappingContext<?, P> context,
+				ProjectionInformation information, String prefix, Set<Class<?>> visited,
+				List<PersistentPropertyPath<P>> result) {
+
+			for (PropertyDescriptor descriptor : information.getInputProperties()) {
+
+				PersistentPropertyPath<P> path = getPersistentPropertyPath(context, prefix.concat(descriptor.getName()));
+
+				if (path == null) {
+					continue;
+				}
+
+				ProjectionInformation nested = getNestedProjection(descriptor, path.getLeafProperty());
+
+				if (nested == null || !visited.add(nested.getType())) {
+					result.add(path);
+					continue;
+				}
+
+				collectInputPropertyPaths(context, nested, path.toDotPath().concat("."), visited, result);
+				visited.remove(nested.getType());
+			}
+		}
+
+		/**
+		 * Returns the {@link ProjectionInformation} of the closed interface projection the given projection property
+		 * applies to the given persistent property or {@literal null} if the property value is used as is.
+		 * 
+		 * @param descriptor must not be {@literal null}.
+		 * @param property must not be {@literal null}.
+		 * @return
+		 */
+		private ProjectionInformation getNestedProjection(PropertyDescriptor descriptor, PersistentProperty<?> property) {
+
+			Method readMethod = descriptor.getReadMethod();
+
+			if (readMethod == null || !property.isEntity()) {
+				return null;
+			}
+
+			Class<?> projectionType = ClassTypeInformation.fromReturnTypeOf(readMethod).getActualType().getType();
+
+			if (!projectionType.isInterface() || projectionType.isAssignableFrom(property.getActualType())) {
+				return null;
+			}
+
+			ProjectionInformation nested = factory.getProjectionInformation(projectionType);
+
+			return nested.isClosed() ? nested : null;
+		}
+
+		private static List<String> detectInputProperties(ProjectionInformation information) {
 
 			List<String> properties = new ArrayList<String>();
 
@@ -194,7 +376,7 @@ public abstract class ReturnedType {
 				properties.add(descriptor.getName());
 			}
 
-			return properties;
+			return Collections.unmodifiableList(properties);
 		}
 	}
 
@@ -294,7 +476,7 @@ public abstract class ReturnedType {
 				properties.add(parameter.getName());
 			}
 
-			return properties;
+			return Collections.unmodifiableList(properties);
 		}
 
 		private boolean isDto() {
@@ -315,4 +497,17 @@ public abstract class ReturnedType {
 			return ClassUtils.isPrimitiveOrWrapper(type);
 		}
 	}
+
+	/**
+	 * Cache key for {@link ReturnedType} instances.
+	 *
+	 * @author Oliver Gierke
+	 */
+	@Value
+	private static class CacheKey {
+
+		Class<?> returnedType;
+		Class<?> domainType;
+		ProjectionFactory factory;
+	}
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.support;
+
+import java.io.Serializable;
+
+/**
+ * Extension of {@link RepositoryInvoker} to hand multiple identifiers or entities to the repository in a single
+ * invocation. Clients should check for this interface and fall back to the single element methods of
+ * {@link RepositoryInvoker} otherwise.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+public interface BulkRepositoryInvoker extends RepositoryInvoker {
+
+	/**
+	 * Returns whether the repository has a method to find multiple objects by their identifiers in a single invocation.
+	 * If not, {@link #invokeFindAllById(Iterable)} looks up the objects one by one.
+	 *
+	 * @return
+	 */
+	boolean hasFindAllByIdMethod();
+
+	/**
+	 * Returns whether the repository has a method to save multiple objects in a single invocation. If not,
+	 * {@link #invokeSaveAll(Iterable)} saves the objects one by one.
+	 *
+	 * @return
+	 */
+	boolean hasSaveAllMethod();
+
+	/**
+	 * Returns whether the repository has methods to delete multiple objects by their identifiers without deleting them
+	 * one by one. If not, {@link #invokeDeleteAll(Iterable)} deletes the objects one by one.
+	 *
+	 * @return
+	 */
+	boolean hasDeleteAllMethod();
+
+	/**
+	 * Invokes the method equivalent to {@link org.springframework.data.repository.CrudRepository#findAll(Iterable)}.
+	 * The given ids are assumed to be of a type convertable into the actual identifier type of the backing repository.
+	 * Falls back to looking up the entities one by one if the repository doesn't expose such a method, skipping the
+	 * ones that can't be found.
+	 *
+	 * @param ids must not be {@literal null}.
+	 * @return the entities with the given ids.
+	 * @throws IllegalStateException if the repository neither exposes a find-all-by-id nor a find-one-method.
+	 * @see #hasFindAllByIdMethod()
+	 */
+	Iterable<Object> invokeFindAllById(Iterable<? extends Serializable> ids);
+
+	/**
+	 * Invokes the method equivalent to {@link org.springframework.data.repository.CrudRepository#save(Iterable)}. Falls
+	 * back to saving the entities one by one if the repository doesn't expose such a method.
+	 *
+	 * @param objects must not be {@literal null}.
+	 * @return the saved entities.
+	 * @throws IllegalStateException if the repository neither exposes a save-all nor a save-method.
+	 * @see #hasSaveAllMethod()
+	 */
+	<T> Iterable<T> invokeSaveAll(Iterable<T> objects);
+
+	/**
+	 * Deletes the entities with the given ids by looking them up via {@link #invokeFindAllById(Iterable)} and handing
+	 * them to the method equivalent to {@link org.springframework.data.repository.CrudRepository#delete(Iterable)}.
+	 * Falls back to {@link #invokeDelete(Serializable)} for each of the ids if the repository doesn't expose the
+	 * methods required.
+	 *
+	 * @param ids must not be {@literal null}.
+	 * @throws IllegalStateException if the repository doesn't expose a delete-method at all.
+	 * @see #hasDeleteAllMethod()
+	 */
+	void invokeDeleteAll(Iterable<? extends Serializable> ids);
+}
@@ -22,6 +22,7 @@ import org.springframework.core.convert.ConversionService;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.BulkCrudMethods;
 import org.springframework.data.repository.core.CrudMethods;
 import org.springframework.data.repository.core.RepositoryMetadata;
 
@@ -40,6 +41,9 @@ class CrudRepositoryInvoker extends ReflectionRepositoryInvoker {
 	private final boolean customFindOneMethod;
 	private final boolean customFindAllMethod;
 	private final boolean customDeleteMethod;
+	private final boolean customFindAllByIdMethod;
+	private final boolean customSaveAllMethod;
+	private final boolean customDeleteAllMethod;
 
 	/**
 	 * Creates a new {@link CrudRepositoryInvoker} for the given {@link CrudRepository}, {@link RepositoryMetadata} and
@@ -60,6 +64,13 @@ class CrudRepositoryInvoker extends ReflectionRepositoryInvoker {
 		this.customFindOneMethod = isRedeclaredMethod(crudMethods.getFindOneMethod());
 		this.customDeleteMethod = isRedeclaredMethod(crudMethods.getDeleteMethod());
 		this.customFindAllMethod = isRedeclaredMethod(crudMethods.getFindAllMethod());
+
+		BulkCrudMethods bulkMethods = crudMethods instanceof BulkCrudMethods ? (BulkCrudMethods) crudMethods : null;
+
+		this.customFindAllByIdMethod = bulkMethods != null && isRedeclaredMethod(bulkMethods.getFindAllByIdMethod());
+		this.customSaveAllMethod = bulkMethods != null && isRedeclaredMethod(bulkMethods.getSaveAllMethod());
+		this.customDeleteAllMethod = bulkMethods != null && isRedeclaredMethod(bulkMethods.getDeleteAllMethod());
+
 		this.repository = repository;
 	}
 
@@ -114,6 +125,38 @@ class CrudRepositoryInvoker extends ReflectionRepositoryInvoker {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.ReflectionRepositoryInvoker#invokeFindAllById(java.lang.Iterable)
+	 */
+	@Override
+	public Iterable<Object> invokeFindAllById(Iterable<? extends Serializable> ids) {
+		return customFindAllByIdMethod ? super.invokeFindAllById(ids) : repository.findAll(convertIds(ids));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.ReflectionRepositoryInvoker#invokeSaveAll(java.lang.Iterable)
+	 */
+	@Override
+	public <T> Iterable<T> invokeSaveAll(Iterable<T> objects) {
+		return customSaveAllMethod ? super.invokeSaveAll(objects) : repository.save(objects);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.ReflectionRepositoryInvoker#invokeDeleteAll(java.lang.Iterable)
+	 */
+	@Override
+	public void invokeDeleteAll(Iterable<? extends Serializable> ids) {
+
+		if (customDeleteAllMethod) {
+			super.invokeDeleteAll(ids);
+		} else {
+			repository.delete(invokeFindAllById(ids));
+		}
+	}
+
 	private boolean isRedeclaredMethod(Method method) {
 		return !method.getDeclaringClass().equals(CrudRepository.class);
 	}
@@ -16,8 +16,8 @@
 package org.springframework.data.repository.support;
 
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.repository.CrudRepository;
@@ -39,7 +39,7 @@ public class DefaultRepositoryInvokerFactory implements RepositoryInvokerFactory
 
 	private final Repositories repositories;
 	private final ConversionService conversionService;
-	private final Map<Class<?>, RepositoryInvoker> invokers;
+	private final ConcurrentMap<Class<?>, RepositoryInvoker> invokers;
 
 	/**
 	 * Creates a new {@link DefaultRepositoryInvokerFactory} for the given {@link Repositories}.
@@ -64,7 +64,7 @@ public class DefaultRepositoryInvokerFactory implements RepositoryInvokerFactory
 
 		this.repositories = repositories;
 		this.conversionService = conversionService;
-		this.invokers = new HashMap<Class<?>, RepositoryInvoker>();
+		this.invokers = new ConcurrentHashMap<Class<?>, RepositoryInvoker>();
 	}
 
 	/* 
@@ -81,9 +81,9 @@ public class DefaultRepositoryInvokerFactory implements RepositoryInvokerFactory
 		}
 
 		invoker = prepareInvokers(domainType);
-		invokers.put(domainType, invoker);
+		RepositoryInvoker existing = invokers.putIfAbsent(domainType, invoker);
 
-		return invoker;
+		return existing == null ? invoker : existing;
 	}
 
 	/**
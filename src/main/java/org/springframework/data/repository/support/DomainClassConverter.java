@@ -15,11 +15,22 @@
  */
 package org.springframework.data.repository.support;
 
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.core.CollectionFactory;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.ConditionalGenericConverter;
@@ -28,13 +39,19 @@ import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.core.EntityInformation;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
  * {@link org.springframework.core.convert.converter.Converter} to convert arbitrary input into domain classes managed
  * by Spring Data {@link CrudRepository}s. The implementation uses a {@link ConversionService} in turn to convert the
  * source type into the domain class' id type which is then converted into a domain class object by using a
- * {@link CrudRepository}.
+ * {@link CrudRepository}. Arrays and {@link Collection}s of identifiers are converted into {@link Collection}s of
+ * domain objects using a single lookup for all of them. Within web requests, entities can optionally be cached for the
+ * rest of the request (see {@link #setRequestScopedCaching(boolean)}).
  * 
  * @author Oliver Gierke
  * @author Thomas Darimont
@@ -42,10 +59,16 @@ import org.springframework.util.StringUtils;
 public class DomainClassConverter<T extends ConversionService & ConverterRegistry>
 		implements ConditionalGenericConverter, ApplicationContextAware {
 
+	private static final boolean REQUEST_CONTEXT_PRESENT = ClassUtils.isPresent(
+			"org.springframework.web.context.request.RequestContextHolder",
+			DomainClassConverter.class.getClassLoader());
+
 	private final T conversionService;
 	private Repositories repositories = Repositories.NONE;
 	private ToEntityConverter toEntityConverter;
+	private ToEntityCollectionConverter toEntityCollectionConverter;
 	private ToIdConverter toIdConverter;
+	private boolean requestScopedCaching = false;
 
 	/**
 	 * Creates a new {@link DomainClassConverter} for the given {@link ConversionService}.
@@ -59,6 +82,18 @@ public class DomainClassConverter<T extends ConversionService & ConverterRegistr
 		this.conversionService = conversionService;
 	}
 
+	/**
+	 * Configures whether domain objects looked up during a web request shall be cached for the rest of the request, so
+	 * that converting the same identifier multiple times only hits the repository once. Has no effect outside of web
+	 * requests. Defaults to {@literal false}.
+	 * 
+	 * @param requestScopedCaching
+	 * @since 1.13
+	 */
+	public void setRequestScopedCaching(boolean requestScopedCaching) {
+		this.requestScopedCaching = requestScopedCaching;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.core.convert.converter.GenericConverter#getConvertibleTypes()
@@ -73,6 +108,10 @@ public class DomainClassConverter<T extends ConversionService & ConverterRegistr
 	 */
 	public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
 
+		if (isEntityCollection(targetType)) {
+			return toEntityCollectionConverter.convert(source, sourceType, targetType);
+		}
+
 		return repositories.hasRepositoryFor(targetType.getType())
 				? toEntityConverter.convert(source, sourceType, targetType)
 				: toIdConverter.convert(source, sourceType, targetType);
@@ -85,6 +124,10 @@ public class DomainClassConverter<T extends ConversionService & ConverterRegistr
 	@Override
 	public boolean matches(TypeDescriptor sourceType, TypeDescriptor targetType) {
 
+		if (isEntityCollection(targetType)) {
+			return toEntityCollectionConverter.matches(sourceType, targetType);
+		}
+
 		return repositories.hasRepositoryFor(targetType.getType()) ? toEntityConverter.matches(sourceType, targetType)
 				: toIdConverter.matches(sourceType, targetType);
 	}
@@ -100,11 +143,36 @@ public class DomainClassConverter<T extends ConversionService & ConverterRegistr
 		this.toEntityConverter = new ToEntityConverter(this.repositories, this.conversionService);
 		this.conversionService.addConverter(this.toEntityConverter);
 
+		this.toEntityCollectionConverter = new ToEntityCollectionConverter();
+		this.conversionService.addConverter(this.toEntityCollectionConverter);
+
 		this.toIdConverter = new ToIdConverter();
 		this.conversionService.addConverter(this.toIdConverter);
 
 	}
 
+	/**
+	 * Returns whether the given {@link TypeDescriptor} is a {@link Collection} of a type managed by a repository.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private boolean isEntityCollection(TypeDescriptor type) {
+
+		TypeDescriptor elementType = type.isCollection() ? type.getElementTypeDescriptor() : null;
+		return elementType != null && repositories.hasRepositoryFor(elementType.getType());
+	}
+
+	/**
+	 * Returns the cache for domain objects of the current request or {@literal null} if caching is disabled or we're
+	 * not within a web request.
+	 * 
+	 * @return
+	 */
+	private Map<EntityKey, Object> getEntityCache() {
+		return requestScopedCaching && REQUEST_CONTEXT_PRESENT ? RequestScopedEntityCache.get() : null;
+	}
+
 	/**
 	 * Converter to create domain types from any source that can be converted into the domain types identifier type.
 	 *
@@ -152,9 +220,110 @@ public class DomainClassConverter<T extends ConversionService & ConverterRegistr
 			Class<?> domainType = targetType.getType();
 
 			RepositoryInformation info = repositories.getRepositoryInformationFor(domainType);
-			RepositoryInvoker invoker = repositoryInvokerFactory.getInvokerFor(domainType);
+			Serializable id = conversionService.convert(source, info.getIdType());
+
+			Map<EntityKey, Object> cache = getEntityCache();
+			EntityKey key = cache == null ? null : new EntityKey(domainType, id);
+			Object entity = cache == null ? null : cache.get(key);
+
+			if (entity != null) {
+				return entity;
+			}
 
-			return invoker.invokeFindOne(conversionService.convert(source, info.getIdType()));
+			entity = repositoryInvokerFactory.getInvokerFor(domainType).invokeFindOne(id);
+
+			if (cache != null && entity != null) {
+				cache.put(key, entity);
+			}
+
+			return entity;
+		}
+
+		/**
+		 * Looks up the domain objects of the given type for the given identifier sources using a single invocation of
+		 * the repository for all identifiers that are not cached yet. The result contains an element for each of the
+		 * sources in the very same order, {@literal null} for the ones that cannot be resolved.
+		 * 
+		 * @param sources must not be {@literal null}.
+		 * @param domainType must not be {@literal null}.
+		 * @return
+		 */
+		public List<Object> convertAll(Collection<?> sources, Class<?> domainType) {
+
+			RepositoryInformation info = repositories.getRepositoryInformationFor(domainType);
+			List<Serializable> ids = new ArrayList<Serializable>(sources.size());
+
+			for (Object source : sources) {
+				ids.add(source == null || !StringUtils.hasText(source.toString()) ? null
+						: conversionService.convert(source, info.getIdType()));
+			}
+
+			Map<EntityKey, Object> cache = getEntityCache();
+			Map<Object, Object> entities = new HashMap<Object, Object>(ids.size());
+			Set<Serializable> idsToLookup = new LinkedHashSet<Serializable>(ids.size());
+
+			for (Serializable id : ids) {
+
+				Object entity = id == null || cache == null ? null : cache.get(new EntityKey(domainType, id));
+
+				if (entity != null) {
+					entities.put(id, entity);
+				} else if (id != null) {
+					idsToLookup.add(id);
+				}
+			}
+
+			if (!idsToLookup.isEmpty()) {
+
+				EntityInformation<Object, ?> information = repositories.getEntityInformationFor(domainType);
+				RepositoryInvoker invoker = repositoryInvokerFactory.getInvokerFor(domainType);
+
+				for (Object entity : findAll(invoker, idsToLookup)) {
+
+					Object id = information.getId(entity);
+					entities.put(id, entity);
+
+					if (cache != null) {
+						cache.put(new EntityKey(domainType, id), entity);
+					}
+				}
+			}
+
+			List<Object> result = new ArrayList<Object>(ids.size());
+
+			for (Serializable id : ids) {
+				result.add(id == null ? null : entities.get(id));
+			}
+
+			return result;
+		}
+
+		/**
+		 * Looks up the entities with the given identifiers in a single invocation if the given
+		 * {@link RepositoryInvoker} is a {@link BulkRepositoryInvoker} and one by one otherwise.
+		 * 
+		 * @param invoker must not be {@literal null}.
+		 * @param ids must not be {@literal null}.
+		 * @return
+		 */
+		private Iterable<Object> findAll(RepositoryInvoker invoker, Collection<Serializable> ids) {
+
+			if (invoker instanceof BulkRepositoryInvoker) {
+				return ((BulkRepositoryInvoker) invoker).invokeFindAllById(ids);
+			}
+
+			List<Object> result = new ArrayList<Object>(ids.size());
+
+			for (Serializable id : ids) {
+
+				Object entity = invoker.invokeFindOne(id);
+
+				if (entity != null) {
+					result.add(entity);
+				}
+			}
+
+			return result;
 		}
 
 		/*
@@ -179,6 +348,70 @@ public class DomainClassConverter<T extends ConversionService & ConverterRegistr
 		}
 	}
 
+	/**
+	 * Converter to create {@link Collection}s of domain types from arrays or {@link Collection}s of sources that can be
+	 * converted into the domain types identifier type. Resolves all domain objects using a single repository
+	 * invocation.
+	 *
+	 * @author Oliver Gierke
+	 * @since 1.13
+	 */
+	private class ToEntityCollectionConverter implements ConditionalGenericConverter {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.core.convert.converter.GenericConverter#getConvertibleTypes()
+		 */
+		@Override
+		public Set<ConvertiblePair> getConvertibleTypes() {
+
+			Set<ConvertiblePair> pairs = new HashSet<ConvertiblePair>(2);
+			pairs.add(new ConvertiblePair(Object[].class, Collection.class));
+			pairs.add(new ConvertiblePair(Collection.class, Collection.class));
+
+			return pairs;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.core.convert.converter.GenericConverter#convert(java.lang.Object, org.springframework.core.convert.TypeDescriptor, org.springframework.core.convert.TypeDescriptor)
+		 */
+		@Override
+		public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+
+			if (source == null) {
+				return null;
+			}
+
+			Collection<?> sources = source instanceof Collection ? (Collection<?>) source
+					: Arrays.asList(ObjectUtils.toObjectArray(source));
+			Class<?> domainType = targetType.getElementTypeDescriptor().getType();
+
+			Collection<Object> result = CollectionFactory.createCollection(targetType.getType(), domainType,
+					sources.size());
+			result.addAll(toEntityConverter.convertAll(sources, domainType));
+
+			return result;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.core.convert.converter.ConditionalConverter#matches(org.springframework.core.convert.TypeDescriptor, org.springframework.core.convert.TypeDescriptor)
+		 */
+		@Override
+		public boolean matches(TypeDescriptor sourceType, TypeDescriptor targetType) {
+
+			if (!isEntityCollection(targetType)) {
+				return false;
+			}
+
+			TypeDescriptor sourceElementType = sourceType.getElementTypeDescriptor();
+
+			return sourceElementType == null
+					|| toEntityConverter.matches(sourceElementType, targetType.getElementTypeDescriptor());
+		}
+	}
+
 	/**
 	 * Converter to turn domain types into their identifiers or any transitively convertible type.
 	 *
@@ -239,4 +472,88 @@ public class DomainClassConverter<T extends ConversionService & ConverterRegistr
 					|| conversionService.canConvert(rawIdType, targetType.getType());
 		}
 	}
+
+	/**
+	 * Key to cache domain objects by their type and identifier.
+	 *
+	 * @author Oliver Gierke
+	 * @since 1.13
+	 */
+	private static final class EntityKey {
+
+		private final Class<?> type;
+		private final Object id;
+
+		public EntityKey(Class<?> type, Object id) {
+
+			this.type = type;
+			this.id = id;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof EntityKey)) {
+				return false;
+			}
+
+			EntityKey that = (EntityKey) obj;
+
+			return this.type.equals(that.type) && ObjectUtils.nullSafeEquals(this.id, that.id);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return 31 * type.hashCode() + ObjectUtils.nullSafeHashCode(id);
+		}
+	}
+
+	/**
+	 * Stores the domain object cache in the attributes of the current web request. Only to be used if Spring's
+	 * {@link RequestContextHolder} is present on the classpath.
+	 *
+	 * @author Oliver Gierke
+	 * @since 1.13
+	 */
+	private static class RequestScopedEntityCache {
+
+		private static final String ATTRIBUTE = DomainClassConverter.class.getName() + ".ENTITY_CACHE";
+
+		/**
+		 * Returns the cache bound to the current request or {@literal null} if we're not within a request.
+		 * 
+		 * @return
+		 */
+		@SuppressWarnings("unchecked")
+		public static Map<EntityKey, Object> get() {
+
+			RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+			if (attributes == null) {
+				return null;
+			}
+
+			Map<EntityKey, Object> cache = (Map<EntityKey, Object>) attributes.getAttribute(ATTRIBUTE,
+					RequestAttributes.SCOPE_REQUEST);
+
+			if (cache == null) {
+				cache = new ConcurrentHashMap<EntityKey, Object>();
+				attributes.setAttribute(ATTRIBUTE, cache, RequestAttributes.SCOPE_REQUEST);
+			}
+
+			return cache;
+		}
+	}
 }
@@ -16,7 +16,13 @@
 package org.springframework.data.repository.support;
 
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
+import org.springframework.data.domain.CappedPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -27,6 +33,7 @@ import org.springframework.util.Assert;
  * are cheaper than {@code COUNT} queries and so some cases can take advantage of optimizations.
  *
  * @author Mark Paluch
+ * @author Oliver Gierke
  * @since 1.13
  */
 public abstract class PageableExecutionUtils {
@@ -48,20 +55,160 @@ public abstract class PageableExecutionUtils {
 		Assert.notNull(content, "Content must not be null!");
 		Assert.notNull(totalSupplier, "TotalSupplier must not be null!");
 
-		if (pageable == null || pageable.getOffset() == 0) {
+		if (!requiresTotal(content, pageable)) {
+			return new PageImpl<T>(content, pageable, getTotalFromContent(content, pageable));
+		}
+
+		return new PageImpl<T>(content, pageable, totalSupplier.get());
+	}
+
+	/**
+	 * Constructs a {@link Page} based on the given {@code content}, {@link Pageable} and a {@link Future} of the total
+	 * count that might have been started concurrently to the content query. The {@link Future} is cancelled if the
+	 * total can be determined based on the result size and {@link Pageable}.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param pageable can be {@literal null}.
+	 * @param total must not be {@literal null}.
+	 * @return the {@link Page}.
+	 */
+	public static <T> Page<T> getPage(List<T> content, Pageable pageable, Future<Long> total) {
+
+		Assert.notNull(content, "Content must not be null!");
+		Assert.notNull(total, "Total must not be null!");
+
+		if (!requiresTotal(content, pageable)) {
+
+			total.cancel(false);
+			return new PageImpl<T>(content, pageable, getTotalFromContent(content, pageable));
+		}
+
+		return new PageImpl<T>(content, pageable, getTotal(total));
+	}
+
+	/**
+	 * Constructs a {@link Page} running the count query on the given {@link Executor} concurrently to the content query,
+	 * which is executed in the calling thread. The construction of {@link Page} discards the total count if it can be
+	 * determined based on the result size and {@link Pageable}. This trades an additional, potentially unnecessary count
+	 * query against the latency of executing both queries sequentially.
+	 * <p>
+	 * Note that the count query runs in a thread of the {@link Executor}, i.e. outside the caller's thread and thus
+	 * without access to thread-bound resources like the caller's transaction or {@code EntityManager}. The
+	 * {@link TotalSupplier} has to obtain all resources it needs itself.
+	 *
+	 * @param contentSupplier must not be {@literal null}.
+	 * @param pageable can be {@literal null}.
+	 * @param totalSupplier must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @return the {@link Page}.
+	 */
+	public static <T> Page<T> getPage(ContentSupplier<T> contentSupplier, Pageable pageable,
+			final TotalSupplier totalSupplier, Executor executor) {
+
+		Assert.notNull(contentSupplier, "ContentSupplier must not be null!");
+		Assert.notNull(totalSupplier, "TotalSupplier must not be null!");
+		Assert.notNull(executor, "Executor must not be null!");
 
-			if (pageable == null || pageable.getPageSize() > content.size()) {
-				return new PageImpl<T>(content, pageable, content.size());
+		FutureTask<Long> total = new FutureTask<Long>(new Callable<Long>() {
+
+			@Override
+			public Long call() {
+				return totalSupplier.get();
 			}
+		});
 
-			return new PageImpl<T>(content, pageable, totalSupplier.get());
+		if (pageable != null) {
+			executor.execute(total);
 		}
 
-		if (content.size() != 0 && pageable.getPageSize() > content.size()) {
-			return new PageImpl<T>(content, pageable, pageable.getOffset() + content.size());
+		List<T> content;
+
+		try {
+			content = contentSupplier.get();
+		} catch (RuntimeException o_O) {
+
+			total.cancel(false);
+			throw o_O;
 		}
 
-		return new PageImpl<T>(content, pageable, totalSupplier.get());
+		return getPage(content, pageable, total);
+	}
+
+	/**
+	 * Constructs a {@link Page} based on the given {@code content}, {@link Pageable} and {@link CappedTotalSupplier}
+	 * counting at most {@code maxTotal} elements. If the count reaches the limit, the {@link Page} reports the limit as
+	 * lower bound of the total (see {@link CappedPage#isTotalExact()}), which bounds the cost of counting large
+	 * results. The limit is raised to cover the requested page if necessary so that {@link Page#hasNext()} stays
+	 * accurate.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param pageable can be {@literal null}.
+	 * @param totalSupplier must not be {@literal null}.
+	 * @param maxTotal the maximum number of elements to count, must be greater than zero.
+	 * @return the {@link CappedPage}.
+	 */
+	public static <T> CappedPage<T> getPage(List<T> content, Pageable pageable, CappedTotalSupplier totalSupplier,
+			long maxTotal) {
+
+		Assert.notNull(content, "Content must not be null!");
+		Assert.notNull(totalSupplier, "TotalSupplier must not be null!");
+		Assert.isTrue(maxTotal > 0, "Maximum total must be greater than zero!");
+
+		if (!requiresTotal(content, pageable)) {
+			return new PageImpl<T>(content, pageable, getTotalFromContent(content, pageable));
+		}
+
+		long limit = Math.max(maxTotal, pageable.getOffset() + pageable.getPageSize() + 1);
+		long total = totalSupplier.get(limit);
+
+		return total < limit ? new PageImpl<T>(content, pageable, total) //
+				: new PageImpl<T>(content, pageable, limit, false);
+	}
+
+	/**
+	 * Returns whether the total count needs to be obtained from a count query as it cannot be derived from the given
+	 * content and {@link Pageable}.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param pageable can be {@literal null}.
+	 * @return
+	 */
+	private static boolean requiresTotal(List<?> content, Pageable pageable) {
+
+		if (pageable == null || pageable.getOffset() == 0) {
+			return pageable != null && pageable.getPageSize() <= content.size();
+		}
+
+		return content.size() == 0 || pageable.getPageSize() <= content.size();
+	}
+
+	private static long getTotalFromContent(List<?> content, Pageable pageable) {
+		return pageable == null ? content.size() : pageable.getOffset() + content.size();
+	}
+
+	private static long getTotal(Future<Long> total) {
+
+		try {
+			return total.get();
+		} catch (InterruptedException o_O) {
+
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for the total count!", o_O);
+
+		} catch (ExecutionException o_O) {
+
+			Throwable cause = o_O.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw new IllegalStateException("Failed to obtain the total count!", cause);
+		}
 	}
 
 	/**
@@ -76,4 +223,35 @@ public abstract class PageableExecutionUtils {
 		 */
 		long get();
 	}
+
+	/**
+	 * Supplies the total count for a particular query counting at most a given number of elements, e.g. by limiting the
+	 * rows scanned by the count query.
+	 *
+	 * @author Oliver Gierke
+	 * @since 1.13
+	 */
+	public interface CappedTotalSupplier {
+
+		/**
+		 * @param limit the maximum number of elements to count.
+		 * @return the total count for a particular query or any value greater than or equal to {@code limit} if there are
+		 *         at least {@code limit} elements.
+		 */
+		long get(long limit);
+	}
+
+	/**
+	 * Supplies the content for a particular query.
+	 *
+	 * @author Oliver Gierke
+	 * @since 1.13
+	 */
+	public interface ContentSupplier<T> {
+
+		/**
+		 * @return the content for a particular query, must not be {@literal null}.
+		 */
+		List<T> get();
+	}
 }
@@ -17,10 +17,11 @@ package org.springframework.data.repository.support;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentMap;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.core.convert.ConversionException;
@@ -28,12 +29,13 @@ import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.core.BulkCrudMethods;
 import org.springframework.data.repository.core.CrudMethods;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.Param;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
-import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
@@ -44,15 +46,18 @@ import org.springframework.util.StringUtils;
  * @author Oliver Gierke
  * @since 1.10
  */
-class ReflectionRepositoryInvoker implements RepositoryInvoker {
+class ReflectionRepositoryInvoker implements BulkRepositoryInvoker {
 
 	private static final AnnotationAttribute PARAM_ANNOTATION = new AnnotationAttribute(Param.class);
 	private static final String NAME_NOT_FOUND = "Unable to detect parameter names for query method %s! Use @Param or compile with -parameters on JDK 8.";
 
 	private final Object repository;
 	private final CrudMethods methods;
+	private final BulkCrudMethods bulkMethods;
 	private final Class<? extends Serializable> idType;
 	private final ConversionService conversionService;
+	private final boolean deleteById;
+	private final ConcurrentMap<Method, QueryMethodInvocationPlan> invocationPlans;
 
 	/**
 	 * Creates a new {@link ReflectionRepositoryInvoker} for the given repository, {@link RepositoryMetadata} and
@@ -71,8 +76,15 @@ class ReflectionRepositoryInvoker implements RepositoryInvoker {
 
 		this.repository = repository;
 		this.methods = metadata.getCrudMethods();
+		this.bulkMethods = methods instanceof BulkCrudMethods ? (BulkCrudMethods) methods : null;
 		this.idType = metadata.getIdType();
 		this.conversionService = conversionService;
+		this.invocationPlans = new ConcurrentReferenceHashMap<Method, QueryMethodInvocationPlan>();
+
+		Method deleteMethod = methods.getDeleteMethod();
+		Class<?> parameterType = deleteMethod == null ? null : deleteMethod.getParameterTypes()[0];
+
+		this.deleteById = parameterType != null && Arrays.asList(idType, Serializable.class).contains(parameterType);
 	}
 
 	/* 
@@ -154,103 +166,167 @@ class ReflectionRepositoryInvoker implements RepositoryInvoker {
 	 * @see org.springframework.data.rest.core.invoke.RepositoryInvoker#invokeDelete(java.io.Serializable)
 	 */
 	@Override
-	@SuppressWarnings("unchecked")
 	public void invokeDelete(Serializable id) {
 
 		Assert.notNull(id, "Identifier must not be null!");
 		Assert.state(hasDeleteMethod(), "Repository doesn't have a delete-method declared!");
 
 		Method method = methods.getDeleteMethod();
-		Class<?> parameterType = method.getParameterTypes()[0];
-		List<Class<? extends Serializable>> idTypes = Arrays.asList(idType, Serializable.class);
 
-		if (idTypes.contains(parameterType)) {
+		if (deleteById) {
 			invoke(method, convertId(id));
 		} else {
 			invoke(method, invokeFindOne(id));
 		}
 	}
 
-	/* 
+	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeQueryMethod(java.lang.reflect.Method, java.util.Map, org.springframework.data.domain.Pageable, org.springframework.data.domain.Sort)
+	 * @see org.springframework.data.repository.support.BulkRepositoryInvoker#hasFindAllByIdMethod()
 	 */
 	@Override
-	public Object invokeQueryMethod(Method method, Map<String, String[]> parameters, Pageable pageable, Sort sort) {
+	public boolean hasFindAllByIdMethod() {
+		return bulkMethods != null && bulkMethods.hasFindAllByIdMethod();
+	}
 
-		Assert.notNull(method, "Method must not be null!");
-		Assert.notNull(parameters, "Parameters must not be null!");
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.BulkRepositoryInvoker#invokeFindAllById(java.lang.Iterable)
+	 */
+	@Override
+	public Iterable<Object> invokeFindAllById(Iterable<? extends Serializable> ids) {
 
-		MultiValueMap<String, String> forward = new LinkedMultiValueMap<String, String>(parameters.size());
+		Assert.notNull(ids, "Identifiers must not be null!");
 
-		for (Entry<String, String[]> entry : parameters.entrySet()) {
-			forward.put(entry.getKey(), Arrays.asList(entry.getValue()));
+		if (hasFindAllByIdMethod()) {
+			return invoke(bulkMethods.getFindAllByIdMethod(), convertIds(ids));
 		}
 
-		return invokeQueryMethod(method, forward, pageable, sort);
+		Assert.state(hasFindOneMethod(), "Repository doesn't have a find-all-by-id- or find-one-method declared!");
+
+		List<Object> result = new ArrayList<Object>();
+
+		for (Serializable id : ids) {
+
+			Object entity = invokeFindOne(id);
+
+			if (entity != null) {
+				result.add(entity);
+			}
+		}
+
+		return result;
 	}
 
 	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.data.rest.core.invoke.RepositoryInvoker#invokeQueryMethod(java.lang.reflect.Method, java.util.Map, org.springframework.data.domain.Pageable, org.springframework.data.domain.Sort)
+	 * @see org.springframework.data.repository.support.BulkRepositoryInvoker#hasSaveAllMethod()
 	 */
 	@Override
-	public Object invokeQueryMethod(Method method, MultiValueMap<String, ? extends Object> parameters, Pageable pageable,
-			Sort sort) {
+	public boolean hasSaveAllMethod() {
+		return bulkMethods != null && bulkMethods.hasSaveAllMethod();
+	}
 
-		Assert.notNull(method, "Method must not be null!");
-		Assert.notNull(parameters, "Parameters must not be null!");
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.BulkRepositoryInvoker#invokeSaveAll(java.lang.Iterable)
+	 */
+	@Override
+	public <T> Iterable<T> invokeSaveAll(Iterable<T> objects) {
 
-		ReflectionUtils.makeAccessible(method);
+		Assert.notNull(objects, "Objects must not be null!");
 
-		return invoke(method, prepareParameters(method, parameters, pageable, sort));
-	}
+		if (hasSaveAllMethod()) {
+			return invoke(bulkMethods.getSaveAllMethod(), objects);
+		}
 
-	private Object[] prepareParameters(Method method, MultiValueMap<String, ? extends Object> rawParameters,
-			Pageable pageable, Sort sort) {
+		Assert.state(hasSaveMethod(), "Repository doesn't have a save-all- or save-method declared!");
 
-		List<MethodParameter> parameters = new MethodParameters(method, PARAM_ANNOTATION).getParameters();
+		List<T> result = new ArrayList<T>();
 
-		if (parameters.isEmpty()) {
-			return new Object[0];
+		for (T object : objects) {
+			result.add(invokeSave(object));
 		}
 
-		Object[] result = new Object[parameters.size()];
-		Sort sortToUse = pageable == null ? sort : pageable.getSort();
-
-		for (int i = 0; i < result.length; i++) {
+		return result;
+	}
 
-			MethodParameter param = parameters.get(i);
-			Class<?> targetType = param.getParameterType();
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.BulkRepositoryInvoker#hasDeleteAllMethod()
+	 */
+	@Override
+	public boolean hasDeleteAllMethod() {
+		return bulkMethods != null && bulkMethods.hasDeleteAllMethod() && bulkMethods.hasFindAllByIdMethod();
+	}
 
-			if (Pageable.class.isAssignableFrom(targetType)) {
-				result[i] = pageable;
-			} else if (Sort.class.isAssignableFrom(targetType)) {
-				result[i] = sortToUse;
-			} else {
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.BulkRepositoryInvoker#invokeDeleteAll(java.lang.Iterable)
+	 */
+	@Override
+	public void invokeDeleteAll(Iterable<? extends Serializable> ids) {
 
-				String parameterName = param.getParameterName();
+		Assert.notNull(ids, "Identifiers must not be null!");
 
-				if (!StringUtils.hasText(parameterName)) {
-					throw new IllegalArgumentException(String.format(NAME_NOT_FOUND, ClassUtils.getQualifiedMethodName(method)));
-				}
+		if (hasDeleteAllMethod()) {
+			invoke(bulkMethods.getDeleteAllMethod(), invokeFindAllById(ids));
+			return;
+		}
 
-				Object value = unwrapSingleElement(rawParameters.get(parameterName));
+		Assert.state(hasDeleteMethod(), "Repository doesn't have a delete-method declared!");
 
-				result[i] = targetType.isInstance(value) ? value : convert(value, param);
-			}
+		for (Serializable id : ids) {
+			invokeDelete(id);
 		}
+	}
 
-		return result;
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeQueryMethod(java.lang.reflect.Method, java.util.Map, org.springframework.data.domain.Pageable, org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public Object invokeQueryMethod(Method method, Map<String, String[]> parameters, Pageable pageable, Sort sort) {
+
+		Assert.notNull(method, "Method must not be null!");
+		Assert.notNull(parameters, "Parameters must not be null!");
+
+		return invoke(method, getInvocationPlan(method).prepareArguments(parameters, pageable, sort));
 	}
 
-	private Object convert(Object value, MethodParameter parameter) {
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.RepositoryInvoker#invokeQueryMethod(java.lang.reflect.Method, java.util.Map, org.springframework.data.domain.Pageable, org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public Object invokeQueryMethod(Method method, MultiValueMap<String, ? extends Object> parameters, Pageable pageable,
+			Sort sort) {
 
-		try {
-			return conversionService.convert(value, TypeDescriptor.forObject(value), new TypeDescriptor(parameter));
-		} catch (ConversionException o_O) {
-			throw new QueryMethodParameterConversionException(value, parameter, o_O);
+		Assert.notNull(method, "Method must not be null!");
+		Assert.notNull(parameters, "Parameters must not be null!");
+
+		return invoke(method, getInvocationPlan(method).prepareArguments(parameters, pageable, sort));
+	}
+
+	/**
+	 * Returns the {@link QueryMethodInvocationPlan} for the given query method, creating and caching it on first
+	 * access.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	private QueryMethodInvocationPlan getInvocationPlan(Method method) {
+
+		QueryMethodInvocationPlan plan = invocationPlans.get(method);
+
+		if (plan != null) {
+			return plan;
 		}
+
+		plan = new QueryMethodInvocationPlan(method);
+		QueryMethodInvocationPlan existing = invocationPlans.putIfAbsent(method, plan);
+
+		return existing == null ? plan : existing;
 	}
 
 	/**
@@ -277,6 +353,25 @@ class ReflectionRepositoryInvoker implements RepositoryInvoker {
 		return conversionService.convert(id, idType);
 	}
 
+	/**
+	 * Converts the given ids into the id type of the backing repository.
+	 * 
+	 * @param ids must not be {@literal null}.
+	 * @return
+	 */
+	protected List<Serializable> convertIds(Iterable<? extends Serializable> ids) {
+
+		Assert.notNull(ids, "Identifiers must not be null!");
+
+		List<Serializable> result = new ArrayList<Serializable>();
+
+		for (Serializable id : ids) {
+			result.add(convertId(id));
+		}
+
+		return result;
+	}
+
 	protected Iterable<Object> invokeFindAllReflectively(Pageable pageable) {
 
 		Assert.state(hasFindAllMethod(), "Repository doesn't have a find-all-method declared!");
@@ -312,12 +407,124 @@ class ReflectionRepositoryInvoker implements RepositoryInvoker {
 	}
 
 	/**
-	 * Unwraps the first item if the given source has exactly one element.
+	 * Unwraps the first item if the given source {@link List} or array has exactly one element. Arrays with more than
+	 * one element are turned into a {@link List}.
 	 * 
 	 * @param source can be {@literal null}.
 	 * @return
 	 */
-	private static Object unwrapSingleElement(List<? extends Object> source) {
-		return source == null ? null : source.size() == 1 ? source.get(0) : source;
+	private static Object unwrapSingleElement(Object source) {
+
+		if (source instanceof List) {
+
+			List<?> list = (List<?>) source;
+			return list.size() == 1 ? list.get(0) : list;
+		}
+
+		if (source instanceof Object[]) {
+
+			Object[] array = (Object[]) source;
+			return array.length == 1 ? array[0] : Arrays.asList(array);
+		}
+
+		return source;
+	}
+
+	/**
+	 * The information needed to invoke a query method derived once from the {@link Method}: the parameters to bind the
+	 * {@link Pageable} and {@link Sort} to as well as the names and {@link TypeDescriptor}s of the ones to be populated
+	 * from the request parameters.
+	 * 
+	 * @author Oliver Gierke
+	 * @since 1.13
+	 */
+	private class QueryMethodInvocationPlan {
+
+		private final MethodParameter[] methodParameters;
+		private final TypeDescriptor[] descriptors;
+		private final String[] names;
+		private final boolean[] pageables, sorts;
+
+		/**
+		 * Creates a new {@link QueryMethodInvocationPlan} for the given query method.
+		 * 
+		 * @param method must not be {@literal null}.
+		 * @throws IllegalArgumentException in case the name of a parameter cannot be detected.
+		 */
+		public QueryMethodInvocationPlan(Method method) {
+
+			List<MethodParameter> parameters = new MethodParameters(method, PARAM_ANNOTATION).getParameters();
+			int size = parameters.size();
+
+			this.methodParameters = parameters.toArray(new MethodParameter[size]);
+			this.descriptors = new TypeDescriptor[size];
+			this.names = new String[size];
+			this.pageables = new boolean[size];
+			this.sorts = new boolean[size];
+
+			for (int i = 0; i < size; i++) {
+
+				MethodParameter parameter = methodParameters[i];
+				Class<?> type = parameter.getParameterType();
+
+				pageables[i] = Pageable.class.isAssignableFrom(type);
+				sorts[i] = !pageables[i] && Sort.class.isAssignableFrom(type);
+
+				if (pageables[i] || sorts[i]) {
+					continue;
+				}
+
+				String name = parameter.getParameterName();
+
+				if (!StringUtils.hasText(name)) {
+					throw new IllegalArgumentException(
+							String.format(NAME_NOT_FOUND, ClassUtils.getQualifiedMethodName(method)));
+				}
+
+				this.names[i] = name;
+				this.descriptors[i] = new TypeDescriptor(parameter);
+			}
+
+			ReflectionUtils.makeAccessible(method);
+		}
+
+		/**
+		 * Prepares the arguments to invoke the query method with. The given parameters can either be a
+		 * {@link MultiValueMap} or a {@link Map} of {@link String} arrays.
+		 * 
+		 * @param parameters must not be {@literal null}.
+		 * @param pageable can be {@literal null}.
+		 * @param sort can be {@literal null}.
+		 * @return
+		 */
+		public Object[] prepareArguments(Map<String, ?> parameters, Pageable pageable, Sort sort) {
+
+			Object[] result = new Object[methodParameters.length];
+			Sort sortToUse = pageable == null ? sort : pageable.getSort();
+
+			for (int i = 0; i < result.length; i++) {
+
+				if (pageables[i]) {
+					result[i] = pageable;
+				} else if (sorts[i]) {
+					result[i] = sortToUse;
+				} else {
+
+					Object value = unwrapSingleElement(parameters.get(names[i]));
+					result[i] = descriptors[i].getType().isInstance(value) ? value : convert(value, i);
+				}
+			}
+
+			return result;
+		}
+
+		private Object convert(Object value, int index) {
+
+			try {
+				return conversionService.convert(value, TypeDescriptor.forObject(value), descriptors[index]);
+			} catch (ConversionException o_O) {
+				throw new QueryMethodParameterConversionException(value, methodParameters[index], o_O);
+			}
+		}
 	}
 }
@@ -35,9 +35,12 @@ import org.springframework.data.repository.core.support.RepositoryFactoryInforma
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
- * Wrapper class to access repository instances obtained from a {@link ListableBeanFactory}.
+ * Wrapper class to access repository instances obtained from a {@link ListableBeanFactory}. The lookup index is built
+ * once on construction and not modified afterwards, the resolution of proxy classes and subclasses to the domain types
+ * managed by repositories is cached so that lookups don't need any synchronization.
  * 
  * @author Oliver Gierke
  * @author Thomas Darimont
@@ -49,10 +52,12 @@ public class Repositories implements Iterable<Class<?>> {
 
 	private static final RepositoryFactoryInformation<Object, Serializable> EMPTY_REPOSITORY_FACTORY_INFO = EmptyRepositoryFactoryInformation.INSTANCE;
 	private static final String DOMAIN_TYPE_MUST_NOT_BE_NULL = "Domain type must not be null!";
+	private static final Class<?> NO_MANAGED_TYPE = Void.class;
 
 	private final BeanFactory beanFactory;
 	private final Map<Class<?>, String> repositoryBeanNames;
 	private final Map<Class<?>, RepositoryFactoryInformation<Object, Serializable>> repositoryFactoryInfos;
+	private final Map<Class<?>, Class<?>> managedTypes;
 
 	/**
 	 * Constructor to create the {@link #NONE} instance.
@@ -62,6 +67,7 @@ public class Repositories implements Iterable<Class<?>> {
 		this.beanFactory = null;
 		this.repositoryBeanNames = Collections.<Class<?>, String> emptyMap();
 		this.repositoryFactoryInfos = Collections.<Class<?>, RepositoryFactoryInformation<Object, Serializable>> emptyMap();
+		this.managedTypes = new ConcurrentReferenceHashMap<Class<?>, Class<?>>();
 	}
 
 	/**
@@ -74,23 +80,25 @@ public class Repositories implements Iterable<Class<?>> {
 
 		Assert.notNull(factory);
 
-		this.beanFactory = factory;
-		this.repositoryFactoryInfos = new HashMap<Class<?>, RepositoryFactoryInformation<Object, Serializable>>();
-		this.repositoryBeanNames = new HashMap<Class<?>, String>();
-
-		populateRepositoryFactoryInformation(factory);
-	}
-
-	private void populateRepositoryFactoryInformation(ListableBeanFactory factory) {
+		Map<Class<?>, RepositoryFactoryInformation<Object, Serializable>> repositoryFactoryInfos =
+				new HashMap<Class<?>, RepositoryFactoryInformation<Object, Serializable>>();
+		Map<Class<?>, String> repositoryBeanNames = new HashMap<Class<?>, String>();
 
 		for (String name : BeanFactoryUtils.beanNamesForTypeIncludingAncestors(factory, RepositoryFactoryInformation.class,
 				false, false)) {
-			cacheRepositoryFactory(name);
+			cacheRepositoryFactory(factory, name, repositoryFactoryInfos, repositoryBeanNames);
 		}
+
+		this.beanFactory = factory;
+		this.repositoryFactoryInfos = Collections.unmodifiableMap(repositoryFactoryInfos);
+		this.repositoryBeanNames = Collections.unmodifiableMap(repositoryBeanNames);
+		this.managedTypes = new ConcurrentReferenceHashMap<Class<?>, Class<?>>();
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
-	private synchronized void cacheRepositoryFactory(String name) {
+	private static void cacheRepositoryFactory(BeanFactory beanFactory, String name,
+			Map<Class<?>, RepositoryFactoryInformation<Object, Serializable>> repositoryFactoryInfos,
+			Map<Class<?>, String> repositoryBeanNames) {
 
 		RepositoryFactoryInformation repositoryFactoryInformation = beanFactory.getBean(name,
 				RepositoryFactoryInformation.class);
@@ -106,13 +114,14 @@ public class Repositories implements Iterable<Class<?>> {
 		typesToRegister.addAll(alternativeDomainTypes);
 
 		for (Class<?> type : typesToRegister) {
-			this.repositoryFactoryInfos.put(type, repositoryFactoryInformation);
-			this.repositoryBeanNames.put(type, beanName);
+			repositoryFactoryInfos.put(type, repositoryFactoryInformation);
+			repositoryBeanNames.put(type, beanName);
 		}
 	}
 
 	/**
-	 * Returns whether we have a repository instance registered to manage instances of the given domain class.
+	 * Returns whether we have a repository instance registered to manage instances of the given domain class. Proxy
+	 * classes and subclasses of managed domain types are considered managed, too.
 	 * 
 	 * @param domainClass must not be {@literal null}.
 	 * @return
@@ -121,11 +130,12 @@ public class Repositories implements Iterable<Class<?>> {
 
 		Assert.notNull(domainClass, DOMAIN_TYPE_MUST_NOT_BE_NULL);
 
-		return repositoryFactoryInfos.containsKey(domainClass);
+		return getManagedType(domainClass) != null;
 	}
 
 	/**
-	 * Returns the repository managing the given domain class.
+	 * Returns the repository managing the given domain class. Proxy classes and subclasses of managed domain types
+	 * resolve to the repository of the managed type.
 	 * 
 	 * @param domainClass must not be {@literal null}.
 	 * @return
@@ -134,7 +144,9 @@ public class Repositories implements Iterable<Class<?>> {
 
 		Assert.notNull(domainClass, DOMAIN_TYPE_MUST_NOT_BE_NULL);
 
-		String repositoryBeanName = repositoryBeanNames.get(domainClass);
+		Class<?> managedType = getManagedType(domainClass);
+		String repositoryBeanName = managedType == null ? null : repositoryBeanNames.get(managedType);
+
 		return repositoryBeanName == null || beanFactory == null ? null : beanFactory.getBean(repositoryBeanName);
 	}
 
@@ -150,18 +162,41 @@ public class Repositories implements Iterable<Class<?>> {
 
 		Assert.notNull(domainClass, DOMAIN_TYPE_MUST_NOT_BE_NULL);
 
-		Class<?> userType = ClassUtils.getUserClass(domainClass);
-		RepositoryFactoryInformation<Object, Serializable> repositoryInfo = repositoryFactoryInfos.get(userType);
+		Class<?> managedType = getManagedType(domainClass);
+		return managedType == null ? EMPTY_REPOSITORY_FACTORY_INFO : repositoryFactoryInfos.get(managedType);
+	}
+
+	/**
+	 * Returns the domain type a repository is registered for that the given type has to be considered an instance of.
+	 * That's either the type itself, its user class in case it's a proxy class or the closest superclass managed by a
+	 * repository. Resolved types are cached.
+	 * 
+	 * @param domainClass must not be {@literal null}.
+	 * @return the managed type or {@literal null} if the given type is not managed by any repository.
+	 */
+	private Class<?> getManagedType(Class<?> domainClass) {
 
-		if (repositoryInfo != null) {
-			return repositoryInfo;
+		if (repositoryFactoryInfos.containsKey(domainClass)) {
+			return domainClass;
 		}
 
-		if (!userType.equals(Object.class)) {
-			return getRepositoryFactoryInfoFor(userType.getSuperclass());
+		Class<?> managedType = managedTypes.get(domainClass);
+
+		if (managedType == null) {
+
+			managedType = NO_MANAGED_TYPE;
+
+			for (Class<?> type = ClassUtils.getUserClass(domainClass); type != null; type = type.getSuperclass()) {
+				if (repositoryFactoryInfos.containsKey(type)) {
+					managedType = type;
+					break;
+				}
+			}
+
+			managedTypes.put(domainClass, managedType);
 		}
 
-		return EMPTY_REPOSITORY_FACTORY_INFO;
+		return managedType == NO_MANAGED_TYPE ? null : managedType;
 	}
 
 	/**
@@ -22,6 +22,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -122,6 +124,8 @@ public class ChainedTransactionManager implements PlatformTransactionManager {
 			throw new CannotCreateTransactionException(ex.getMessage(), ex);
 		}
 
+		logDurations("Began", mts.getBeginDurations());
+
 		return mts;
 	}
 
@@ -165,6 +169,8 @@ public class ChainedTransactionManager implements PlatformTransactionManager {
 			synchronizationManager.clearSynchronization();
 		}
 
+		logDurations("Committed", multiTransactionStatus.getCommitDurations());
+
 		if (commitException != null) {
 			boolean firstTransactionManagerFailed = commitExceptionTransactionManager == getLastTransactionManager();
 			int transactionState = firstTransactionManagerFailed ? HeuristicCompletionException.STATE_ROLLED_BACK
@@ -207,6 +213,18 @@ public class ChainedTransactionManager implements PlatformTransactionManager {
 		}
 	}
 
+	private static void logDurations(String action, Map<PlatformTransactionManager, Long> durations) {
+
+		if (!LOGGER.isDebugEnabled()) {
+			return;
+		}
+
+		for (Entry<PlatformTransactionManager, Long> entry : durations.entrySet()) {
+			LOGGER.debug(String.format("%s transaction of %s in %s ms.", action, entry.getKey(),
+					TimeUnit.NANOSECONDS.toMillis(entry.getValue())));
+		}
+	}
+
 	private <T> Iterable<T> reverse(Collection<T> collection) {
 
 		List<T> list = new ArrayList<T>(collection);
@@ -17,6 +17,7 @@ package org.springframework.data.transaction;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.springframework.transaction.PlatformTransactionManager;
@@ -38,6 +39,10 @@ class MultiTransactionStatus implements TransactionStatus {
 	private final PlatformTransactionManager mainTransactionManager;
 	private final Map<PlatformTransactionManager, TransactionStatus> transactionStatuses = Collections
 			.synchronizedMap(new HashMap<PlatformTransactionManager, TransactionStatus>());
+	private final Map<PlatformTransactionManager, Long> beginDurations = Collections
+			.synchronizedMap(new LinkedHashMap<PlatformTransactionManager, Long>());
+	private final Map<PlatformTransactionManager, Long> commitDurations = Collections
+			.synchronizedMap(new LinkedHashMap<PlatformTransactionManager, Long>());
 
 	private boolean newSynchonization;
 
@@ -64,13 +69,43 @@ class MultiTransactionStatus implements TransactionStatus {
 		return newSynchonization;
 	}
 
+	/**
+	 * Returns the time in nanoseconds it took the individual {@link PlatformTransactionManager}s to begin their
+	 * transactions.
+	 * 
+	 * @return will never be {@literal null}.
+	 */
+	public Map<PlatformTransactionManager, Long> getBeginDurations() {
+		return Collections.unmodifiableMap(beginDurations);
+	}
+
+	/**
+	 * Returns the time in nanoseconds it took the individual {@link PlatformTransactionManager}s to commit their
+	 * transactions, including failed attempts.
+	 * 
+	 * @return will never be {@literal null}.
+	 */
+	public Map<PlatformTransactionManager, Long> getCommitDurations() {
+		return Collections.unmodifiableMap(commitDurations);
+	}
+
 	public void registerTransactionManager(TransactionDefinition definition, PlatformTransactionManager transactionManager) {
+
+		long start = System.nanoTime();
 		getTransactionStatuses().put(transactionManager, transactionManager.getTransaction(definition));
+		beginDurations.put(transactionManager, System.nanoTime() - start);
 	}
 
 	public void commit(PlatformTransactionManager transactionManager) {
+
 		TransactionStatus transactionStatus = getTransactionStatus(transactionManager);
-		transactionManager.commit(transactionStatus);
+		long start = System.nanoTime();
+
+		try {
+			transactionManager.commit(transactionStatus);
+		} finally {
+			commitDurations.put(transactionManager, System.nanoTime() - start);
+		}
 	}
 
 	/**
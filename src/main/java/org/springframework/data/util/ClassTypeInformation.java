@@ -15,8 +15,6 @@
  */
 package org.springframework.data.util;
 
-import java.lang.ref.Reference;
-import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
@@ -29,11 +27,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * {@link TypeInformation} for a plain {@link Class}.
@@ -49,19 +48,22 @@ public class ClassTypeInformation<S> extends TypeDiscoverer<S> {
 	public static final ClassTypeInformation<Map> MAP = new ClassTypeInformation(Map.class);
 	public static final ClassTypeInformation<Object> OBJECT = new ClassTypeInformation(Object.class);
 
-	private static final Map<Class<?>, Reference<ClassTypeInformation<?>>> CACHE = Collections
-			.synchronizedMap(new WeakHashMap<Class<?>, Reference<ClassTypeInformation<?>>>());
+	private static final ConcurrentMap<Class<?>, ClassTypeInformation<?>> CACHE = new ConcurrentReferenceHashMap<Class<?>, ClassTypeInformation<?>>(
+			64);
 
 	static {
 		for (ClassTypeInformation<?> info : Arrays.asList(COLLECTION, LIST, SET, MAP, OBJECT)) {
-			CACHE.put(info.getType(), new WeakReference<ClassTypeInformation<?>>(info));
+			CACHE.put(info.getType(), info);
 		}
 	}
 
 	private final Class<S> type;
 
 	/**
-	 * Simple factory method to easily create new instances of {@link ClassTypeInformation}.
+	 * Simple factory method to easily create new instances of {@link ClassTypeInformation}. Instances are cached in a
+	 * lock-free, softly referencing cache so that lookups don't contend on a shared monitor, instances survive regular
+	 * garbage collections and cached types don't prevent their {@link ClassLoader} from being garbage collected under
+	 * memory pressure.
 	 * 
 	 * @param <S>
 	 * @param type must not be {@literal null}.
@@ -71,16 +73,16 @@ public class ClassTypeInformation<S> extends TypeDiscoverer<S> {
 
 		Assert.notNull(type, "Type must not be null!");
 
-		Reference<ClassTypeInformation<?>> cachedReference = CACHE.get(type);
-		TypeInformation<?> cachedTypeInfo = cachedReference == null ? null : cachedReference.get();
+		ClassTypeInformation<?> cachedTypeInfo = CACHE.get(type);
 
 		if (cachedTypeInfo != null) {
 			return (ClassTypeInformation<S>) cachedTypeInfo;
 		}
 
 		ClassTypeInformation<S> result = new ClassTypeInformation<S>(type);
-		CACHE.put(type, new WeakReference<ClassTypeInformation<?>>(result));
-		return result;
+		ClassTypeInformation<?> existing = CACHE.putIfAbsent(type, result);
+
+		return existing == null ? result : (ClassTypeInformation<S>) existing;
 	}
 
 	/**
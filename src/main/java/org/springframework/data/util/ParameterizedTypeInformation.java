@@ -20,6 +20,7 @@ import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -37,7 +38,8 @@ import org.springframework.util.StringUtils;
 class ParameterizedTypeInformation<T> extends ParentTypeAwareTypeInformation<T> {
 
 	private final ParameterizedType type;
-	private Boolean resolved;
+	private volatile Boolean resolved;
+	private volatile List<TypeInformation<?>> typeArguments;
 
 	/**
 	 * Creates a new {@link ParameterizedTypeInformation} for the given {@link Type} and parent {@link TypeDiscoverer}.
@@ -96,13 +98,23 @@ class ParameterizedTypeInformation<T> extends ParentTypeAwareTypeInformation<T>
 	@Override
 	public List<TypeInformation<?>> getTypeArguments() {
 
-		List<TypeInformation<?>> result = new ArrayList<TypeInformation<?>>();
+		List<TypeInformation<?>> typeArguments = this.typeArguments;
 
-		for (Type argument : type.getActualTypeArguments()) {
+		if (typeArguments != null) {
+			return typeArguments;
+		}
+
+		Type[] arguments = type.getActualTypeArguments();
+		List<TypeInformation<?>> result = new ArrayList<TypeInformation<?>>(arguments.length);
+
+		for (Type argument : arguments) {
 			result.add(createInfo(argument));
 		}
 
-		return result;
+		typeArguments = Collections.unmodifiableList(result);
+		this.typeArguments = typeArguments;
+
+		return typeArguments;
 	}
 
 	/* 
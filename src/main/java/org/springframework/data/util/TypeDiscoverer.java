@@ -54,15 +54,12 @@ class TypeDiscoverer<S> implements TypeInformation<S> {
 	private final Type type;
 	private final Map<TypeVariable<?>, Type> typeVariableMap;
 	private final Map<String, ValueHolder> fieldTypes = new ConcurrentHashMap<String, ValueHolder>();
+	private final Map<Class<?>, ValueHolder> superTypes = new ConcurrentHashMap<Class<?>, ValueHolder>();
 	private final int hashCode;
 
-	private boolean componentTypeResolved = false;
-	private TypeInformation<?> componentType;
-
-	private boolean valueTypeResolved = false;
-	private TypeInformation<?> valueType;
-
-	private Class<S> resolvedType;
+	private volatile ValueHolder componentType;
+	private volatile ValueHolder valueType;
+	private volatile Class<S> resolvedType;
 
 	/**
 	 * Creates a ne {@link TypeDiscoverer} for the given type, type variable map and parent.
@@ -103,7 +100,7 @@ class TypeDiscoverer<S> implements TypeInformation<S> {
 		}
 
 		if (fieldType instanceof Class) {
-			return new ClassTypeInformation((Class<?>) fieldType);
+			return ClassTypeInformation.from((Class<?>) fieldType);
 		}
 
 		Class<S> resolveType = resolveType(fieldType);
@@ -195,8 +192,10 @@ class TypeDiscoverer<S> implements TypeInformation<S> {
 
 		if (separatorIndex == -1) {
 
-			if (fieldTypes.containsKey(fieldname)) {
-				return fieldTypes.get(fieldname).getType();
+			ValueHolder cached = fieldTypes.get(fieldname);
+
+			if (cached != null) {
+				return cached.getType();
 			}
 
 			TypeInformation<?> propertyInformation = getPropertyInformation(fieldname);
@@ -291,11 +290,14 @@ class TypeDiscoverer<S> implements TypeInformation<S> {
 	 */
 	public Class<S> getType() {
 
+		Class<S> resolvedType = this.resolvedType;
+
 		if (resolvedType == null) {
-			this.resolvedType = resolveType(type);
+			resolvedType = resolveType(type);
+			this.resolvedType = resolvedType;
 		}
 
-		return this.resolvedType;
+		return resolvedType;
 	}
 
 	/* 
@@ -338,12 +340,14 @@ class TypeDiscoverer<S> implements TypeInformation<S> {
 	 */
 	public TypeInformation<?> getMapValueType() {
 
-		if (!valueTypeResolved) {
-			this.valueType = doGetMapValueType();
-			this.valueTypeResolved = true;
+		ValueHolder valueType = this.valueType;
+
+		if (valueType == null) {
+			valueType = ValueHolder.of(doGetMapValueType());
+			this.valueType = valueType;
 		}
 
-		return this.valueType;
+		return valueType.getType();
 	}
 
 	protected TypeInformation<?> doGetMapValueType() {
@@ -382,12 +386,14 @@ class TypeDiscoverer<S> implements TypeInformation<S> {
 	 */
 	public final TypeInformation<?> getComponentType() {
 
-		if (!componentTypeResolved) {
-			this.componentType = doGetComponentType();
-			this.componentTypeResolved = true;
+		ValueHolder componentType = this.componentType;
+
+		if (componentType == null) {
+			componentType = ValueHolder.of(doGetComponentType());
+			this.componentType = componentType;
 		}
 
-		return this.componentType;
+		return componentType.getType();
 	}
 
 	protected TypeInformation<?> doGetComponentType() {
@@ -449,6 +455,27 @@ class TypeDiscoverer<S> implements TypeInformation<S> {
 	 */
 	public TypeInformation<?> getSuperTypeInformation(Class<?> superType) {
 
+		ValueHolder cached = superTypes.get(superType);
+
+		if (cached != null) {
+			return cached.getType();
+		}
+
+		TypeInformation<?> superTypeInformation = doGetSuperTypeInformation(superType);
+		superTypes.put(superType, ValueHolder.of(superTypeInformation));
+
+		return superTypeInformation;
+	}
+
+	/**
+	 * Resolves the {@link TypeInformation} for the given super type by inspecting the generic super class and interfaces
+	 * of the current type.
+	 * 
+	 * @param superType must not be {@literal null}.
+	 * @return
+	 */
+	private TypeInformation<?> doGetSuperTypeInformation(Class<?> superType) {
+
 		Class<?> rawType = getType();
 
 		if (!superType.isAssignableFrom(rawType)) {
@@ -607,7 +634,7 @@ class TypeDiscoverer<S> implements TypeInformation<S> {
 	}
 
 	/**
-	 * Simple wrapper to be able to store {@literal null} values in a {@link ConcurrentHashMap}.
+	 * Simple wrapper to be able to store {@literal null} values in a {@link ConcurrentHashMap} or a volatile field.
 	 *
 	 * @author Oliver Gierke
 	 */
@@ -0,0 +1,424 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.web;
+
+import java.io.UnsupportedEncodingException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.KeysetScrollPosition.Direction;
+import org.springframework.data.domain.Window;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * {@link HandlerMethodArgumentResolver} to create {@link KeysetScrollPosition} instances from an opaque cursor token
+ * request parameter. Use {@link #toToken(KeysetScrollPosition)} to render the token for the position of a
+ * {@link Window} into links. Tokens are URL-safe Base64 strings that support {@link String}, {@link Number},
+ * {@link Boolean} and {@link Date} key values; values of other types are rendered as {@link String}. Missing or invalid
+ * tokens resolve to {@link KeysetScrollPosition#initial()}.
+ * <p>
+ * As the keys of a position end up in store queries, tokens are signed with an HMAC so that clients cannot tamper with
+ * them. Tokens with a missing or invalid signature are considered invalid. Unless a signing key is configured via
+ * {@link #setSigningKey(byte[])}, a random one is used, which means that tokens are only accepted by the instance that
+ * created them.
+ *
+ * @author Oliver Gierke
+ * @since 1.13
+ */
+public class KeysetScrollPositionHandlerMethodArgumentResolver implements HandlerMethodArgumentResolver {
+
+	private static final String DEFAULT_PARAMETER = "cursor";
+	private static final String ENCODING = "UTF-8";
+	private static final String ENTRY_DELIMITER = "&";
+	private static final String VALUE_DELIMITER = ":";
+	private static final String SIGNATURE_DELIMITER = ".";
+	private static final String MAC_ALGORITHM = "HmacSHA256";
+	private static final char[] BASE64_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+			.toCharArray();
+
+	private String cursorParameter = DEFAULT_PARAMETER;
+	private SecretKeySpec signingKey = new SecretKeySpec(randomKey(), MAC_ALGORITHM);
+
+	/**
+	 * Configures the request parameter to lookup the cursor token from. Defaults to {@code cursor}.
+	 *
+	 * @param cursorParameter must not be {@literal null} or empty.
+	 */
+	public void setCursorParameter(String cursorParameter) {
+
+		Assert.hasText(cursorParameter, "Cursor parameter name must not be null or empty!");
+		this.cursorParameter = cursorParameter;
+	}
+
+	/**
+	 * Configures the key to sign tokens with. Needs to be shared by all instances of an application that are supposed
+	 * to accept each other's tokens, e.g. in a clustered deployment or across restarts. Defaults to a random key.
+	 *
+	 * @param signingKey must not be {@literal null} or empty.
+	 */
+	public void setSigningKey(byte[] signingKey) {
+
+		Assert.isTrue(signingKey != null && signingKey.length > 0, "Signing key must not be null or empty!");
+		this.signingKey = new SecretKeySpec(signingKey.clone(), MAC_ALGORITHM);
+	}
+
+	/**
+	 * Returns the name of the request parameter the cursor token is looked up from.
+	 *
+	 * @return
+	 */
+	public String getCursorParameter() {
+		return cursorParameter;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.method.support.HandlerMethodArgumentResolver#supportsParameter(org.springframework.core.MethodParameter)
+	 */
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		return KeysetScrollPosition.class.equals(parameter.getParameterType());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.method.support.HandlerMethodArgumentResolver#resolveArgument(org.springframework.core.MethodParameter, org.springframework.web.method.support.ModelAndViewContainer, org.springframework.web.context.request.NativeWebRequest, org.springframework.web.bind.support.WebDataBinderFactory)
+	 */
+	@Override
+	public KeysetScrollPosition resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+			NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+		return fromToken(webRequest.getParameter(cursorParameter));
+	}
+
+	/**
+	 * Renders the given {@link KeysetScrollPosition} into an opaque, URL-safe and signed token.
+	 *
+	 * @param position must not be {@literal null}.
+	 * @return
+	 */
+	public String toToken(KeysetScrollPosition position) {
+
+		Assert.notNull(position, "KeysetScrollPosition must not be null!");
+
+		StringBuilder builder = new StringBuilder(Direction.FORWARD.equals(position.getDirection()) ? "F" : "B");
+
+		for (Entry<String, Object> entry : position.getKeys().entrySet()) {
+
+			ValueType type = ValueType.of(entry.getValue());
+
+			builder.append(ENTRY_DELIMITER).append(encode(entry.getKey()));
+			builder.append(VALUE_DELIMITER).append(type.code);
+			builder.append(VALUE_DELIMITER).append(encode(type.format(entry.getValue())));
+		}
+
+		byte[] payload = toBytes(builder.toString());
+
+		return encodeBase64(payload).concat(SIGNATURE_DELIMITER).concat(encodeBase64(sign(payload)));
+	}
+
+	/**
+	 * Parses the given token into a {@link KeysetScrollPosition}. Returns {@link KeysetScrollPosition#initial()} for
+	 * {@literal null}, empty or invalid tokens, including ones that weren't signed with the configured key.
+	 *
+	 * @param token can be {@literal null}.
+	 * @return
+	 */
+	public KeysetScrollPosition fromToken(String token) {
+
+		if (!StringUtils.hasText(token)) {
+			return KeysetScrollPosition.initial();
+		}
+
+		try {
+
+			String trimmed = token.trim();
+			int delimiterIndex = trimmed.indexOf(SIGNATURE_DELIMITER);
+
+			if (delimiterIndex < 0) {
+				return KeysetScrollPosition.initial();
+			}
+
+			byte[] payload = decodeBase64(trimmed.substring(0, delimiterIndex));
+			byte[] signature = decodeBase64(trimmed.substring(delimiterIndex + 1));
+
+			if (!MessageDigest.isEqual(sign(payload), signature)) {
+				return KeysetScrollPosition.initial();
+			}
+
+			String source = fromBytes(payload);
+			String[] entries = source.split(ENTRY_DELIMITER);
+
+			Direction direction = "B".equals(entries[0]) ? Direction.BACKWARD : Direction.FORWARD;
+			Map<String, Object> keys = new LinkedHashMap<String, Object>();
+
+			for (int i = 1; i < entries.length; i++) {
+
+				String[] parts = entries[i].split(VALUE_DELIMITER, -1);
+
+				if (parts.length != 3) {
+					return KeysetScrollPosition.initial();
+				}
+
+				keys.put(decode(parts[0]), ValueType.fromCode(parts[1]).parse(decode(parts[2])));
+			}
+
+			return KeysetScrollPosition.of(keys, direction);
+
+		} catch (IllegalArgumentException o_O) {
+			return KeysetScrollPosition.initial();
+		}
+	}
+
+	private byte[] sign(byte[] payload) {
+
+		try {
+
+			Mac mac = Mac.getInstance(MAC_ALGORITHM);
+			mac.init(signingKey);
+
+			return mac.doFinal(payload);
+
+		} catch (GeneralSecurityException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	private static byte[] randomKey() {
+
+		byte[] key = new byte[32];
+		new SecureRandom().nextBytes(key);
+
+		return key;
+	}
+
+	/**
+	 * Encodes the given bytes into unpadded URL-safe Base64 (RFC 4648, section 5).
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return
+	 */
+	private static String encodeBase64(byte[] source) {
+
+		StringBuilder builder = new StringBuilder((source.length * 4 + 2) / 3);
+
+		for (int i = 0; i < source.length; i += 3) {
+
+			int remaining = Math.min(source.length - i, 3);
+			int block = (source[i] & 0xff) << 16;
+
+			block |= remaining > 1 ? (source[i + 1] & 0xff) << 8 : 0;
+			block |= remaining > 2 ? source[i + 2] & 0xff : 0;
+
+			for (int j = 0; j <= remaining; j++) {
+				builder.append(BASE64_ALPHABET[(block >> (18 - 6 * j)) & 0x3f]);
+			}
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Decodes the given unpadded URL-safe Base64 (RFC 4648, section 5) string.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return
+	 * @throws IllegalArgumentException in case the given source is not valid Base64.
+	 */
+	private static byte[] decodeBase64(String source) {
+
+		if (source.length() % 4 == 1) {
+			throw new IllegalArgumentException("Invalid Base64 length!");
+		}
+
+		byte[] result = new byte[source.length() * 3 / 4];
+		int block = 0, bits = 0, index = 0;
+
+		for (int i = 0; i < source.length(); i++) {
+
+			int value = base64Value(source.charAt(i));
+
+			if (value < 0) {
+				throw new IllegalArgumentException(String.format("Invalid Base64 character %s!", source.charAt(i)));
+			}
+
+			block = (block << 6) | value;
+			bits += 6;
+
+			if (bits >= 8) {
+				bits -= 8;
+				result[index++] = (byte) (block >> bits);
+			}
+		}
+
+		return result;
+	}
+
+	private static int base64Value(char character) {
+
+		if (character >= 'A' && character <= 'Z') {
+			return character - 'A';
+		}
+
+		if (character >= 'a' && character <= 'z') {
+			return character - 'a' + 26;
+		}
+
+		if (character >= '0' && character <= '9') {
+			return character - '0' + 52;
+		}
+
+		return character == '-' ? 62 : character == '_' ? 63 : -1;
+	}
+
+	private static String encode(String source) {
+
+		try {
+			return URLEncoder.encode(source, ENCODING);
+		} catch (UnsupportedEncodingException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	private static String decode(String source) {
+
+		try {
+			return URLDecoder.decode(source, ENCODING);
+		} catch (UnsupportedEncodingException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	private static byte[] toBytes(String source) {
+
+		try {
+			return source.getBytes(ENCODING);
+		} catch (UnsupportedEncodingException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	private static String fromBytes(byte[] source) {
+
+		try {
+			return new String(source, ENCODING);
+		} catch (UnsupportedEncodingException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	/**
+	 * The types of key values supported in tokens.
+	 *
+	 * @author Oliver Gierke
+	 */
+	private static enum ValueType {
+
+		NULL("n", null), STRING("s", String.class), INTEGER("i", Integer.class), LONG("l", Long.class), //
+		DOUBLE("d", Double.class), FLOAT("f", Float.class), BIG_DECIMAL("D", BigDecimal.class), //
+		BIG_INTEGER("I", BigInteger.class), BOOLEAN("b", Boolean.class), DATE("t", Date.class);
+
+		private final String code;
+		private final Class<?> type;
+
+		private ValueType(String code, Class<?> type) {
+			this.code = code;
+			this.type = type;
+		}
+
+		public static ValueType of(Object value) {
+
+			if (value == null) {
+				return NULL;
+			}
+
+			for (ValueType candidate : values()) {
+				if (candidate.type != null && candidate.type.isInstance(value)) {
+					return candidate;
+				}
+			}
+
+			return STRING;
+		}
+
+		public static ValueType fromCode(String code) {
+
+			for (ValueType candidate : values()) {
+				if (candidate.code.equals(code)) {
+					return candidate;
+				}
+			}
+
+			throw new IllegalArgumentException(String.format("Invalid value type %s!", code));
+		}
+
+		public String format(Object value) {
+
+			switch (this) {
+				case NULL:
+					return "";
+				case DATE:
+					return String.valueOf(((Date) value).getTime());
+				default:
+					return value.toString();
+			}
+		}
+
+		public Object parse(String source) {
+
+			switch (this) {
+				case NULL:
+					return null;
+				case INTEGER:
+					return Integer.valueOf(source);
+				case LONG:
+					return Long.valueOf(source);
+				case DOUBLE:
+					return Double.valueOf(source);
+				case FLOAT:
+					return Float.valueOf(source);
+				case BIG_DECIMAL:
+					return new BigDecimal(source);
+				case BIG_INTEGER:
+					return new BigInteger(source);
+				case BOOLEAN:
+					return Boolean.valueOf(source);
+				case DATE:
+					return new Date(Long.parseLong(source));
+				default:
+					return source;
+			}
+		}
+	}
+}
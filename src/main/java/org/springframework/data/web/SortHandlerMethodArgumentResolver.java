@@ -16,8 +16,13 @@
 package org.springframework.data.web;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.MethodParameter;
@@ -34,7 +39,9 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 
 /**
  * {@link HandlerMethodArgumentResolver} to automatically create {@link Sort} instances from request parameters or
- * {@link SortDefault} annotations.
+ * {@link SortDefault} annotations. {@link Sort} instances parsed from request parameters are cached by the raw
+ * parameter values so that repeated sort parameters don't have to be parsed again. The cache evicts the (approximately)
+ * least recently used entries (see {@link #setSortCacheSize(int)}) and ignores overly long parameter values.
  * 
  * @since 1.6
  * @author Oliver Gierke
@@ -47,6 +54,8 @@ public class SortHandlerMethodArgumentResolver implements HandlerMethodArgumentR
 	private static final String DEFAULT_PROPERTY_DELIMITER = ",";
 	private static final String DEFAULT_QUALIFIER_DELIMITER = "_";
 	private static final Sort DEFAULT_SORT = null;
+	private static final int DEFAULT_SORT_CACHE_SIZE = 256;
+	private static final int MAX_CACHEABLE_SORT_LENGTH = 256;
 
 	private static final String SORT_DEFAULTS_NAME = SortDefaults.class.getSimpleName();
 	private static final String SORT_DEFAULT_NAME = SortDefault.class.getSimpleName();
@@ -55,6 +64,9 @@ public class SortHandlerMethodArgumentResolver implements HandlerMethodArgumentR
 	private String sortParameter = DEFAULT_PARAMETER;
 	private String propertyDelimiter = DEFAULT_PROPERTY_DELIMITER;
 	private String qualifierDelimiter = DEFAULT_QUALIFIER_DELIMITER;
+	private int sortCacheSize = DEFAULT_SORT_CACHE_SIZE;
+
+	private SortCache sortCache = new SortCache(DEFAULT_SORT_CACHE_SIZE);
 
 	/**
 	 * Configure the request parameter to lookup sort information from. Defaults to {@code sort}.
@@ -89,6 +101,22 @@ public class SortHandlerMethodArgumentResolver implements HandlerMethodArgumentR
 		this.qualifierDelimiter = qualifierDelimiter == null ? DEFAULT_QUALIFIER_DELIMITER : qualifierDelimiter;
 	}
 
+	/**
+	 * Configures the maximum number of distinct sort parameter combinations to cache the parsed {@link Sort} instances
+	 * for. Once the cache has filled up, the (approximately) least recently used combination is evicted. Defaults to
+	 * 256, use {@literal 0} to disable caching.
+	 * 
+	 * @param sortCacheSize must not be negative.
+	 * @since 1.13
+	 */
+	public void setSortCacheSize(int sortCacheSize) {
+
+		Assert.isTrue(sortCacheSize >= 0, "Sort cache size must not be negative!");
+
+		this.sortCacheSize = sortCacheSize;
+		this.sortCache = new SortCache(sortCacheSize);
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.web.method.support.HandlerMethodArgumentResolver#supportsParameter(org.springframework.core.MethodParameter)
@@ -118,7 +146,53 @@ public class SortHandlerMethodArgumentResolver implements HandlerMethodArgumentR
 			return getDefaultFromAnnotationOrFallback(parameter);
 		}
 
-		return parseParameterIntoSort(directionParameter, propertyDelimiter);
+		return getOrParseSort(directionParameter);
+	}
+
+	/**
+	 * Returns the cached {@link Sort} for the given raw parameter values or parses and caches it. Parameter values
+	 * exceeding {@value #MAX_CACHEABLE_SORT_LENGTH} characters in total are parsed but never cached.
+	 * 
+	 * @param source will never be {@literal null}.
+	 * @return
+	 */
+	private Sort getOrParseSort(String[] source) {
+
+		if (sortCacheSize == 0 || !isCacheable(source)) {
+			return parseParameterIntoSort(source, propertyDelimiter);
+		}
+
+		SortCache cache = this.sortCache;
+		SortCacheKey key = new SortCacheKey(source, propertyDelimiter);
+		Sort sort = cache.get(key);
+
+		if (sort != null) {
+			return sort;
+		}
+
+		sort = parseParameterIntoSort(source, propertyDelimiter);
+
+		if (sort != null) {
+			cache.put(key, sort);
+		}
+
+		return sort;
+	}
+
+	private static boolean isCacheable(String[] source) {
+
+		int length = 0;
+
+		for (String part : source) {
+
+			length += part == null ? 0 : part.length();
+
+			if (length > MAX_CACHEABLE_SORT_LENGTH) {
+				return false;
+			}
+		}
+
+		return true;
 	}
 
 	/**
@@ -231,7 +305,7 @@ public class SortHandlerMethodArgumentResolver implements HandlerMethodArgumentR
 			}
 		}
 
-		return allOrders.isEmpty() ? null : new Sort(allOrders);
+		return allOrders.isEmpty() ? null : new Sort(Collections.unmodifiableList(allOrders));
 	}
 
 	/**
@@ -353,6 +427,129 @@ public class SortHandlerMethodArgumentResolver implements HandlerMethodArgumentR
 		}
 	}
 
+	/**
+	 * Bounded cache of parsed {@link Sort} instances. Lookups don't lock but only record the access on the entry. Once
+	 * the maximum size is exceeded, the entry accessed least recently is evicted. As concurrent insertions might
+	 * evict entries concurrently, eviction is approximate.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	private static final class SortCache {
+
+		private final ConcurrentMap<SortCacheKey, CachedSort> cache = new ConcurrentHashMap<SortCacheKey, CachedSort>();
+		private final AtomicLong clock = new AtomicLong();
+		private final int maxSize;
+
+		/**
+		 * Creates a new {@link SortCache} holding the given maximum number of entries.
+		 * 
+		 * @param maxSize must not be negative.
+		 */
+		public SortCache(int maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		public Sort get(SortCacheKey key) {
+
+			CachedSort cached = cache.get(key);
+
+			if (cached == null) {
+				return null;
+			}
+
+			cached.lastAccess = clock.incrementAndGet();
+
+			return cached.sort;
+		}
+
+		public void put(SortCacheKey key, Sort sort) {
+
+			if (cache.putIfAbsent(key, new CachedSort(sort, clock.incrementAndGet())) != null) {
+				return;
+			}
+
+			while (cache.size() > maxSize) {
+				evictLeastRecentlyUsed();
+			}
+		}
+
+		private void evictLeastRecentlyUsed() {
+
+			Entry<SortCacheKey, CachedSort> eldest = null;
+
+			for (Entry<SortCacheKey, CachedSort> entry : cache.entrySet()) {
+				if (eldest == null || entry.getValue().lastAccess < eldest.getValue().lastAccess) {
+					eldest = entry;
+				}
+			}
+
+			if (eldest != null) {
+				cache.remove(eldest.getKey(), eldest.getValue());
+			}
+		}
+
+		private static final class CachedSort {
+
+			private final Sort sort;
+			private volatile long lastAccess;
+
+			public CachedSort(Sort sort, long lastAccess) {
+
+				this.sort = sort;
+				this.lastAccess = lastAccess;
+			}
+		}
+	}
+
+	/**
+	 * Cache key for parsed {@link Sort} instances consisting of the raw parameter values and the property delimiter used
+	 * to parse them.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	private static final class SortCacheKey {
+
+		private final String[] source;
+		private final String delimiter;
+		private final int hashCode;
+
+		public SortCacheKey(String[] source, String delimiter) {
+
+			this.source = source.clone();
+			this.delimiter = delimiter;
+			this.hashCode = 31 * Arrays.hashCode(source) + delimiter.hashCode();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof SortCacheKey)) {
+				return false;
+			}
+
+			SortCacheKey that = (SortCacheKey) obj;
+
+			return this.delimiter.equals(that.delimiter) && Arrays.equals(this.source, that.source);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
 	/**
 	 * Configures the {@link Sort} to be used as fallback in case no {@link SortDefault} or {@link SortDefaults} (the
 	 * latter only supported in legacy mode) can be found at the method parameter to be resolved.
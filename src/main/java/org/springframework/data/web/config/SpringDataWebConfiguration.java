@@ -27,6 +27,7 @@ import org.springframework.core.convert.ConversionService;
 import org.springframework.data.geo.format.DistanceFormatter;
 import org.springframework.data.geo.format.PointFormatter;
 import org.springframework.data.repository.support.DomainClassConverter;
+import org.springframework.data.web.KeysetScrollPositionHandlerMethodArgumentResolver;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.data.web.ProjectingJackson2HttpMessageConverter;
 import org.springframework.data.web.ProxyingHandlerMethodArgumentResolver;
@@ -72,6 +73,19 @@ public class SpringDataWebConfiguration extends WebMvcConfigurerAdapter {
 		return new SortHandlerMethodArgumentResolver();
 	}
 
+	/**
+	 * Returns the {@link KeysetScrollPositionHandlerMethodArgumentResolver} to bind cursor tokens to
+	 * {@link org.springframework.data.domain.KeysetScrollPosition}s. Can be injected into controllers to render the
+	 * tokens for subsequent windows.
+	 * 
+	 * @return
+	 * @since 1.13
+	 */
+	@Bean
+	public KeysetScrollPositionHandlerMethodArgumentResolver keysetScrollPositionResolver() {
+		return new KeysetScrollPositionHandlerMethodArgumentResolver();
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.web.servlet.config.annotation.WebMvcConfigurerAdapter#addFormatters(org.springframework.format.FormatterRegistry)
@@ -102,6 +116,7 @@ public class SpringDataWebConfiguration extends WebMvcConfigurerAdapter {
 
 		argumentResolvers.add(sortResolver());
 		argumentResolvers.add(pageableResolver());
+		argumentResolvers.add(keysetScrollPositionResolver());
 
 		ProxyingHandlerMethodArgumentResolver resolver = new ProxyingHandlerMethodArgumentResolver(
 				conversionService.getObject());
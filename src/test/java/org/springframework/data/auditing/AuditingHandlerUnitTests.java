@@ -18,6 +18,8 @@ package org.springframework.data.auditing;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
+import java.util.Calendar;
 import java.util.Collections;
 
 import org.junit.Before;
@@ -155,4 +157,65 @@ public class AuditingHandlerUnitTests {
 
 		verify(provider, times(1)).getNow();
 	}
+
+	@Test
+	public void setsDatesFromJsr310DateTimeProvider() {
+
+		handler.setDateTimeProvider(CurrentJsr310DateTimeProvider.INSTANCE);
+		handler.markCreated(user);
+
+		assertNotNull(user.getCreatedDate());
+		assertEquals(user.getCreatedDate(), user.getLastModifiedDate());
+	}
+
+	@Test
+	public void marksAllCreatedLookingUpAuditorAndDateOnlyOnce() {
+
+		DateTimeProvider provider = mock(DateTimeProvider.class);
+		when(provider.getNow()).thenReturn(Calendar.getInstance());
+
+		handler.setAuditorAware(auditorAware);
+		handler.setDateTimeProvider(provider);
+
+		AuditedUser first = new AuditedUser();
+		AuditedUser second = new AuditedUser();
+
+		handler.markAllCreated(Arrays.asList(first, second));
+
+		assertEquals(user, first.getCreatedBy());
+		assertEquals(user, second.getLastModifiedBy());
+		assertEquals(first.getCreatedDate(), second.getCreatedDate());
+		assertEquals(first.getLastModifiedDate(), second.getLastModifiedDate());
+
+		verify(auditorAware, times(1)).getCurrentAuditor();
+		verify(provider, times(1)).getNow();
+	}
+
+	@Test
+	public void marksAllModified() {
+
+		handler.setAuditorAware(auditorAware);
+
+		AuditedUser first = new AuditedUser();
+		first.id = 1L;
+
+		handler.markAllModified(Arrays.asList(first, null, new Object()));
+
+		assertNull(first.getCreatedBy());
+		assertNull(first.getCreatedDate());
+
+		assertNotNull(first.getLastModifiedBy());
+		assertNotNull(first.getLastModifiedDate());
+
+		verify(auditorAware, times(1)).getCurrentAuditor();
+	}
+
+	@Test
+	public void doesNotLookUpAuditorForBatchWithoutAuditableObjects() {
+
+		handler.setAuditorAware(auditorAware);
+		handler.markAllCreated(Collections.emptyList());
+
+		verify(auditorAware, never()).getCurrentAuditor();
+	}
 }
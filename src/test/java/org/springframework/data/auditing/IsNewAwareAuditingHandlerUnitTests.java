@@ -19,6 +19,8 @@ import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
+import java.util.Calendar;
 import java.util.Collections;
 
 import org.junit.Before;
@@ -72,6 +74,46 @@ public class IsNewAwareAuditingHandlerUnitTests extends AuditingHandlerUnitTests
 		assertThat(user.modifiedDate, is(notNullValue()));
 	}
 
+	@Test
+	public void routesBatchToMarkCreatedAndMarkModified() {
+
+		AuditedUser created = new AuditedUser();
+		AuditedUser modified = new AuditedUser();
+		modified.id = 1L;
+
+		getHandler().markAllAudited(Arrays.asList(created, modified));
+
+		assertThat(created.createdDate, is(notNullValue()));
+		assertThat(created.modifiedDate, is(notNullValue()));
+		assertThat(modified.createdDate, is(nullValue()));
+		assertThat(modified.modifiedDate, is(notNullValue()));
+	}
+
+	@Test
+	public void looksUpAuditorAndDateOnlyOnceForCreatedAndModifiedObjects() {
+
+		DateTimeProvider provider = mock(DateTimeProvider.class);
+		when(provider.getNow()).thenReturn(Calendar.getInstance());
+
+		IsNewAwareAuditingHandler handler = getHandler();
+		handler.setAuditorAware(auditorAware);
+		handler.setDateTimeProvider(provider);
+
+		AuditedUser created = new AuditedUser();
+		AuditedUser modified = new AuditedUser();
+		modified.id = 1L;
+
+		handler.markAllAudited(Arrays.asList(created, modified));
+
+		assertThat(created.createdBy, is(user));
+		assertThat(modified.modifiedBy, is(user));
+		assertThat(created.modifiedDate, is(notNullValue()));
+		assertThat(modified.modifiedDate, is(created.modifiedDate));
+
+		verify(auditorAware, times(1)).getCurrentAuditor();
+		verify(provider, times(1)).getNow();
+	}
+
 	/**
 	 * @see DATACMNS-365
 	 */
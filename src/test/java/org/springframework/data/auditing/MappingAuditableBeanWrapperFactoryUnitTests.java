@@ -32,6 +32,8 @@ import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.LastModifiedBy;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.auditing.DefaultAuditableBeanWrapperFactory.AuditableInterfaceBeanWrapper;
+import org.springframework.data.auditing.DefaultAuditableBeanWrapperFactory.ReflectionAuditingBeanWrapper;
+import org.springframework.data.auditing.MappingAuditableBeanWrapperFactory.MappingMetadataAuditableBeanWrapper;
 import org.springframework.data.convert.Jsr310Converters.LocalDateTimeToDateConverter;
 import org.springframework.data.domain.Auditable;
 import org.springframework.data.mapping.context.PersistentEntities;
@@ -178,6 +180,47 @@ public class MappingAuditableBeanWrapperFactoryUnitTests {
 						.convert(reference));
 	}
 
+	@Test
+	public void looksUpPersistentEntityOnlyOncePerManagedType() {
+
+		PersistentEntities entities = mock(PersistentEntities.class);
+		doReturn(new SampleMappingContext().getPersistentEntity(NoAuditing.class)).when(entities)
+				.getPersistentEntity(NoAuditing.class);
+
+		DefaultAuditableBeanWrapperFactory factory = new MappingAuditableBeanWrapperFactory(entities);
+
+		assertThat(factory.getBeanWrapperFor(new NoAuditing()), is(nullValue()));
+		assertThat(factory.getBeanWrapperFor(new NoAuditing()), is(nullValue()));
+		assertThat(factory.getBeanWrapperFor(new AnnotatedUser()), is(notNullValue()));
+		assertThat(factory.getBeanWrapperFor(new AnnotatedUser()), is(notNullValue()));
+
+		verify(entities, times(1)).getPersistentEntity(NoAuditing.class);
+		verify(entities, times(2)).getPersistentEntity(AnnotatedUser.class);
+	}
+
+	@Test
+	public void usesMappingMetadataForEntityRegisteredAfterFirstLookup() {
+
+		SampleMappingContext context = new SampleMappingContext();
+		PersistentEntities entities = new PersistentEntities(Collections.singleton(context));
+		DefaultAuditableBeanWrapperFactory factory = new MappingAuditableBeanWrapperFactory(entities);
+
+		assertThat(factory.getBeanWrapperFor(new Sample()), is(instanceOf(ReflectionAuditingBeanWrapper.class)));
+
+		context.getPersistentEntity(Sample.class);
+
+		assertThat(factory.getBeanWrapperFor(new Sample()), is(instanceOf(MappingMetadataAuditableBeanWrapper.class)));
+	}
+
+	@Test
+	public void doesNotReturnWrapperForEntityNotUsingAuditingOnRepeatedLookups() {
+
+		assertThat(factory.getBeanWrapperFor(new NoAuditing()), is(nullValue()));
+		assertThat(factory.getBeanWrapperFor(new NoAuditing()), is(nullValue()));
+		assertThat(factory.getBeanWrapperFor(new Sample()), is(notNullValue()));
+		assertThat(factory.getBeanWrapperFor(new Sample()), is(notNullValue()));
+	}
+
 	private final void assertLastModificationDate(Object source, Date expected) {
 
 		Calendar calendar = new GregorianCalendar();
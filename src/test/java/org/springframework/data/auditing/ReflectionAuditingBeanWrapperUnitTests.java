@@ -18,7 +18,11 @@ package org.springframework.data.auditing;
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 
 import org.joda.time.DateTime;
@@ -86,6 +90,28 @@ public class ReflectionAuditingBeanWrapperUnitTests {
 		assertThat(sample.modifiedDate, is(time.getMillis()));
 	}
 
+	@Test
+	public void setsDateFieldsFromInstant() {
+
+		class Sample {
+
+			@CreatedDate LocalDateTime createdDate;
+
+			@LastModifiedDate Date modifiedDate;
+		}
+
+		Sample sample = new Sample();
+		ReflectionAuditingBeanWrapper wrapper = new ReflectionAuditingBeanWrapper(sample);
+
+		Instant now = Instant.now();
+
+		wrapper.setCreatedDateValue(now);
+		assertThat(sample.createdDate, is(LocalDateTime.ofInstant(now, ZoneId.systemDefault())));
+
+		wrapper.setLastModifiedDateValue(now);
+		assertThat(sample.modifiedDate, is(Date.from(now)));
+	}
+
 	@Test
 	public void setsAuditorFieldsCorrectly() {
 
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.convert;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.FutureTask;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.context.SampleMappingContext;
+import org.springframework.data.mapping.model.ClassGeneratingPropertyAccessorFactory;
+import org.springframework.data.mapping.model.PersistentEntityFingerprint;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.FileCopyUtils;
+
+/**
+ * Unit tests for {@link PregeneratedClassWriter}.
+ *
+ * @author Mark Paluch
+ */
+public class PregeneratedClassWriterUnitTests {
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	SampleMappingContext context = new SampleMappingContext();
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullOutputDirectory() {
+		new PregeneratedClassWriter(null);
+	}
+
+	@Test
+	public void writesAccessorAndInstantiatorClassFiles() throws Exception {
+
+		PregeneratedClassWriter writer = new PregeneratedClassWriter(folder.getRoot());
+
+		List<String> classNames = writer.write(context.getPersistentEntity(Person.class));
+
+		String accessorClassName = ClassGeneratingPropertyAccessorFactory.getPregeneratedClassName(Person.class);
+		String instantiatorClassName = ClassGeneratingEntityInstantiator.getPregeneratedClassName(Person.class);
+
+		assertThat(classNames, contains(accessorClassName, instantiatorClassName));
+		assertThat(classFile(accessorClassName).isFile(), is(true));
+		assertThat(classFile(instantiatorClassName).isFile(), is(true));
+	}
+
+	@Test
+	public void skipsInstantiatorForNonPublicTypes() throws Exception {
+
+		PregeneratedClassWriter writer = new PregeneratedClassWriter(folder.getRoot());
+
+		List<String> classNames = writer.write(context.getPersistentEntity(PackagePrivatePerson.class));
+
+		assertThat(classNames,
+				contains(ClassGeneratingPropertyAccessorFactory.getPregeneratedClassName(PackagePrivatePerson.class)));
+	}
+
+	@Test
+	public void embedsFingerprintOfEntityIntoGeneratedClasses() throws Exception {
+
+		PersistentEntity<?, ?> entity = context.getPersistentEntity(Person.class);
+		PregeneratedClassWriter writer = new PregeneratedClassWriter(folder.getRoot());
+		writer.write(entity);
+
+		String className = ClassGeneratingEntityInstantiator.getPregeneratedClassName(Person.class);
+		byte[] bytecode = FileCopyUtils.copyToByteArray(classFile(className));
+		Class<?> instantiatorClass = new ByteArrayClassLoader().define(className, bytecode);
+
+		PersistentEntity<?, ?> other = context.getPersistentEntity(OtherPerson.class);
+
+		assertThat(PersistentEntityFingerprint.matches(instantiatorClass, entity), is(true));
+		assertThat(PersistentEntityFingerprint.matches(instantiatorClass, other), is(false));
+	}
+
+	@Test
+	public void fingerprintChangesWithPropertiesAndConstructor() throws Exception {
+
+		PersistentEntity<?, ?> entity = context.getPersistentEntity(EntityV1.class);
+		String fingerprint = PersistentEntityFingerprint.of(entity);
+
+		Class<?> sameType = new FixtureClassLoader(null).loadFixture(EntityV1.class, EntityV1.class);
+		Class<?> changedType = new FixtureClassLoader(null).loadFixture(EntityV2.class, EntityV1.class);
+
+		assertThat(changedType.getName(), is(EntityV1.class.getName()));
+		assertThat(PersistentEntityFingerprint.of(entity), is(fingerprint));
+		assertThat(PersistentEntityFingerprint.of(new SampleMappingContext().getPersistentEntity(sameType)),
+				is(fingerprint));
+		assertThat(PersistentEntityFingerprint.of(new SampleMappingContext().getPersistentEntity(changedType)),
+				is(not(fingerprint)));
+	}
+
+	@Test
+	public void usesPregeneratedClassesMatchingEntity() throws Exception {
+
+		new PregeneratedClassWriter(folder.getRoot()).write(context.getPersistentEntity(EntityV1.class));
+
+		Class<?> type = new FixtureClassLoader(folder.getRoot()).loadFixture(EntityV1.class, EntityV1.class);
+		PersistentEntity<?, ?> entity = new SampleMappingContext().getPersistentEntity(type);
+
+		assertThat(getAccessorClassName(entity),
+				is(ClassGeneratingPropertyAccessorFactory.getPregeneratedClassName(type)));
+		assertThat(getInstantiatorClassName(entity),
+				is(ClassGeneratingEntityInstantiator.getPregeneratedClassName(type)));
+	}
+
+	@Test
+	public void ignoresPregeneratedClassesGeneratedForDifferentStateOfEntity() throws Exception {
+
+		Class<?> changedType = new FixtureClassLoader(null).loadFixture(EntityV2.class, EntityV1.class);
+		PersistentEntity<?, ?> changedEntity = new SampleMappingContext().getPersistentEntity(changedType);
+
+		new PregeneratedClassWriter(folder.getRoot()).write(changedEntity);
+
+		Class<?> type = new FixtureClassLoader(folder.getRoot()).loadFixture(EntityV1.class, EntityV1.class);
+		PersistentEntity<?, ?> entity = new SampleMappingContext().getPersistentEntity(type);
+
+		assertThat(classFile(ClassGeneratingPropertyAccessorFactory.getPregeneratedClassName(type)).isFile(), is(true));
+		assertThat(classFile(ClassGeneratingEntityInstantiator.getPregeneratedClassName(type)).isFile(), is(true));
+
+		assertThat(getAccessorClassName(entity),
+				is(not(ClassGeneratingPropertyAccessorFactory.getPregeneratedClassName(type))));
+		assertThat(getInstantiatorClassName(entity),
+				is(not(ClassGeneratingEntityInstantiator.getPregeneratedClassName(type))));
+	}
+
+	@Test
+	public void classesWithoutFingerprintDontMatch() {
+
+		PersistentEntity<?, ?> entity = context.getPersistentEntity(Person.class);
+
+		assertThat(PersistentEntityFingerprint.matches(Person.class, entity), is(false));
+	}
+
+	private File classFile(String className) {
+		return new File(folder.getRoot(), className.replace('.', File.separatorChar).concat(".class"));
+	}
+
+	private static String getAccessorClassName(PersistentEntity<?, ?> entity) throws Exception {
+
+		Object bean = entity.getType().getConstructor(String.class).newInstance("Dave");
+
+		return new ClassGeneratingPropertyAccessorFactory().getPropertyAccessor(entity, bean).getClass().getName();
+	}
+
+	private static String getInstantiatorClassName(PersistentEntity<?, ?> entity) throws Exception {
+
+		ClassGeneratingEntityInstantiator instantiator = new ClassGeneratingEntityInstantiator();
+		instantiator.warmUp(entity);
+
+		Map<?, ?> instantiators = (Map<?, ?>) ReflectionTestUtils.getField(instantiator, "entityInstantiators");
+		Object adapter = ((FutureTask<?>) instantiators.get(entity.getTypeInformation())).get();
+
+		return ReflectionTestUtils.getField(adapter, "instantiator").getClass().getName();
+	}
+
+	public static class Person {
+
+		String firstname;
+
+		public Person(String firstname) {
+			this.firstname = firstname;
+		}
+	}
+
+	static class PackagePrivatePerson {
+		String firstname;
+	}
+
+	public static class OtherPerson {
+
+		String firstname, lastname;
+
+		public OtherPerson(String firstname, String lastname) {
+			this.firstname = firstname;
+			this.lastname = lastname;
+		}
+	}
+
+	public static class EntityV1 {
+
+		String firstname;
+
+		public EntityV1(String firstname) {
+			this.firstname = firstname;
+		}
+	}
+
+	/**
+	 * A changed version of {@link EntityV1}, loaded under the name of the latter via {@link FixtureClassLoader}.
+	 */
+	public static class EntityV2 {
+
+		String firstname, lastname;
+
+		public EntityV2(String firstname, String lastname) {
+			this.firstname = firstname;
+			this.lastname = lastname;
+		}
+	}
+
+	/**
+	 * {@link ClassLoader} to load a fixture type in isolation, optionally under the name of a different fixture type of
+	 * the same name length, and classes written to a given directory.
+	 */
+	static class FixtureClassLoader extends ClassLoader {
+
+		private final File directory;
+
+		public FixtureClassLoader(File directory) {
+
+			super(PregeneratedClassWriterUnitTests.class.getClassLoader());
+
+			this.directory = directory;
+		}
+
+		public synchronized Class<?> loadFixture(Class<?> source, Class<?> target) throws IOException {
+
+			String sourceName = source.getName().replace('.', '/');
+			String targetName = target.getName().replace('.', '/');
+
+			assertThat(sourceName.length(), is(targetName.length()));
+
+			InputStream stream = getParent().getResourceAsStream(sourceName.concat(".class"));
+			byte[] bytecode = FileCopyUtils.copyToByteArray(stream);
+
+			replace(bytecode, sourceName.getBytes("UTF-8"), targetName.getBytes("UTF-8"));
+
+			return defineClass(target.getName(), bytecode, 0, bytecode.length);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.lang.ClassLoader#loadClass(java.lang.String, boolean)
+		 */
+		@Override
+		protected synchronized Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+
+			Class<?> type = findLoadedClass(name);
+
+			if (type != null) {
+				return type;
+			}
+
+			File classFile = directory == null ? null
+					: new File(directory, name.replace('.', File.separatorChar).concat(".class"));
+
+			if (classFile == null || !classFile.isFile()) {
+				return super.loadClass(name, resolve);
+			}
+
+			try {
+				byte[] bytecode = FileCopyUtils.copyToByteArray(classFile);
+				return defineClass(name, bytecode, 0, bytecode.length);
+			} catch (IOException o_O) {
+				throw new ClassNotFoundException(name, o_O);
+			}
+		}
+
+		private static void replace(byte[] source, byte[] search, byte[] replacement) {
+
+			for (int i = 0; i <= source.length - search.length; i++) {
+
+				int j = 0;
+
+				while (j < search.length && source[i + j] == search[j]) {
+					j++;
+				}
+
+				if (j == search.length) {
+					System.arraycopy(replacement, 0, source, i, replacement.length);
+				}
+			}
+		}
+	}
+
+	static class ByteArrayClassLoader extends ClassLoader {
+
+		public ByteArrayClassLoader() {
+			super(PregeneratedClassWriterUnitTests.class.getClassLoader());
+		}
+
+		public Class<?> define(String name, byte[] bytecode) {
+			return defineClass(name, bytecode, 0, bytecode.length);
+		}
+	}
+}
@@ -19,6 +19,10 @@ import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 import static org.springframework.data.domain.UnitTestUtils.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -189,4 +193,110 @@ public class PageImplUnitTests {
 		assertThat(new PageImpl<String>(Collections.<String> emptyList(), new PageRequest(1, 10), 0).getTotalElements(),
 				is(0L));
 	}
+
+	@Test
+	public void retainsInexactTotalOnMapping() {
+
+		Page<String> page = new PageImpl<String>(Arrays.asList("foo", "bar"), new PageRequest(0, 2), 100, false);
+
+		Page<Integer> result = page.map(new Converter<String, Integer>() {
+
+			@Override
+			public Integer convert(String source) {
+				return source.length();
+			}
+		});
+
+		assertThat(result, is(instanceOf(CappedPage.class)));
+		assertThat(((CappedPage<Integer>) result).isTotalExact(), is(false));
+		assertThat(result.getTotalElements(), is(100L));
+		assertThat(new PageImpl<String>(Arrays.asList("foo")).isTotalExact(), is(true));
+	}
+
+	@Test
+	public void mapsContentLazily() {
+
+		CountingConverter converter = new CountingConverter();
+		PageImpl<String> page = new PageImpl<String>(Arrays.asList("foo", "barbar"), new PageRequest(0, 2), 10);
+
+		Page<Integer> result = page.mapLazily(converter);
+
+		assertThat(converter.invocations, is(0));
+		assertThat(result.getNumberOfElements(), is(2));
+		assertThat(result.getTotalElements(), is(10L));
+
+		assertThat(result.getContent().get(1), is(6));
+		assertThat(result.getContent().get(1), is(6));
+		assertThat(converter.invocations, is(1));
+
+		assertThat(result.getContent(), contains(3, 6));
+		assertThat(converter.invocations, is(2));
+	}
+
+	@Test
+	public void subsequentMappingOfLazilyMappedPageStaysLazy() {
+
+		CountingConverter converter = new CountingConverter();
+		PageImpl<String> page = new PageImpl<String>(Arrays.asList("foo", "barbar"), new PageRequest(0, 2), 10);
+
+		Page<String> result = page.mapLazily(converter).map(new Converter<Integer, String>() {
+
+			@Override
+			public String convert(Integer source) {
+				return source.toString();
+			}
+		});
+
+		assertThat(converter.invocations, is(0));
+		assertThat(result.getContent(), contains("3", "6"));
+		assertThat(converter.invocations, is(2));
+		assertThat(result, is((Object) new PageImpl<String>(Arrays.asList("3", "6"), new PageRequest(0, 2), 10)));
+	}
+
+	@Test
+	public void subsequentMappingReusesElementsAlreadyConverted() {
+
+		CountingConverter converter = new CountingConverter();
+		PageImpl<String> page = new PageImpl<String>(Arrays.asList("foo", "barbar"), new PageRequest(0, 2), 10);
+
+		Page<Integer> lazy = page.mapLazily(converter);
+		lazy.getContent().get(0);
+
+		Page<String> result = lazy.map(new Converter<Integer, String>() {
+
+			@Override
+			public String convert(Integer source) {
+				return source.toString();
+			}
+		});
+
+		assertThat(result.getContent(), contains("3", "6"));
+		assertThat(converter.invocations, is(2));
+	}
+
+	@Test
+	public void serializesLazilyMappedPageWithConvertedContent() throws Exception {
+
+		PageImpl<String> page = new PageImpl<String>(Arrays.asList("foo", "barbar"), new PageRequest(0, 2), 10);
+		Page<Integer> result = page.mapLazily(new CountingConverter());
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		new ObjectOutputStream(output).writeObject(result);
+
+		Object deserialized = new ObjectInputStream(new ByteArrayInputStream(output.toByteArray())).readObject();
+
+		assertThat(deserialized, is((Object) result));
+	}
+
+	static class CountingConverter implements Converter<String, Integer> {
+
+		int invocations;
+
+		@Override
+		public Integer convert(String source) {
+
+			invocations++;
+			return source.length();
+		}
+	}
 }
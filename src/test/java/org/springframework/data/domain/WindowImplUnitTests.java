@@ -0,0 +1,101 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.domain;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.domain.KeysetScrollPosition.Direction;
+
+/**
+ * Unit tests for {@link WindowImpl} and {@link KeysetScrollPosition}.
+ *
+ * @author Oliver Gierke
+ */
+public class WindowImplUnitTests {
+
+	Sort sort = new Sort("lastname", "id");
+
+	@Test
+	public void derivesPositionsFromSortProperties() {
+
+		Window<Person> window = new WindowImpl<Person>(Arrays.asList(new Person(1L, "Matthews"),
+				new Person(2L, "Beauford")), sort, true);
+
+		Map<String, Object> keys = new LinkedHashMap<String, Object>();
+		keys.put("lastname", "Beauford");
+		keys.put("id", 2L);
+
+		assertThat(window.positionAt(1), is(KeysetScrollPosition.of(keys)));
+		assertThat(window.nextPosition(), is(window.positionAt(1)));
+		assertThat(window.nextPosition().getKeys().keySet(), contains("lastname", "id"));
+	}
+
+	@Test
+	public void doesNotExposeNextPositionForLastWindow() {
+
+		Window<Person> window = new WindowImpl<Person>(Arrays.asList(new Person(1L, "Matthews")), sort, false);
+
+		assertThat(window.isLast(), is(true));
+		assertThat(window.nextPosition(), is(nullValue()));
+	}
+
+	@Test
+	public void mappedWindowKeepsPositionsOfOriginalElements() {
+
+		Window<Person> window = new WindowImpl<Person>(Arrays.asList(new Person(1L, "Matthews")), sort, true);
+
+		Window<String> mapped = window.map(new Converter<Person, String>() {
+
+			@Override
+			public String convert(Person source) {
+				return source.lastname;
+			}
+		});
+
+		assertThat(mapped.getContent(), contains("Matthews"));
+		assertThat(mapped.nextPosition(), is(window.nextPosition()));
+	}
+
+	@Test
+	public void initialPositionHasNoKeys() {
+
+		KeysetScrollPosition position = KeysetScrollPosition.initial();
+
+		assertThat(position.isInitial(), is(true));
+		assertThat(position.getDirection(), is(Direction.FORWARD));
+		assertThat(KeysetScrollPosition.of(Collections.<String, Object> emptyMap()), is(sameInstance(position)));
+		assertThat(position.backward().getDirection(), is(Direction.BACKWARD));
+	}
+
+	static class Person {
+
+		Long id;
+		String lastname;
+
+		Person(Long id, String lastname) {
+			this.id = id;
+			this.lastname = lastname;
+		}
+	}
+}
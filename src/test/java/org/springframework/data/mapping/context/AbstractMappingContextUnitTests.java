@@ -22,8 +22,11 @@ import static org.mockito.Mockito.*;
 import groovy.lang.MetaClass;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.hamcrest.Matchers;
@@ -33,8 +36,12 @@ import org.mockito.Mockito;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.mapping.context.ResolvedSort.ResolvedOrder;
 import org.springframework.data.mapping.model.BasicPersistentEntity;
 import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
@@ -278,6 +285,71 @@ public class AbstractMappingContextUnitTests {
 		}
 	}
 
+	@Test
+	public void warmUpReportsDurationPerEntity() {
+
+		context.getPersistentEntity(Person.class);
+		context.getPersistentEntity(Sample.class);
+
+		Map<TypeInformation<?>, Long> durations = context.warmUp();
+
+		assertThat(durations.keySet(), hasSize(context.getPersistentEntities().size()));
+		assertThat(durations, hasKey((Object) ClassTypeInformation.from(Person.class)));
+	}
+
+	@Test
+	public void warmsUpEntitiesOnInitializationIfConfigured() {
+
+		final Set<Class<?>> warmedUp = Collections.synchronizedSet(new HashSet<Class<?>>());
+
+		SampleMappingContext mappingContext = new SampleMappingContext() {
+
+			@Override
+			protected void warmUp(BasicPersistentEntity<Object, SamplePersistentProperty> entity) {
+
+				super.warmUp(entity);
+				warmedUp.add(entity.getType());
+			}
+		};
+
+		mappingContext.setInitialEntitySet(Collections.singleton(Person.class));
+		mappingContext.setWarmUpOnInitialize(true);
+		mappingContext.afterPropertiesSet();
+
+		assertThat(warmedUp, hasItem(Person.class));
+	}
+
+	@Test
+	public void resolvesSortIntoPersistentPropertyPaths() {
+
+		Sort sort = new Sort(Direction.DESC, "persons.name");
+		ResolvedSort<SamplePersistentProperty> resolvedSort = context.getResolvedSort(sort, Sample.class);
+
+		assertThat(resolvedSort.getSort(), is(sort));
+		assertThat(resolvedSort.getOrders(), hasSize(1));
+
+		ResolvedOrder<SamplePersistentProperty> order = resolvedSort.getOrders().get(0);
+
+		assertThat(order.getOrder(), is(new Order(Direction.DESC, "persons.name")));
+		assertThat(order.getPath().toDotPath(), is("persons.name"));
+		assertThat(order.getLeafProperty().getName(), is("name"));
+	}
+
+	@Test
+	public void cachesResolvedSortsForEqualSorts() {
+
+		ResolvedSort<SamplePersistentProperty> resolvedSort = context.getResolvedSort(new Sort("persons.name"),
+				Sample.class);
+
+		assertThat(context.getResolvedSort(new Sort("persons.name"), Sample.class), is(sameInstance(resolvedSort)));
+		assertThat(context.getResolvedSort(new Sort("name"), Person.class), is(not(sameInstance(resolvedSort))));
+	}
+
+	@Test(expected = MappingException.class)
+	public void rejectsSortWithInvalidPropertyReference() {
+		context.getResolvedSort(new Sort("foo"), Sample.class);
+	}
+
 	private static void assertHasEntityFor(Class<?> type, SampleMappingContext context, boolean expected) {
 
 		boolean found = false;
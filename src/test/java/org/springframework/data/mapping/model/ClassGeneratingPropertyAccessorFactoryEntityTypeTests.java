@@ -19,10 +19,18 @@ import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Test;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.context.SampleMappingContext;
 import org.springframework.data.mapping.context.SamplePersistentProperty;
 import org.springframework.data.repository.core.EntityInformation;
@@ -60,6 +68,74 @@ public class ClassGeneratingPropertyAccessorFactoryEntityTypeTests {
 		assertThat(getEntityInformation(Person.class).getId(jonDoe), is((Object) jonDoe.name));
 	}
 
+	@Test
+	public void reportsTypesFallingBackToReflection() {
+
+		ClassGeneratingPropertyAccessorFactory factory = new ClassGeneratingPropertyAccessorFactory();
+
+		assertThat(factory.isSupported(mappingContext.getPersistentEntity(Person.class)), is(true));
+		assertThat(factory.isSupported(mappingContext.getPersistentEntity(CollidingHashCodes.class)), is(false));
+
+		assertThat(factory.getUnsupportedTypes().keySet(), hasSize(1));
+		assertThat(factory.getUnsupportedTypes(), hasKey((Object) CollidingHashCodes.class));
+	}
+
+	@Test
+	public void supportsPackagePrivateAndInnerTypes() {
+
+		ClassGeneratingPropertyAccessorFactory factory = new ClassGeneratingPropertyAccessorFactory();
+
+		assertThat(factory.isSupported(mappingContext.getPersistentEntity(QuickSort.class)), is(true));
+		assertThat(factory.isSupported(mappingContext.getPersistentEntity(PrivateFinalField.class)), is(true));
+
+		PrivateFinalField bean = new PrivateFinalField("value");
+		PersistentEntity<Object, SamplePersistentProperty> entity = mappingContext
+				.getPersistentEntity(PrivateFinalField.class);
+		PersistentPropertyAccessor accessor = factory.getPropertyAccessor(entity, bean);
+
+		accessor.setProperty(entity.getPersistentProperty("value"), "updated");
+
+		assertThat(accessor.getProperty(entity.getPersistentProperty("value")), is((Object) "updated"));
+	}
+
+	@Test
+	public void generatesAccessorClassOnceForConcurrentRequests() throws Exception {
+
+		final ClassGeneratingPropertyAccessorFactory factory = new ClassGeneratingPropertyAccessorFactory();
+		final PersistentEntity<Object, SamplePersistentProperty> entity = mappingContext.getPersistentEntity(Person.class);
+		final CountDownLatch start = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+
+		try {
+
+			List<Future<Class<?>>> results = new ArrayList<Future<Class<?>>>();
+
+			for (int i = 0; i < 16; i++) {
+				results.add(executor.submit(new Callable<Class<?>>() {
+
+					@Override
+					public Class<?> call() throws Exception {
+
+						start.await();
+						return factory.getPropertyAccessor(entity, new Person("name")).getClass();
+					}
+				}));
+			}
+
+			start.countDown();
+
+			Class<?> accessorClass = factory.getPropertyAccessor(entity, new Person("name")).getClass();
+
+			for (Future<Class<?>> result : results) {
+				assertThat(result.get(), is(equalTo((Object) accessorClass)));
+			}
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
 	private EntityInformation<Object, ?> getEntityInformation(Class<?> type) {
 
 		PersistentEntity<Object, SamplePersistentProperty> entity = mappingContext.getPersistentEntity(type);
@@ -80,6 +156,20 @@ public class ClassGeneratingPropertyAccessorFactoryEntityTypeTests {
 		}
 	}
 
+	static class CollidingHashCodes {
+
+		String Aa, BB;
+	}
+
+	private static class PrivateFinalField {
+
+		private final String value;
+
+		PrivateFinalField(String value) {
+			this.value = value;
+		}
+	}
+
 	static class Person {
 
 		@Id String name;
@@ -20,6 +20,7 @@ import static org.junit.Assert.*;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -35,6 +36,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.core.convert.support.DefaultConversionService;
 
 /**
  * Unit tests for {@link ProjectingMethodInterceptor}.
@@ -193,6 +195,52 @@ public class ProjectingMethodInterceptorUnitTests {
 		assertThat((Collection<Object>) result, hasItem(instanceOf(HelperProjection.class)));
 	}
 
+	@Test
+	public void projectsListElementsLazilyIfConfigured() throws Throwable {
+
+		MethodInterceptor methodInterceptor = new ProjectingMethodInterceptor(factory, interceptor,
+				new DefaultConversionService(), true);
+
+		Helper first = mock(Helper.class);
+		Helper second = mock(Helper.class);
+		HelperProjection projection = mock(HelperProjection.class);
+
+		when(factory.createProjection(HelperProjection.class, second)).thenReturn(projection);
+
+		Object result = methodInterceptor.invoke(mockInvocationOf("getHelperList", Arrays.asList(first, second)));
+
+		assertThat(result, is(instanceOf(List.class)));
+		assertThat((List<?>) result, hasSize(2));
+		verify(factory, never()).createProjection((Class<?>) anyObject(), anyObject());
+
+		assertThat(((List<?>) result).get(1), is((Object) projection));
+		verify(factory, times(1)).createProjection(HelperProjection.class, second);
+		verify(factory, never()).createProjection(HelperProjection.class, first);
+	}
+
+	@Test
+	public void projectsMapValuesLazilyIfConfigured() throws Throwable {
+
+		MethodInterceptor methodInterceptor = new ProjectingMethodInterceptor(factory, interceptor,
+				new DefaultConversionService(), true);
+
+		Helper helper = mock(Helper.class);
+		HelperProjection projection = mock(HelperProjection.class);
+
+		when(factory.createProjection(HelperProjection.class, helper)).thenReturn(projection);
+
+		Object result = methodInterceptor.invoke(mockInvocationOf("getHelperMap", Collections.singletonMap("foo", helper)));
+
+		assertThat(result, is(instanceOf(Map.class)));
+		verify(factory, never()).createProjection((Class<?>) anyObject(), anyObject());
+
+		Map<?, ?> map = (Map<?, ?>) result;
+
+		assertThat(map.size(), is(1));
+		assertThat(map.get("foo"), is((Object) projection));
+		assertThat(map.entrySet().iterator().next().getValue(), is((Object) projection));
+	}
+
 	/**
 	 * Mocks the {@link Helper} method of the given name to return the given value.
 	 * 
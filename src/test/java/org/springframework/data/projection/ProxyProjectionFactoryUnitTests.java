@@ -29,6 +29,7 @@ import org.junit.Test;
 import org.springframework.aop.Advisor;
 import org.springframework.aop.TargetClassAware;
 import org.springframework.aop.framework.Advised;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.test.util.ReflectionTestUtils;
 
 /**
@@ -264,6 +265,75 @@ public class ProxyProjectionFactoryUnitTests {
 		assertThat(data.get("key"), is(nullValue()));
 	}
 
+	@Test
+	public void createsGeneratedProjectionForSimpleClosedProjection() {
+
+		PublicCustomer customer = new PublicCustomer();
+		customer.firstname = "Dave";
+		customer.age = 42;
+
+		ProxyProjectionFactory factory = new ProxyProjectionFactory();
+		factory.setGenerateProjectionClasses(true);
+
+		PublicCustomerExcerpt excerpt = factory.createProjection(PublicCustomerExcerpt.class, customer);
+
+		assertThat(Proxy.isProxyClass(excerpt.getClass()), is(false));
+		assertThat(excerpt, is(instanceOf(AbstractGeneratedProjection.class)));
+		assertThat(excerpt.getFirstname(), is("Dave"));
+		assertThat(excerpt.getAge(), is(42));
+		assertThat(((TargetAware) excerpt).getTarget(), is((Object) customer));
+		assertThat(((TargetAware) excerpt).getTargetClass(), is(typeCompatibleWith(PublicCustomer.class)));
+
+		Object other = factory.createProjection(PublicCustomerExcerpt.class, new PublicCustomer());
+
+		assertThat(other, is(not(sameInstance((Object) excerpt))));
+		assertThat(other.getClass(), is(typeCompatibleWith(excerpt.getClass())));
+	}
+
+	@Test
+	public void fallsBackToProxyIfSourceDoesNotExposeAllProperties() {
+
+		ProxyProjectionFactory factory = new ProxyProjectionFactory();
+		factory.setGenerateProjectionClasses(true);
+
+		Object excerpt = factory.createProjection(PublicAddressExcerpt.class, new PublicCustomer());
+
+		assertThat(Proxy.isProxyClass(excerpt.getClass()), is(true));
+	}
+
+	@Test
+	public void createsProxyByDefault() {
+
+		Object excerpt = factory.createProjection(PublicCustomerExcerpt.class, new PublicCustomer());
+
+		assertThat(Proxy.isProxyClass(excerpt.getClass()), is(true));
+	}
+
+	@Test
+	public void cachesProjectionInformation() {
+
+		ProjectionInformation information = factory.getProjectionInformation(CustomerExcerpt.class);
+
+		assertThat(factory.getProjectionInformation(CustomerExcerpt.class), is(sameInstance(information)));
+		assertThat(information.getInputProperties(), is(sameInstance(information.getInputProperties())));
+	}
+
+	@Test
+	public void fallsBackToProxyForOpenProjectionIfClassGenerationIsEnabled() {
+
+		PublicCustomer customer = new PublicCustomer();
+		customer.firstname = "Dave";
+		customer.age = 42;
+
+		SpelAwareProxyProjectionFactory factory = new SpelAwareProxyProjectionFactory();
+		factory.setGenerateProjectionClasses(true);
+
+		PublicOpenCustomerExcerpt excerpt = factory.createProjection(PublicOpenCustomerExcerpt.class, customer);
+
+		assertThat(Proxy.isProxyClass(excerpt.getClass()), is(true));
+		assertThat(excerpt.getFirstname(), is("Dave 42"));
+	}
+
 	static class Customer {
 
 		public Long id;
@@ -305,4 +375,36 @@ public class ProxyProjectionFactoryUnitTests {
 
 		void setFirstname(String firstname);
 	}
+
+	public static class PublicCustomer {
+
+		String firstname;
+		int age;
+
+		public String getFirstname() {
+			return firstname;
+		}
+
+		public int getAge() {
+			return age;
+		}
+	}
+
+	public interface PublicCustomerExcerpt {
+
+		String getFirstname();
+
+		int getAge();
+	}
+
+	public interface PublicAddressExcerpt {
+
+		String getZipCode();
+	}
+
+	public interface PublicOpenCustomerExcerpt {
+
+		@Value("#{target.firstname + ' ' + target.age}")
+		String getFirstname();
+	}
 }
@@ -71,6 +71,25 @@ public class SpelAwareProxyProjectionFactoryUnitTests {
 		assertThat(properties, hasItem("firstname"));
 	}
 
+	@Test
+	public void evaluatesExpressionsForProjectionsCreatedFromSameFactory() {
+
+		Customer dave = new Customer();
+		dave.firstname = "Dave";
+		dave.lastname = "Matthews";
+
+		Customer carter = new Customer();
+		carter.firstname = "Carter";
+		carter.lastname = "Beauford";
+
+		CustomerExcerpt first = factory.createProjection(CustomerExcerpt.class, dave);
+		CustomerExcerpt second = factory.createProjection(CustomerExcerpt.class, carter);
+
+		assertThat(first.getFullName(), is("Dave Matthews"));
+		assertThat(second.getFullName(), is("Carter Beauford"));
+		assertThat(factory.getProjectionInformation(CustomerExcerpt.class).isClosed(), is(false));
+	}
+
 	/**
 	 * @see DATACMNS-89
 	 */
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.springframework.data.domain.ExampleMatcher.GenericPropertyMatchers.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.ExampleMatcher.PropertyValueTransformer;
+import org.springframework.data.mapping.context.SampleMappingContext;
+
+/**
+ * Unit tests for {@link CompiledExample}.
+ *
+ * @author Oliver Gierke
+ */
+public class CompiledExampleUnitTests {
+
+	SampleMappingContext context = new SampleMappingContext();
+
+	Person dave = new Person("Dave", "Matthews", 42, new Address("Charlottesville"));
+	Person carter = new Person("Carter", "Beauford", 49, new Address("Charlottesville"));
+	Person oliver = new Person("Oliver", "Matthews", null, new Address("Dresden"));
+
+	@Test
+	public void matchesNonNullPropertiesOfProbeByDefault() {
+
+		CompiledExample<Person> example = compile(Example.of(new Person(null, "Matthews", null, null)));
+
+		assertThat(example.filter(Arrays.asList(dave, carter, oliver)), contains(dave, oliver));
+	}
+
+	@Test
+	public void matchesNestedProperties() {
+
+		CompiledExample<Person> example = compile(Example.of(new Person(null, null, null, new Address("Dresden"))));
+
+		assertThat(example.matches(oliver), is(true));
+		assertThat(example.matches(dave), is(false));
+	}
+
+	@Test
+	public void appliesStringMatchersAndIgnoreCase() {
+
+		ExampleMatcher matcher = ExampleMatcher.matching() //
+				.withMatcher("firstname", startsWith().ignoreCase()) //
+				.withMatcher("lastname", regex());
+
+		CompiledExample<Person> example = compile(Example.of(new Person("da", "Mat.*", null, null), matcher));
+
+		assertThat(example.matches(dave), is(true));
+		assertThat(example.matches(oliver), is(false));
+	}
+
+	@Test
+	public void includesNullValuesIfConfigured() {
+
+		ExampleMatcher matcher = ExampleMatcher.matching().withIncludeNullValues().withIgnorePaths("firstname",
+				"address");
+
+		CompiledExample<Person> example = compile(Example.of(new Person(null, "Matthews", null, null), matcher));
+
+		assertThat(example.matches(oliver), is(true));
+		assertThat(example.matches(dave), is(false));
+	}
+
+	@Test
+	public void matchesAnyPredicateIfConfigured() {
+
+		CompiledExample<Person> example = compile(
+				Example.of(new Person("Carter", "Matthews", null, null), ExampleMatcher.matchingAny()));
+
+		assertThat(example.filter(Arrays.asList(dave, carter, oliver)), contains(dave, carter, oliver));
+	}
+
+	@Test
+	public void appliesValueTransformers() {
+
+		ExampleMatcher matcher = ExampleMatcher.matching().withTransformer("lastname", new PropertyValueTransformer() {
+
+			@Override
+			public Object convert(Object source) {
+				return source == null ? null : ((String) source).trim();
+			}
+		});
+
+		CompiledExample<Person> example = compile(Example.of(new Person(null, " Beauford ", null, null), matcher));
+
+		assertThat(example.filter(Arrays.asList(dave, carter, oliver)), contains(carter));
+	}
+
+	@Test
+	public void doesNotMatchCandidatesOfOtherTypes() {
+		assertThat(compile(Example.of(new Person(null, null, null, null))).matches("Dave"), is(false));
+	}
+
+	private CompiledExample<Person> compile(Example<Person> example) {
+		return CompiledExample.of(example, context);
+	}
+
+	static class Person {
+
+		String firstname, lastname;
+		Integer age;
+		Address address;
+
+		Person(String firstname, String lastname, Integer age, Address address) {
+
+			this.firstname = firstname;
+			this.lastname = lastname;
+			this.age = age;
+			this.address = address;
+		}
+	}
+
+	static class Address {
+
+		String city;
+
+		Address(String city) {
+			this.city = city;
+		}
+	}
+}
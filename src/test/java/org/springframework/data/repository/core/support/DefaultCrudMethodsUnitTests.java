@@ -28,6 +28,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.BulkCrudMethods;
 import org.springframework.data.repository.core.CrudMethods;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.core.RepositoryMetadata;
@@ -156,7 +157,38 @@ public class DefaultCrudMethodsUnitTests {
 		assertThat(methods.getFindOneMethod().isAccessible(), is(true));
 	}
 
-	private static CrudMethods getMethodsFor(Class<?> repositoryInterface) {
+	@Test
+	public void detectsBulkMethodsOnCrudRepository() throws Exception {
+
+		BulkCrudMethods methods = getMethodsFor(DomainCrudRepository.class);
+
+		assertThat(methods.getFindAllByIdMethod(), is(CrudRepository.class.getMethod("findAll", Iterable.class)));
+		assertThat(methods.getSaveAllMethod(), is(CrudRepository.class.getMethod("save", Iterable.class)));
+		assertThat(methods.getDeleteAllMethod(), is(CrudRepository.class.getMethod("delete", Iterable.class)));
+	}
+
+	@Test
+	public void detectsRedeclaredBulkMethods() throws Exception {
+
+		Class<RepositoryWithBulkMethods> type = RepositoryWithBulkMethods.class;
+		BulkCrudMethods methods = getMethodsFor(type);
+
+		assertThat(methods.getFindAllByIdMethod(), is(type.getMethod("findAll", Iterable.class)));
+		assertThat(methods.getSaveAllMethod(), is(type.getMethod("save", Iterable.class)));
+		assertThat(methods.hasDeleteAllMethod(), is(false));
+	}
+
+	@Test
+	public void doesNotDetectBulkMethodsIfNotDeclared() {
+
+		BulkCrudMethods methods = getMethodsFor(RepositoryWithCustomSave.class);
+
+		assertThat(methods.hasFindAllByIdMethod(), is(false));
+		assertThat(methods.hasSaveAllMethod(), is(false));
+		assertThat(methods.hasDeleteAllMethod(), is(false));
+	}
+
+	private static DefaultCrudMethods getMethodsFor(Class<?> repositoryInterface) {
 
 		RepositoryMetadata metadata = new DefaultRepositoryMetadata(repositoryInterface);
 		RepositoryInformation information = new DefaultRepositoryInformation(metadata, PagingAndSortingRepository.class,
@@ -216,6 +248,13 @@ public class DefaultCrudMethodsUnitTests {
 		Domain save(Domain domain);
 	}
 
+	interface RepositoryWithBulkMethods extends Repository<Domain, Long> {
+
+		List<Domain> findAll(Iterable<Long> ids);
+
+		<S extends Domain> List<S> save(Iterable<S> entities);
+	}
+
 	interface RepositoryWithCustomSortingAndPagingFindAll extends Repository<Domain, Serializable> {
 
 		Iterable<Domain> findAll(Sort sort);
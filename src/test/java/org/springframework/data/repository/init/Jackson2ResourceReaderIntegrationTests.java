@@ -21,7 +21,10 @@ import static org.junit.Assert.*;
 import java.util.Collection;
 
 import org.junit.Test;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.util.CloseableIterator;
 
 /**
  * Integration tests for {@link JacksonResourceReader}.
@@ -40,4 +43,45 @@ public class Jackson2ResourceReaderIntegrationTests {
 		assertThat(result, is(instanceOf(Collection.class)));
 		assertThat((Collection<?>) result, hasSize(1));
 	}
+
+	@Test
+	public void streamsElementsOfArray() throws Exception {
+
+		CloseableIterator<Object> iterator = new Jackson2ResourceReader()
+				.stream(new ClassPathResource("data.json", getClass()), null);
+
+		try {
+
+			assertThat(iterator.hasNext(), is(true));
+
+			Object element = iterator.next();
+
+			assertThat(element, is(instanceOf(Person.class)));
+			assertThat(((Person) element).firstname, is("Dave"));
+			assertThat(iterator.hasNext(), is(false));
+
+		} finally {
+			iterator.close();
+		}
+	}
+
+	@Test
+	public void streamsSingleObject() throws Exception {
+
+		Resource resource = new ByteArrayResource(
+				"{ \"_class\" : \"org.springframework.data.repository.init.Person\", \"lastname\" : \"Matthews\" }"
+						.getBytes("UTF-8"));
+
+		CloseableIterator<Object> iterator = new Jackson2ResourceReader().stream(resource, null);
+
+		try {
+
+			assertThat(iterator.hasNext(), is(true));
+			assertThat(((Person) iterator.next()).lastname, is("Matthews"));
+			assertThat(iterator.hasNext(), is(false));
+
+		} finally {
+			iterator.close();
+		}
+	}
 }
@@ -18,21 +18,27 @@ package org.springframework.data.repository.init;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
+import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.sample.Product;
 import org.springframework.data.repository.sample.ProductRepository;
 import org.springframework.data.repository.sample.SampleConfiguration;
 import org.springframework.data.repository.sample.User;
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 
@@ -91,6 +97,152 @@ public class ResourceReaderRepositoryInitializerUnitTests {
 		verify(publisher, times(1)).publishEvent(event);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void persistsObjectsInBatchesUsingCrudRepository() throws Exception {
+
+		Repositories repositories = mock(Repositories.class);
+		CrudRepository<Person, Long> repository = mock(CrudRepository.class);
+		when(repositories.getRepositoryFor(Person.class)).thenReturn(repository);
+
+		when(reader.readFrom(any(Resource.class), any(ClassLoader.class)))
+				.thenReturn(Arrays.asList(new Person(), new Person(), null, new Person()));
+
+		ResourceReaderRepositoryPopulator populator = new ResourceReaderRepositoryPopulator(reader);
+		populator.setResources(resource);
+		populator.setBatchSize(2);
+		populator.populate(repositories);
+
+		verify(repository, times(2)).save(any(Iterable.class));
+		verify(repository, never()).save(any(Person.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void persistsBatchesInOrderOfResource() throws Exception {
+
+		Repositories repositories = mock(Repositories.class);
+		CrudRepository<Person, Long> personRepository = mock(CrudRepository.class);
+		CrudRepository<User, Long> userRepository = mock(CrudRepository.class);
+		when(repositories.getRepositoryFor(Person.class)).thenReturn(personRepository);
+		when(repositories.getRepositoryFor(User.class)).thenReturn(userRepository);
+
+		User firstUser = new User(), secondUser = new User();
+		Person first = new Person(), second = new Person(), third = new Person();
+
+		when(reader.readFrom(any(Resource.class), any(ClassLoader.class)))
+				.thenReturn(Arrays.asList(firstUser, first, second, secondUser, third));
+
+		ResourceReaderRepositoryPopulator populator = new ResourceReaderRepositoryPopulator(reader);
+		populator.setResources(resource);
+		populator.setBatchSize(10);
+		populator.populate(repositories);
+
+		InOrder inOrder = inOrder(personRepository, userRepository);
+
+		inOrder.verify(userRepository).save(eq(Arrays.asList(firstUser)));
+		inOrder.verify(personRepository).save(eq(Arrays.asList(first, second)));
+		inOrder.verify(userRepository).save(eq(Arrays.asList(secondUser)));
+		inOrder.verify(personRepository).save(eq(Arrays.asList(third)));
+		inOrder.verifyNoMoreInteractions();
+	}
+
+	@Test
+	public void persistsObjectsIndividuallyInBatchModeForNonCrudRepository() throws Exception {
+
+		Product first = new Product(), second = new Product();
+		when(reader.readFrom(any(Resource.class), any(ClassLoader.class))).thenReturn(Arrays.asList(first, second));
+
+		ResourceReaderRepositoryPopulator populator = new ResourceReaderRepositoryPopulator(reader);
+		populator.setResources(resource);
+		populator.setBatchSize(10);
+		populator.populate(repositories);
+
+		verify(productRepository, times(1)).save(first);
+		verify(productRepository, times(1)).save(second);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void streamsObjectsFromStreamingResourceReader() throws Exception {
+
+		Product first = new Product(), second = new Product();
+
+		StreamingResourceReader reader = mock(StreamingResourceReader.class);
+		CloseableIterator<Object> iterator = mock(CloseableIterator.class);
+
+		when(iterator.hasNext()).thenReturn(true, true, false);
+		when(iterator.next()).thenReturn(first, second);
+		when(reader.stream(any(Resource.class), any(ClassLoader.class))).thenReturn(iterator);
+
+		ResourceReaderRepositoryPopulator populator = new ResourceReaderRepositoryPopulator(reader);
+		populator.setResources(resource);
+		populator.populate(repositories);
+
+		verify(productRepository, times(1)).save(first);
+		verify(productRepository, times(1)).save(second);
+		verify(iterator, times(1)).close();
+		verify(reader, never()).readFrom(any(Resource.class), any(ClassLoader.class));
+	}
+
+	@Test
+	public void populatesResourcesInParallelPhases() throws Exception {
+
+		Product first = new Product(), second = new Product(), third = new Product();
+		Resource firstResource = mock(Resource.class), secondResource = mock(Resource.class);
+
+		when(reader.readFrom(resource, null)).thenReturn(first);
+		when(reader.readFrom(firstResource, null)).thenReturn(second);
+		when(reader.readFrom(secondResource, null)).thenReturn(third);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+
+			ResourceReaderRepositoryPopulator populator = new ResourceReaderRepositoryPopulator(reader);
+			populator.setResources(resource, firstResource);
+			populator.addResourcePhase(secondResource);
+			populator.setExecutor(executor);
+			populator.setApplicationEventPublisher(publisher);
+			populator.populate(repositories);
+
+		} finally {
+			executor.shutdown();
+		}
+
+		InOrder inOrder = inOrder(productRepository);
+
+		verify(productRepository, times(1)).save(first);
+		inOrder.verify(productRepository, times(1)).save(second);
+		inOrder.verify(productRepository, times(1)).save(third);
+
+		verify(publisher, times(1)).publishEvent(any(RepositoriesPopulatedEvent.class));
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void propagatesFailureFromParallelPopulation() throws Exception {
+
+		when(reader.readFrom(resource, null)).thenThrow(new IllegalStateException());
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try {
+
+			ResourceReaderRepositoryPopulator populator = new ResourceReaderRepositoryPopulator(reader);
+			populator.setResources(resource);
+			populator.setExecutor(executor);
+			populator.populate(repositories);
+
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsInvalidBatchSize() {
+		new ResourceReaderRepositoryPopulator(reader).setBatchSize(0);
+	}
+
 	private RepositoryPopulator setUpReferenceAndInititalize(Object reference, ApplicationEventPublisher publish)
 			throws Exception {
 
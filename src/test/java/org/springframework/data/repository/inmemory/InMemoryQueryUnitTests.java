@@ -0,0 +1,182 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.inmemory;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.repository.query.parser.PartTree;
+
+/**
+ * Unit tests for {@link InMemoryQuery}.
+ *
+ * @author Oliver Gierke
+ */
+public class InMemoryQueryUnitTests {
+
+	InMemoryStore store;
+
+	@Before
+	public void setUp() {
+
+		store = new InMemoryStore();
+
+		String[][] people = { { "Dave", "Matthews" }, { "Carter", "Beauford" }, { "Boyd", "Tinsley" },
+				{ "Oliver", "Matthews" }, { "Stefan", "Lessard" }, { "LeRoi", "Moore" }, { null, "Marley" },
+				{ "Tim", null }, { "Ma" + Character.MAX_VALUE + "x", "Ma" }, { "mark", "matthews" } };
+
+		for (int i = 0; i < people.length; i++) {
+
+			String firstname = people[i][0], lastname = people[i][1];
+			int age = 30 + i * 3 % 20;
+			boolean active = i % 3 == 0;
+
+			store.save(new IndexedPerson(firstname, lastname, age, active), IndexedPerson.class);
+			store.save(new Person(firstname, lastname, age, active), Person.class);
+		}
+	}
+
+	@Test
+	public void cachesIndexLookupsPerTable() {
+
+		InMemoryQuery query = getQuery("findByLastname", IndexedPerson.class);
+		InMemoryTable table = store.getTable(IndexedPerson.class);
+
+		assertThat(query.getIndexLookups(table), is(sameInstance(query.getIndexLookups(table))));
+		assertThat(query.getIndexLookups(new InMemoryStore().getTable(IndexedPerson.class)),
+				is(not(sameInstance(query.getIndexLookups(table)))));
+	}
+
+	@Test
+	public void indexLookupsAndFullScanReturnSameResults() {
+
+		assertSameResults("findByLastname", "Matthews");
+		assertSameResults("findByLastname", "Unknown");
+		assertSameResults("findByLastname", (Object) null);
+		assertSameResults("findByLastnameIsNull");
+		assertSameResults("findByLastnameIn", Arrays.asList("Matthews", "Moore", "Unknown"));
+		assertSameResults("findByLastnameIn", (Object) new String[] { "Tinsley", "Ma" });
+		assertSameResults("findByActiveTrue");
+		assertSameResults("findByActiveFalse");
+		assertSameResults("findByAgeGreaterThan", 39);
+		assertSameResults("findByAgeGreaterThan", 39L);
+		assertSameResults("findByAgeGreaterThanEqual", "39");
+		assertSameResults("findByAgeLessThan", 39);
+		assertSameResults("findByAgeLessThanEqual", 39);
+		assertSameResults("findByAgeBetween", 33, 42);
+		assertSameResults("findByAgeBetween", 42, 33);
+		assertSameResults("findByFirstnameStartingWith", "Ma");
+		assertSameResults("findByFirstnameStartingWith", "M");
+		assertSameResults("findByFirstnameStartingWith", "");
+		assertSameResults("findByFirstnameGreaterThan", "Dave");
+		assertSameResults("findByLastnameAndAgeGreaterThan", "Matthews", 35);
+		assertSameResults("findByAgeLessThanOrLastname", 35, "Matthews");
+		assertSameResults("findByLastnameOrFirstnameStartingWith", "Tinsley", "Ti");
+	}
+
+	@Test
+	public void fallsBackToFullScanIfAnyBranchIsNotIndexed() {
+
+		assertSameResults("findByLastnameOrFirstnameLike", "Matthews", "%e%");
+		assertSameResults("findByLastnameIgnoreCase", "MATTHEWS");
+		assertSameResults("findByLastnameNot", "Matthews");
+	}
+
+	private void assertSameResults(String methodName, Object... arguments) {
+
+		InMemoryQuery indexed = getQuery(methodName, IndexedPerson.class);
+		InMemoryQuery plain = getQuery(methodName, Person.class);
+
+		InMemoryTable indexedTable = store.getTable(IndexedPerson.class);
+		InMemoryTable plainTable = store.getTable(Person.class);
+
+		assertThat(plain.getIndexLookups(plainTable), is(nullValue()));
+
+		Set<String> expected = describe(plain.execute(plainTable, arguments));
+
+		assertThat(methodName, describe(indexed.execute(indexedTable, arguments)), is(expected));
+	}
+
+	private InMemoryQuery getQuery(String methodName, Class<?> type) {
+
+		PartTree tree = new PartTree(methodName, type);
+		return new InMemoryQueryCreator(tree, store.getMappingContext(), new DefaultConversionService()).createQuery();
+	}
+
+	private static Set<String> describe(List<Object> result) {
+
+		Set<String> descriptions = new HashSet<String>();
+
+		for (Object element : result) {
+			descriptions.add(element.toString());
+		}
+
+		return descriptions;
+	}
+
+	static class IndexedPerson {
+
+		@Id Long id;
+		@Indexed(IndexType.SORTED) String firstname;
+		@Indexed String lastname;
+		@Indexed(IndexType.SORTED) int age;
+		@Indexed boolean active;
+
+		public IndexedPerson(String firstname, String lastname, int age, boolean active) {
+
+			this.firstname = firstname;
+			this.lastname = lastname;
+			this.age = age;
+			this.active = active;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s %s %s %s %s", id, firstname, lastname, age, active);
+		}
+	}
+
+	static class Person {
+
+		@Id Long id;
+		String firstname;
+		String lastname;
+		int age;
+		boolean active;
+
+		public Person(String firstname, String lastname, int age, boolean active) {
+
+			this.firstname = firstname;
+			this.lastname = lastname;
+			this.age = age;
+			this.active = active;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s %s %s %s %s", id, firstname, lastname, age, active);
+		}
+	}
+}
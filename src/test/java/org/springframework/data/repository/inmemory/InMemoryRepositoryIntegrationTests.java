@@ -0,0 +1,277 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.inmemory;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.QueryAnnotation;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Window;
+import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.PropertiesBasedNamedQueries;
+import org.springframework.data.repository.query.QueryLookupStrategy.Key;
+import org.springframework.data.repository.query.parser.PartTree;
+
+/**
+ * Integration tests for repositories created by {@link InMemoryRepositoryFactory}.
+ *
+ * @author Oliver Gierke
+ */
+public class InMemoryRepositoryIntegrationTests {
+
+	InMemoryStore store;
+	PersonRepository repository;
+
+	Person dave, carter, boyd, oliver;
+
+	@Before
+	public void setUp() {
+
+		store = new InMemoryStore();
+		repository = new InMemoryRepositoryFactory(store).getRepository(PersonRepository.class);
+
+		dave = repository.save(new Person("Dave", "Matthews", 42, "Charlottesville"));
+		carter = repository.save(new Person("Carter", "Beauford", 49, "Charlottesville"));
+		boyd = repository.save(new Person("Boyd", "Tinsley", 45, "Charlottesville"));
+		oliver = repository.save(new Person("Oliver", "Matthews", 31, "Dresden"));
+	}
+
+	@Test
+	public void generatesIdentifiersAndFindsEntitiesById() {
+
+		assertThat(dave.id, is(notNullValue()));
+		assertThat(repository.findOne(dave.id), is(dave));
+		assertThat(repository.count(), is(4L));
+	}
+
+	@Test
+	public void executesDerivedQueries() {
+
+		assertThat(repository.findByLastname("Matthews"), containsInAnyOrder(dave, oliver));
+		assertThat(repository.findByAgeGreaterThan(44), containsInAnyOrder(carter, boyd));
+		assertThat(repository.findByAgeBetween(42, 45), containsInAnyOrder(dave, boyd));
+		assertThat(repository.findByFirstnameIgnoreCase("dAVE"), contains(dave));
+		assertThat(repository.findByAddressCity("Dresden"), contains(oliver));
+		assertThat(repository.findByLastnameIn(Arrays.asList("Tinsley", "Beauford")), containsInAnyOrder(carter, boyd));
+		assertThat(repository.findByLastnameOrAge("Tinsley", 31), containsInAnyOrder(boyd, oliver));
+		assertThat(repository.findByFirstnameLike("%ar%"), contains(carter));
+		assertThat(repository.countByLastname("Matthews"), is(2L));
+	}
+
+	@Test
+	public void convertsArgumentsToPropertyType() {
+		assertThat(repository.findByAgeGreaterThan(44L), containsInAnyOrder(carter, boyd));
+	}
+
+	@Test
+	public void updatesIndexesOnModification() {
+
+		dave.lastname = "Beauford";
+		repository.save(dave);
+
+		assertThat(repository.findByLastname("Matthews"), contains(oliver));
+		assertThat(repository.findByLastname("Beauford"), containsInAnyOrder(dave, carter));
+
+		repository.delete(carter);
+
+		assertThat(repository.findByLastname("Beauford"), contains(dave));
+	}
+
+	@Test
+	public void appliesSortingAndPaging() {
+
+		assertThat(repository.findAll(new Sort(Direction.DESC, "age")), contains(carter, boyd, dave, oliver));
+		assertThat(repository.findByAddressCityOrderByAgeAsc("Charlottesville"), contains(dave, boyd, carter));
+		assertThat(repository.findTopByOrderByAgeDesc(), is(carter));
+
+		Page<Person> page = repository.findByAgeGreaterThan(30, new PageRequest(1, 2, Direction.ASC, "age"));
+
+		assertThat(page.getTotalElements(), is(4L));
+		assertThat(page.getContent(), contains(boyd, carter));
+	}
+
+	@Test
+	public void deletesByDerivedQuery() {
+
+		assertThat(repository.deleteByLastname("Matthews"), is(2L));
+		assertThat(repository.findAll(), containsInAnyOrder(carter, boyd));
+	}
+
+	@Test
+	public void usesIndexesForIndexedProperties() {
+
+		InMemoryTable table = store.getTable(Person.class);
+
+		assertThat(getQuery("findByLastnameAndFirstname").getIndexLookups(table), hasSize(1));
+		assertThat(getQuery("findByAgeGreaterThanOrLastname").getIndexLookups(table), hasSize(2));
+		assertThat(getQuery("findByFirstname").getIndexLookups(table), is(nullValue()));
+		assertThat(getQuery("findByLastnameOrFirstname").getIndexLookups(table), is(nullValue()));
+		assertThat(getQuery("findByLastnameIgnoreCase").getIndexLookups(table), is(nullValue()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsUnsupportedKeywords() {
+		getQuery("findByAddressCityNear");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsDeclaredQueryLookupStrategy() {
+
+		InMemoryRepositoryFactory factory = new InMemoryRepositoryFactory(store);
+		factory.setQueryLookupStrategyKey(Key.USE_DECLARED_QUERY);
+
+		factory.getRepository(PersonRepository.class);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void rejectsAnnotatedQueries() {
+		new InMemoryRepositoryFactory(store).getRepository(AnnotatedQueryRepository.class);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void rejectsNamedQueries() {
+
+		Properties properties = new Properties();
+		properties.setProperty("Person.findByFullname", "firstname + ' ' + lastname = ?0");
+
+		InMemoryRepositoryFactory factory = new InMemoryRepositoryFactory(store);
+		factory.setNamedQueries(new PropertiesBasedNamedQueries(properties));
+
+		factory.getRepository(NamedQueryRepository.class);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void rejectsWindowQueries() {
+		new InMemoryRepositoryFactory(store).getRepository(WindowRepository.class);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void rejectsStreamQueries() {
+		new InMemoryRepositoryFactory(store).getRepository(StreamRepository.class);
+	}
+
+	private InMemoryQuery getQuery(String methodName) {
+
+		PartTree tree = new PartTree(methodName, Person.class);
+		return new InMemoryQueryCreator(tree, store.getMappingContext(), new DefaultConversionService()).createQuery();
+	}
+
+	interface PersonRepository extends PagingAndSortingRepository<Person, Long> {
+
+		List<Person> findByLastname(String lastname);
+
+		List<Person> findByAgeGreaterThan(long age);
+
+		Page<Person> findByAgeGreaterThan(int age, Pageable pageable);
+
+		List<Person> findByAgeBetween(int from, int to);
+
+		List<Person> findByFirstnameIgnoreCase(String firstname);
+
+		List<Person> findByFirstnameLike(String firstname);
+
+		List<Person> findByAddressCity(String city);
+
+		List<Person> findByAddressCityOrderByAgeAsc(String city);
+
+		List<Person> findByLastnameIn(List<String> lastnames);
+
+		List<Person> findByLastnameOrAge(String lastname, int age);
+
+		Person findTopByOrderByAgeDesc();
+
+		long countByLastname(String lastname);
+
+		long deleteByLastname(String lastname);
+	}
+
+	interface AnnotatedQueryRepository extends Repository<Person, Long> {
+
+		@Query("firstname + ' ' + lastname = ?0")
+		List<Person> findByFullname(String fullname);
+	}
+
+	interface NamedQueryRepository extends Repository<Person, Long> {
+
+		List<Person> findByFullname(String fullname);
+	}
+
+	interface WindowRepository extends Repository<Person, Long> {
+
+		Window<Person> findByLastname(String lastname, KeysetScrollPosition position, Sort sort);
+	}
+
+	interface StreamRepository extends Repository<Person, Long> {
+
+		Stream<Person> streamByLastname(String lastname);
+	}
+
+	@QueryAnnotation
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Query {
+
+		String value();
+	}
+
+	static class Person {
+
+		@Id Long id;
+		String firstname;
+		@Indexed String lastname;
+		@Indexed(IndexType.SORTED) int age;
+		Address address;
+
+		public Person(String firstname, String lastname, int age, String city) {
+
+			this.firstname = firstname;
+			this.lastname = lastname;
+			this.age = age;
+			this.address = new Address(city);
+		}
+
+		@Override
+		public String toString() {
+			return firstname + " " + lastname;
+		}
+	}
+
+	static class Address {
+
+		String city;
+
+		public Address(String city) {
+			this.city = city;
+		}
+	}
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.inmemory;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.repository.inmemory.InMemoryTable.IndexLookup;
+import org.springframework.data.repository.query.parser.Part.Type;
+
+/**
+ * Unit tests for {@link InMemoryTable}.
+ *
+ * @author Oliver Gierke
+ */
+public class InMemoryTableUnitTests {
+
+	InMemoryMappingContext context;
+	InMemoryTable table;
+	ExecutorService executor;
+
+	@Before
+	public void setUp() {
+
+		context = new InMemoryMappingContext();
+		table = new InMemoryTable(context.getPersistentEntity(Person.class));
+	}
+
+	@After
+	public void tearDown() {
+
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void createsIndexesForIndexedPropertiesOnly() {
+
+		assertThat(table.getIndex(property("lastname")).getType(), is(IndexType.HASH));
+		assertThat(table.getIndex(property("age")).getType(), is(IndexType.SORTED));
+		assertThat(table.getIndex(property("firstname")), is(nullValue()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsEntitiesWithoutIdentifier() {
+		new InMemoryTable(context.getPersistentEntity(Address.class));
+	}
+
+	@Test
+	public void storesAndRemovesEntities() {
+
+		Person dave = new Person(1L, "Dave", "Matthews", 42);
+
+		table.put(1L, dave);
+
+		assertThat(table.get(1L), is((Object) dave));
+		assertThat(table.count(), is(1L));
+		assertThat(find(Type.SIMPLE_PROPERTY, "lastname", "Matthews"), contains((Object) dave));
+
+		assertThat(table.remove(1L), is((Object) dave));
+		assertThat(table.remove(1L), is(nullValue()));
+		assertThat(table.get(1L), is(nullValue()));
+		assertThat(find(Type.SIMPLE_PROPERTY, "lastname", "Matthews"), is(empty()));
+	}
+
+	@Test
+	public void updatesIndexesOnReplacement() {
+
+		table.put(1L, new Person(1L, "Dave", "Matthews", 42));
+
+		Person updated = new Person(1L, "Dave", "Beauford", 43);
+		table.put(1L, updated);
+
+		assertThat(table.count(), is(1L));
+		assertThat(find(Type.SIMPLE_PROPERTY, "lastname", "Matthews"), is(empty()));
+		assertThat(find(Type.SIMPLE_PROPERTY, "lastname", "Beauford"), contains((Object) updated));
+		assertThat(find(Type.LESS_THAN, "age", 43), is(empty()));
+		assertThat(find(Type.GREATER_THAN_EQUAL, "age", 43), contains((Object) updated));
+	}
+
+	@Test
+	public void clearsEntitiesAndIndexes() {
+
+		table.put(1L, new Person(1L, "Dave", "Matthews", 42));
+		table.clear();
+
+		assertThat(table.count(), is(0L));
+		assertThat(find(Type.SIMPLE_PROPERTY, "lastname", "Matthews"), is(empty()));
+		assertThat(find(Type.GREATER_THAN, "age", 0), is(empty()));
+	}
+
+	@Test
+	public void returnsUnionOfLookups() {
+
+		Person dave = new Person(1L, "Dave", "Matthews", 42);
+		Person carter = new Person(2L, "Carter", "Beauford", 49);
+		Person oliver = new Person(3L, "Oliver", "Matthews", 31);
+
+		table.put(1L, dave);
+		table.put(2L, carter);
+		table.put(3L, oliver);
+
+		List<IndexLookup> lookups = Arrays.asList(lookup(Type.SIMPLE_PROPERTY, "lastname", 0),
+				lookup(Type.GREATER_THAN, "age", 1));
+
+		assertThat(table.find(lookups, new Object[] { "Matthews", 45 }),
+				containsInAnyOrder((Object) dave, carter, oliver));
+		assertThat(table.find(lookups, new Object[] { "Tinsley", 45 }), contains((Object) carter));
+	}
+
+	@Test
+	public void keepsIndexesConsistentWithEntitiesUnderConcurrentModification() throws Exception {
+
+		final int writers = 4, readers = 4, iterations = 2000, idsPerWriter = 16;
+		final CountDownLatch start = new CountDownLatch(1);
+		final List<IndexLookup> lookups = Arrays.asList(lookup(Type.SIMPLE_PROPERTY, "lastname", 0));
+
+		executor = Executors.newFixedThreadPool(writers + readers);
+		List<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+
+		for (int i = 0; i < writers; i++) {
+
+			final long firstId = i * idsPerWriter;
+
+			futures.add(executor.submit(new Callable<Integer>() {
+
+				@Override
+				public Integer call() throws Exception {
+
+					start.await();
+
+					for (int j = 0; j < iterations; j++) {
+
+						long id = firstId + j % idsPerWriter;
+						table.put(id, new Person(id, "Dave", j % 2 == 0 ? "Matthews" : "Beauford", j));
+
+						if (j % 7 == 0) {
+							table.remove(id);
+						}
+					}
+
+					return 0;
+				}
+			}));
+		}
+
+		for (int i = 0; i < readers; i++) {
+
+			futures.add(executor.submit(new Callable<Integer>() {
+
+				@Override
+				public Integer call() throws Exception {
+
+					start.await();
+
+					int mismatches = 0;
+
+					for (int j = 0; j < iterations; j++) {
+
+						for (Object candidate : table.find(lookups, new Object[] { "Matthews" })) {
+							if (!"Matthews".equals(((Person) candidate).lastname)) {
+								mismatches++;
+							}
+						}
+					}
+
+					return mismatches;
+				}
+			}));
+		}
+
+		start.countDown();
+
+		for (Future<Integer> future : futures) {
+			assertThat(future.get(30, TimeUnit.SECONDS), is(0));
+		}
+
+		for (Object candidate : table.getAll()) {
+
+			Person person = (Person) candidate;
+			String otherLastname = "Matthews".equals(person.lastname) ? "Beauford" : "Matthews";
+
+			assertThat(find(Type.SIMPLE_PROPERTY, "lastname", person.lastname), hasItem(candidate));
+			assertThat(find(Type.SIMPLE_PROPERTY, "lastname", otherLastname), not(hasItem(candidate)));
+		}
+
+		assertThat(find(Type.GREATER_THAN_EQUAL, "age", 0), hasSize((int) table.count()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsLookupsNotSupportedByIndex() {
+		lookup(Type.GREATER_THAN, "lastname", 0);
+	}
+
+	private Collection<Object> find(Type type, String property, Object argument) {
+		return table.find(Arrays.asList(lookup(type, property, 0)), new Object[] { argument });
+	}
+
+	private IndexLookup lookup(Type type, String property, int offset) {
+		return new IndexLookup(table.getIndex(property(property)), type, offset);
+	}
+
+	private InMemoryPersistentProperty property(String name) {
+		return context.getPersistentEntity(Person.class).getPersistentProperty(name);
+	}
+
+	static class Person {
+
+		@Id Long id;
+		String firstname;
+		@Indexed String lastname;
+		@Indexed(IndexType.SORTED) int age;
+
+		public Person(Long id, String firstname, String lastname, int age) {
+
+			this.id = id;
+			this.firstname = firstname;
+			this.lastname = lastname;
+			this.age = age;
+		}
+	}
+
+	static class Address {
+
+		String city;
+	}
+}
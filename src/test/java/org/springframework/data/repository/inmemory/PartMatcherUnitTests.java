@@ -0,0 +1,202 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.inmemory;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.repository.query.parser.Part;
+
+/**
+ * Unit tests for {@link PartMatcher}.
+ *
+ * @author Oliver Gierke
+ */
+public class PartMatcherUnitTests {
+
+	InMemoryMappingContext context;
+	Person dave;
+
+	@Before
+	public void setUp() {
+
+		context = new InMemoryMappingContext();
+		dave = new Person("Dave", "Matthews", 42, true, "Charlottesville", "DMB", "Davey");
+	}
+
+	@Test
+	public void matchesEquality() {
+
+		assertThat(matches("lastname", dave, "Matthews"), is(true));
+		assertThat(matches("lastname", dave, "Beauford"), is(false));
+		assertThat(matches("lastname", dave, (Object) null), is(false));
+		assertThat(matches("lastnameNot", dave, "Beauford"), is(true));
+		assertThat(matches("lastnameNot", dave, "Matthews"), is(false));
+		assertThat(matches("addressCity", dave, "Charlottesville"), is(true));
+	}
+
+	@Test
+	public void matchesNullAndBooleanKeywords() {
+
+		Person anonymous = new Person(null, null, 0, false, null);
+
+		assertThat(matches("lastnameIsNull", anonymous), is(true));
+		assertThat(matches("lastnameIsNull", dave), is(false));
+		assertThat(matches("lastnameIsNotNull", dave), is(true));
+		assertThat(matches("addressCityIsNull", anonymous), is(true));
+		assertThat(matches("activeTrue", dave), is(true));
+		assertThat(matches("activeFalse", dave), is(false));
+		assertThat(matches("activeFalse", anonymous), is(true));
+	}
+
+	@Test
+	public void convertsArgumentsToPropertyType() {
+
+		assertThat(matches("age", dave, 42L), is(true));
+		assertThat(matches("age", dave, "42"), is(true));
+		assertThat(matches("ageGreaterThan", dave, 41L), is(true));
+	}
+
+	@Test
+	public void matchesComparisons() {
+
+		assertThat(matches("ageGreaterThan", dave, 42), is(false));
+		assertThat(matches("ageGreaterThanEqual", dave, 42), is(true));
+		assertThat(matches("ageLessThan", dave, 42), is(false));
+		assertThat(matches("ageLessThanEqual", dave, 42), is(true));
+		assertThat(matches("ageBetween", dave, 40, 42), is(true));
+		assertThat(matches("ageBetween", dave, 43, 50), is(false));
+		assertThat(matches("ageGreaterThan", dave, (Object) null), is(false));
+		assertThat(matches("ageBetween", dave, 40, null), is(false));
+	}
+
+	@Test
+	public void matchesCollectionAndArrayArgumentsForIn() {
+
+		assertThat(matches("lastnameIn", dave, Arrays.asList("Matthews", "Tinsley")), is(true));
+		assertThat(matches("lastnameIn", dave, (Object) new String[] { "Beauford", "Matthews" }), is(true));
+		assertThat(matches("lastnameIn", dave, Arrays.asList("Beauford")), is(false));
+		assertThat(matches("ageIn", dave, Arrays.asList(42L)), is(true));
+		assertThat(matches("lastnameNotIn", dave, Arrays.asList("Beauford")), is(true));
+		assertThat(matches("lastnameNotIn", dave, Arrays.asList("Matthews")), is(false));
+	}
+
+	@Test
+	public void matchesStringKeywords() {
+
+		assertThat(matches("lastnameStartingWith", dave, "Mat"), is(true));
+		assertThat(matches("lastnameStartingWith", dave, "hews"), is(false));
+		assertThat(matches("lastnameEndingWith", dave, "hews"), is(true));
+		assertThat(matches("lastnameContaining", dave, "tth"), is(true));
+		assertThat(matches("lastnameNotContaining", dave, "tth"), is(false));
+		assertThat(matches("lastnameContaining", dave, "xyz"), is(false));
+	}
+
+	@Test
+	public void matchesElementsOfCollectionProperties() {
+
+		assertThat(matches("nicknamesContaining", dave, "DMB"), is(true));
+		assertThat(matches("nicknamesContaining", dave, "Dave"), is(false));
+		assertThat(matches("nicknamesNotContaining", dave, "Dave"), is(true));
+	}
+
+	@Test
+	public void translatesLikeWildcardsAndQuotesLiterals() {
+
+		assertThat(matches("firstnameLike", dave, "%av%"), is(true));
+		assertThat(matches("firstnameLike", dave, "_ave"), is(true));
+		assertThat(matches("firstnameLike", dave, "Dav"), is(false));
+		assertThat(matches("firstnameLike", dave, "D.ve"), is(false));
+		assertThat(matches("firstnameNotLike", dave, "%x%"), is(true));
+		assertThat(matches("firstnameRegex", dave, "D.ve"), is(true));
+	}
+
+	@Test
+	public void ignoresCaseIfRequested() {
+
+		assertThat(matches("firstname", dave, "dAVE"), is(false));
+		assertThat(matches("firstnameIgnoreCase", dave, "dAVE"), is(true));
+		assertThat(matches("firstnameStartingWithIgnoreCase", dave, "da"), is(true));
+		assertThat(matches("firstnameLikeIgnoreCase", dave, "%AV%"), is(true));
+	}
+
+	@Test
+	public void exposesIndexedRootPropertiesAsIndexCandidates() {
+
+		assertThat(matcher("lastname").getIndexCandidate().getName(), is("lastname"));
+		assertThat(matcher("ageGreaterThan").getIndexCandidate().getName(), is("age"));
+		assertThat(matcher("lastnameIgnoreCase").getIndexCandidate(), is(nullValue()));
+		assertThat(matcher("firstname").getIndexCandidate(), is(nullValue()));
+		assertThat(matcher("addressCity").getIndexCandidate(), is(nullValue()));
+		assertThat(matcher("ageStartingWith").getIndexCandidate(), is(nullValue()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsGeospatialKeywords() {
+		matcher("addressCityNear");
+	}
+
+	private PartMatcher matcher(String source) {
+		return new PartMatcher(new Part(source, Person.class), 0, context, new DefaultConversionService());
+	}
+
+	private boolean matches(String source, Object entity, Object... arguments) {
+
+		PartMatcher matcher = matcher(source);
+		Object[] prepared = new Object[arguments.length];
+
+		matcher.prepare(arguments, prepared);
+
+		return matcher.matches(entity, prepared);
+	}
+
+	static class Person {
+
+		@Id Long id;
+		String firstname;
+		@Indexed String lastname;
+		@Indexed(IndexType.SORTED) int age;
+		boolean active;
+		Address address;
+		List<String> nicknames;
+
+		public Person(String firstname, String lastname, int age, boolean active, String city, String... nicknames) {
+
+			this.firstname = firstname;
+			this.lastname = lastname;
+			this.age = age;
+			this.active = active;
+			this.address = new Address(city);
+			this.nicknames = Arrays.asList(nicknames);
+		}
+	}
+
+	static class Address {
+
+		String city;
+
+		public Address(String city) {
+			this.city = city;
+		}
+	}
+}
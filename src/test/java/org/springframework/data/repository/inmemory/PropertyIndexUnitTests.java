@@ -0,0 +1,204 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.inmemory;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Test;
+import org.springframework.data.repository.query.parser.Part.Type;
+
+/**
+ * Unit tests for {@link PropertyIndex}.
+ *
+ * @author Oliver Gierke
+ */
+public class PropertyIndexUnitTests {
+
+	@Test
+	public void createsIndexForIndexType() {
+
+		assertThat(PropertyIndex.of(IndexType.HASH).getType(), is(IndexType.HASH));
+		assertThat(PropertyIndex.of(IndexType.SORTED).getType(), is(IndexType.SORTED));
+	}
+
+	@Test
+	public void hashIndexOnlySupportsEqualityLookups() {
+
+		PropertyIndex index = PropertyIndex.of(IndexType.HASH);
+
+		assertThat(index.supports(Type.SIMPLE_PROPERTY), is(true));
+		assertThat(index.supports(Type.IN), is(true));
+		assertThat(index.supports(Type.IS_NULL), is(true));
+		assertThat(index.supports(Type.GREATER_THAN), is(false));
+		assertThat(index.supports(Type.STARTING_WITH), is(false));
+		assertThat(index.supports(Type.NEGATING_SIMPLE_PROPERTY), is(false));
+	}
+
+	@Test
+	public void sortedIndexAdditionallySupportsRangeLookups() {
+
+		PropertyIndex index = PropertyIndex.of(IndexType.SORTED);
+
+		assertThat(index.supports(Type.SIMPLE_PROPERTY), is(true));
+		assertThat(index.supports(Type.GREATER_THAN), is(true));
+		assertThat(index.supports(Type.BETWEEN), is(true));
+		assertThat(index.supports(Type.STARTING_WITH), is(true));
+		assertThat(index.supports(Type.ENDING_WITH), is(false));
+	}
+
+	@Test
+	public void looksUpIdentifiersByValue() {
+
+		PropertyIndex index = PropertyIndex.of(IndexType.HASH);
+		index.add(1L, "Matthews");
+		index.add(2L, "Beauford");
+		index.add(3L, "Matthews");
+		index.add(4L, null);
+
+		assertThat(lookup(index, Type.SIMPLE_PROPERTY, "Matthews"), contains((Object) 1L, 3L));
+		assertThat(lookup(index, Type.SIMPLE_PROPERTY, "Tinsley"), is(empty()));
+		assertThat(lookup(index, Type.SIMPLE_PROPERTY, (Object) null), contains((Object) 4L));
+		assertThat(lookup(index, Type.IS_NULL), contains((Object) 4L));
+	}
+
+	@Test
+	public void looksUpIdentifiersForCollectionAndArrayArguments() {
+
+		PropertyIndex index = PropertyIndex.of(IndexType.HASH);
+		index.add(1L, "Matthews");
+		index.add(2L, "Beauford");
+		index.add(3L, "Tinsley");
+
+		assertThat(lookup(index, Type.IN, Arrays.asList("Matthews", "Tinsley", "Lessard")),
+				containsInAnyOrder((Object) 1L, 3L));
+		assertThat(lookup(index, Type.IN, (Object) new String[] { "Beauford" }), contains((Object) 2L));
+	}
+
+	@Test
+	public void looksUpBooleanValues() {
+
+		PropertyIndex index = PropertyIndex.of(IndexType.HASH);
+		index.add(1L, true);
+		index.add(2L, false);
+
+		assertThat(lookup(index, Type.TRUE), contains((Object) 1L));
+		assertThat(lookup(index, Type.FALSE), contains((Object) 2L));
+	}
+
+	@Test
+	public void replacesValueOnUpdate() {
+
+		PropertyIndex index = PropertyIndex.of(IndexType.HASH);
+		index.add(1L, "Matthews");
+		index.add(1L, "Beauford");
+
+		assertThat(lookup(index, Type.SIMPLE_PROPERTY, "Matthews"), is(empty()));
+		assertThat(lookup(index, Type.SIMPLE_PROPERTY, "Beauford"), contains((Object) 1L));
+
+		index.add(1L, null);
+
+		assertThat(lookup(index, Type.SIMPLE_PROPERTY, "Beauford"), is(empty()));
+		assertThat(lookup(index, Type.IS_NULL), contains((Object) 1L));
+
+		index.add(1L, "Matthews");
+
+		assertThat(lookup(index, Type.IS_NULL), is(empty()));
+		assertThat(lookup(index, Type.SIMPLE_PROPERTY, "Matthews"), contains((Object) 1L));
+	}
+
+	@Test
+	public void removesAndClearsEntries() {
+
+		PropertyIndex index = PropertyIndex.of(IndexType.SORTED);
+		index.add(1L, 42);
+		index.add(2L, 42);
+		index.add(3L, null);
+
+		index.remove(1L);
+		index.remove(4L);
+
+		assertThat(lookup(index, Type.SIMPLE_PROPERTY, 42), contains((Object) 2L));
+
+		index.clear();
+
+		assertThat(lookup(index, Type.SIMPLE_PROPERTY, 42), is(empty()));
+		assertThat(lookup(index, Type.IS_NULL), is(empty()));
+	}
+
+	@Test
+	public void looksUpRanges() {
+
+		PropertyIndex index = PropertyIndex.of(IndexType.SORTED);
+		index.add(1L, 31);
+		index.add(2L, 42);
+		index.add(3L, 45);
+		index.add(4L, 49);
+		index.add(5L, null);
+
+		assertThat(lookup(index, Type.GREATER_THAN, 42), contains((Object) 3L, 4L));
+		assertThat(lookup(index, Type.GREATER_THAN_EQUAL, 42), contains((Object) 2L, 3L, 4L));
+		assertThat(lookup(index, Type.LESS_THAN, 45), contains((Object) 1L, 2L));
+		assertThat(lookup(index, Type.LESS_THAN_EQUAL, 45), contains((Object) 1L, 2L, 3L));
+		assertThat(lookup(index, Type.BETWEEN, 42, 45), contains((Object) 2L, 3L));
+	}
+
+	@Test
+	public void returnsNothingForInvalidRanges() {
+
+		PropertyIndex index = PropertyIndex.of(IndexType.SORTED);
+		index.add(1L, 42);
+
+		assertThat(lookup(index, Type.GREATER_THAN, (Object) null), is(empty()));
+		assertThat(lookup(index, Type.BETWEEN, 45, 31), is(empty()));
+		assertThat(lookup(index, Type.BETWEEN, 31, null), is(empty()));
+	}
+
+	@Test
+	public void looksUpValuesStartingWithPrefix() {
+
+		PropertyIndex index = PropertyIndex.of(IndexType.SORTED);
+		index.add(1L, "Matthews");
+		index.add(2L, "Marley");
+		index.add(3L, "M");
+		index.add(4L, "Mb");
+		index.add(5L, "Ma" + Character.MAX_VALUE + "x");
+		index.add(6L, "La");
+
+		assertThat(lookup(index, Type.STARTING_WITH, "Ma"), containsInAnyOrder((Object) 1L, 2L, 5L));
+		assertThat(lookup(index, Type.STARTING_WITH, "M"), containsInAnyOrder((Object) 1L, 2L, 3L, 4L, 5L));
+		assertThat(lookup(index, Type.STARTING_WITH, "Matthews"), contains((Object) 1L));
+		assertThat(lookup(index, Type.STARTING_WITH, "Mz"), is(empty()));
+		assertThat(lookup(index, Type.STARTING_WITH, "").size(), is(6));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void sortedIndexRejectsNonComparableValues() {
+		PropertyIndex.of(IndexType.SORTED).add(1L, new Object());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void hashIndexRejectsRangeLookups() {
+		lookup(PropertyIndex.of(IndexType.HASH), Type.GREATER_THAN, 42);
+	}
+
+	private static Collection<Object> lookup(PropertyIndex index, Type type, Object... arguments) {
+		return index.lookup(type, arguments.length == 0 ? new Object[1] : arguments, 0);
+	}
+}
@@ -28,9 +28,12 @@ import java.util.stream.Stream;
 
 import org.junit.Test;
 import org.springframework.core.SpringVersion;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
@@ -226,8 +229,34 @@ public class QueryMethodUnitTests {
 		assertThat(new QueryMethod(method, repositoryMetadata, factory).isCollectionQuery(), is(true));
 	}
 
+	@Test
+	public void detectsWindowQueryWithScrollPosition() throws Exception {
+
+		Method method = SampleRepository.class.getMethod("findByLastname", String.class, KeysetScrollPosition.class,
+				Sort.class);
+		QueryMethod queryMethod = new QueryMethod(method, metadata, factory);
+
+		assertThat(queryMethod.isWindowQuery(), is(true));
+		assertThat(queryMethod.isCollectionQuery(), is(false));
+		assertThat(queryMethod.getReturnedObjectType(), is((Object) User.class));
+		assertThat(queryMethod.getParameters().hasScrollPositionParameter(), is(true));
+		assertThat(queryMethod.getParameters().getScrollPositionIndex(), is(1));
+		assertThat(queryMethod.getParameters().getBindableParameters().getNumberOfParameters(), is(1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsWindowMethodWithoutScrollPosition() throws Exception {
+
+		Method method = SampleRepository.class.getMethod("findByFirstname", String.class, Sort.class);
+		new QueryMethod(method, metadata, factory);
+	}
+
 	interface SampleRepository extends Repository<User, Serializable> {
 
+		Window<User> findByFirstname(String firstname, Sort sort);
+
+		Window<User> findByLastname(String lastname, KeysetScrollPosition position, Sort sort);
+
 		String pagingMethodWithInvalidReturnType(Pageable pageable);
 
 		Page<String> pagingMethodWithoutPageable();
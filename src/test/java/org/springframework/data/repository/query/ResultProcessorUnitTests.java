@@ -141,6 +141,31 @@ public class ResultProcessorUnitTests {
 		assertThat(result.getContent().get(0).getLastname(), is("Matthews"));
 	}
 
+	@Test
+	public void convertsContentOfProjectedPageOnAccess() throws Exception {
+
+		final List<Object> converted = new ArrayList<Object>();
+
+		Converter<Object, Object> preparingConverter = new Converter<Object, Object>() {
+
+			@Override
+			public Object convert(Object source) {
+				converted.add(source);
+				return source;
+			}
+		};
+
+		Sample dave = new Sample("Dave", "Matthews"), carter = new Sample("Carter", "Beauford");
+		Page<Sample> source = new PageImpl<Sample>(Arrays.asList(dave, carter));
+
+		Page<SampleProjection> result = getProcessor("findPageProjection", Pageable.class).processResult(source,
+				preparingConverter);
+
+		assertThat(converted, is(empty()));
+		assertThat(result.getContent().get(1).getLastname(), is("Beauford"));
+		assertThat(converted, contains((Object) carter));
+	}
+
 	/**
 	 * @see DATACMNS-89
 	 */
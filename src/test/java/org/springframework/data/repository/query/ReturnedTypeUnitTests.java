@@ -21,12 +21,16 @@ import static org.junit.Assert.*;
 import java.lang.reflect.Method;
 import java.math.BigInteger;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mapping.context.PersistentPropertyPath;
+import org.springframework.data.mapping.context.SampleMappingContext;
+import org.springframework.data.mapping.context.SamplePersistentProperty;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
@@ -179,6 +183,46 @@ public class ReturnedTypeUnitTests {
 		assertThat(type.isProjecting(), is(false));
 	}
 
+	@Test
+	public void exposesInputPropertyPathsForDto() throws Exception {
+
+		ReturnedType type = getReturnedType("findAllDtos");
+
+		assertThat(toDotPaths(type.getInputPropertyPaths(new SampleMappingContext())), contains("firstname"));
+	}
+
+	@Test
+	public void expandsNestedClosedProjectionsIntoInputPropertyPaths() throws Exception {
+
+		ReturnedType type = getReturnedType("findAllNestedProjection");
+		SampleMappingContext context = new SampleMappingContext();
+
+		List<PersistentPropertyPath<SamplePersistentProperty>> paths = type.getInputPropertyPaths(context);
+
+		assertThat(toDotPaths(paths), contains("lastname", "address.zipCode"));
+		assertThat(type.getInputPropertyPaths(context), is(sameInstance(paths)));
+	}
+
+	@Test
+	public void doesNotExposeInputPropertyPathsIfEntireDomainObjectIsRead() throws Exception {
+
+		SampleMappingContext context = new SampleMappingContext();
+
+		assertThat(getReturnedType("findAll").getInputPropertyPaths(context), is(empty()));
+		assertThat(getReturnedType("findOneOpenProjection").getInputPropertyPaths(context), is(empty()));
+	}
+
+	private static List<String> toDotPaths(List<PersistentPropertyPath<SamplePersistentProperty>> paths) {
+
+		List<String> result = new ArrayList<String>();
+
+		for (PersistentPropertyPath<SamplePersistentProperty> path : paths) {
+			result.add(path.toDotPath());
+		}
+
+		return result;
+	}
+
 	private static ReturnedType getReturnedType(String methodName, Class<?>... parameters) throws Exception {
 		return getQueryMethod(methodName, parameters).getResultProcessor().getReturnedType();
 	}
@@ -200,6 +244,8 @@ public class ReturnedTypeUnitTests {
 
 		List<SampleProjection> findAllProjection();
 
+		List<NestedProjection> findAllNestedProjection();
+
 		Sample findOne();
 
 		SampleDto findOneDto();
@@ -229,6 +275,7 @@ public class ReturnedTypeUnitTests {
 
 	static class Sample implements SampleInterface {
 		public String firstname, lastname;
+		public SampleAddress address;
 
 		public Sample(String firstname, String lastname) {
 			this.firstname = firstname;
@@ -236,6 +283,10 @@ public class ReturnedTypeUnitTests {
 		}
 	}
 
+	static class SampleAddress {
+		public String zipCode, city;
+	}
+
 	static class SampleDto {
 
 		public SampleDto(String firstname) {
@@ -262,4 +313,16 @@ public class ReturnedTypeUnitTests {
 		@Value("#{target.firstname + ' ' + target.lastname}")
 		String getFullName();
 	}
+
+	interface NestedProjection {
+
+		String getLastname();
+
+		AddressProjection getAddress();
+	}
+
+	interface AddressProjection {
+
+		String getZipCode();
+	}
 }
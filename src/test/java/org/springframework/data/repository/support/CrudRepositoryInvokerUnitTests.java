@@ -20,6 +20,7 @@ import static org.springframework.data.repository.support.RepositoryInvocationTe
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
@@ -149,8 +150,30 @@ public class CrudRepositoryInvokerUnitTests {
 		getInvokerFor(repository, expectInvocationOf(findAllWithPageable)).invokeFindAll(new PageRequest(0, 10));
 	}
 
+	@Test
+	public void invokesBulkMethodsOnCrudRepository() throws Exception {
+
+		Method findAllMethod = CrudRepository.class.getMethod("findAll", Iterable.class);
+		Method saveMethod = CrudRepository.class.getMethod("save", Iterable.class);
+		Method deleteMethod = CrudRepository.class.getMethod("delete", Iterable.class);
+
+		List<Person> people = Arrays.asList(new Person());
+		when(personRepository.findAll(Arrays.asList(2L))).thenReturn(people);
+
+		BulkRepositoryInvoker invoker = getInvokerFor(personRepository,
+				expectInvocationOf(findAllMethod, saveMethod, deleteMethod));
+
+		invoker.invokeFindAllById(Arrays.asList("1"));
+		invoker.invokeSaveAll(people);
+		invoker.invokeDeleteAll(Arrays.asList(2L));
+
+		verify(personRepository, times(1)).findAll(Arrays.asList(1L));
+		verify(personRepository, times(1)).save(people);
+		verify(personRepository, times(1)).delete(people);
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
-	private static RepositoryInvoker getInvokerFor(Object repository, VerifyingMethodInterceptor interceptor) {
+	private static BulkRepositoryInvoker getInvokerFor(Object repository, VerifyingMethodInterceptor interceptor) {
 
 		Object proxy = getVerifyingRepositoryProxy(repository, interceptor);
 
@@ -20,7 +20,10 @@ import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
 
+import org.junit.After;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -36,9 +39,12 @@ import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.core.EntityInformation;
 import org.springframework.data.repository.core.RepositoryInformation;
-import org.springframework.data.repository.core.support.DummyEntityInformation;
+import org.springframework.data.repository.core.support.DefaultCrudMethods;
 import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
 import org.springframework.data.repository.core.support.RepositoryFactoryInformation;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 /**
  * Integration test for {@link DomainClassConverter}.
@@ -51,11 +57,81 @@ public class DomainClassConverterIntegrationTests {
 	@Mock @SuppressWarnings("rawtypes") RepositoryFactoryBeanSupport factory;
 	@Mock PersonRepository repository;
 	@Mock RepositoryInformation information;
+	@Mock EntityInformation<Person, Serializable> entityInformation;
+
+	@After
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
 
 	@Test
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public void findsRepositoryFactories() {
 
+		GenericApplicationContext context = initContext();
+		assertThat(context.getBeansOfType(RepositoryFactoryInformation.class).values().size(), is(1));
+
+		DomainClassConverter converter = new DomainClassConverter(new DefaultConversionService());
+		converter.setApplicationContext(context);
+
+		assertThat(converter.matches(TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(Person.class)), is(true));
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void convertsCollectionOfIdentifiersUsingSingleLookup() {
+
+		Person first = new Person(), second = new Person();
+
+		when(repository.findAll(Arrays.<Serializable> asList("2", "1", "3"))).thenReturn(Arrays.asList(first, second));
+		when(entityInformation.getId(first)).thenReturn("1");
+		when(entityInformation.getId(second)).thenReturn("2");
+
+		DefaultConversionService conversionService = new DefaultConversionService();
+		new DomainClassConverter(conversionService).setApplicationContext(initContext());
+
+		TypeDescriptor targetType = TypeDescriptor.collection(List.class, TypeDescriptor.valueOf(Person.class));
+		Object result = conversionService.convert(new String[] { "2", "1", "3" },
+				TypeDescriptor.valueOf(String[].class), targetType);
+
+		assertThat(result, is((Object) Arrays.asList(second, first, null)));
+		verify(repository, never()).findOne(any(Serializable.class));
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void cachesEntitiesPerRequestIfConfigured() {
+
+		Person first = new Person(), second = new Person();
+
+		when(repository.findOne("1")).thenReturn(first);
+		when(repository.findAll(Arrays.<Serializable> asList("2"))).thenReturn(Arrays.asList(second));
+		when(entityInformation.getId(second)).thenReturn("2");
+
+		DomainClassConverter converter = new DomainClassConverter(new DefaultConversionService());
+		converter.setRequestScopedCaching(true);
+		converter.setApplicationContext(initContext());
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+		TypeDescriptor stringType = TypeDescriptor.valueOf(String.class);
+		TypeDescriptor personType = TypeDescriptor.valueOf(Person.class);
+		TypeDescriptor listType = TypeDescriptor.collection(List.class, personType);
+
+		assertThat(converter.convert("1", stringType, personType), is((Object) first));
+		assertThat(converter.convert("1", stringType, personType), is((Object) first));
+		Object result = converter.convert(Arrays.asList("1", "2"), TypeDescriptor.collection(List.class, stringType),
+				listType);
+
+		assertThat(result, is((Object) Arrays.asList(first, second)));
+
+		verify(repository, times(1)).findOne("1");
+		verify(repository, times(1)).findAll(Arrays.<Serializable> asList("2"));
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private GenericApplicationContext initContext() {
+
 		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory() {
 			@Override
 			protected BeanWrapper instantiateBean(String beanName, RootBeanDefinition mbd) {
@@ -69,8 +145,7 @@ public class DomainClassConverterIntegrationTests {
 		when(information.getRepositoryInterface()).thenReturn((Class) PersonRepository.class);
 		when(information.getDomainType()).thenReturn((Class) Person.class);
 		when(information.getIdType()).thenReturn((Class) Serializable.class);
-
-		EntityInformation<Person, Serializable> entityInformation = new DummyEntityInformation<Person>(Person.class);
+		when(information.getCrudMethods()).thenReturn(new DefaultCrudMethods(information));
 
 		when(factory.getObject()).thenReturn(repository);
 		when(factory.getObjectType()).thenReturn(PersonRepository.class);
@@ -79,12 +154,8 @@ public class DomainClassConverterIntegrationTests {
 
 		GenericApplicationContext context = new GenericApplicationContext(beanFactory);
 		context.refresh();
-		assertThat(context.getBeansOfType(RepositoryFactoryInformation.class).values().size(), is(1));
 
-		DomainClassConverter converter = new DomainClassConverter(new DefaultConversionService());
-		converter.setApplicationContext(context);
-
-		assertThat(converter.matches(TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(Person.class)), is(true));
+		return context;
 	}
 
 	static class Person {
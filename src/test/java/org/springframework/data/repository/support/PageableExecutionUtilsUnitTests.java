@@ -21,13 +21,20 @@ import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.domain.CappedPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.repository.support.PageableExecutionUtils.CappedTotalSupplier;
+import org.springframework.data.repository.support.PageableExecutionUtils.ContentSupplier;
 import org.springframework.data.repository.support.PageableExecutionUtils.TotalSupplier;
 
 /**
@@ -132,4 +139,106 @@ public class PageableExecutionUtilsUnitTests {
 
 		verify(totalSupplierMock).get();
 	}
+
+	@Test
+	public void runsTotalSupplierOnExecutorIfRequired() {
+
+		doReturn(7L).when(totalSupplierMock).get();
+
+		Page<Integer> page = PageableExecutionUtils.getPage(contentOf(1, 2, 3), new PageRequest(1, 3), totalSupplierMock,
+				new SyncTaskExecutor());
+
+		assertThat(page, hasItems(1, 2, 3));
+		assertThat(page.getTotalElements(), is(7L));
+		assertThat(((CappedPage<Integer>) page).isTotalExact(), is(true));
+
+		verify(totalSupplierMock).get();
+	}
+
+	@Test
+	public void cancelsTotalIfNotRequired() {
+
+		@SuppressWarnings("unchecked")
+		Future<Long> total = mock(Future.class);
+
+		Page<Integer> page = PageableExecutionUtils.getPage(Arrays.asList(1, 2, 3), new PageRequest(0, 10), total);
+
+		assertThat(page.getTotalElements(), is(3L));
+
+		verify(total).cancel(false);
+		verifyNoMoreInteractions(total);
+	}
+
+	@Test
+	public void doesNotRunTotalSupplierWithoutPageable() {
+
+		Executor executor = mock(Executor.class);
+
+		Page<Integer> page = PageableExecutionUtils.getPage(contentOf(1, 2, 3), null, totalSupplierMock, executor);
+
+		assertThat(page.getTotalElements(), is(3L));
+
+		verifyZeroInteractions(executor, totalSupplierMock);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void propagatesExceptionFromTotalSupplier() {
+
+		doThrow(new IllegalStateException()).when(totalSupplierMock).get();
+
+		PageableExecutionUtils.getPage(contentOf(1, 2, 3), new PageRequest(0, 3), totalSupplierMock,
+				new SyncTaskExecutor());
+	}
+
+	@Test
+	public void reportsCappedTotalAsLowerBound() {
+
+		CappedTotalSupplier supplier = mock(CappedTotalSupplier.class);
+		doReturn(100L).when(supplier).get(100L);
+
+		PageRequest pageable = new PageRequest(0, 3);
+		CappedPage<Integer> page = PageableExecutionUtils.getPage(Arrays.asList(1, 2, 3), pageable, supplier, 100);
+
+		assertThat(page.getTotalElements(), is(100L));
+		assertThat(page.isTotalExact(), is(false));
+		assertThat(page.hasNext(), is(true));
+	}
+
+	@Test
+	public void reportsExactTotalIfBelowCap() {
+
+		CappedTotalSupplier supplier = mock(CappedTotalSupplier.class);
+		doReturn(42L).when(supplier).get(100L);
+
+		PageRequest pageable = new PageRequest(0, 3);
+		CappedPage<Integer> page = PageableExecutionUtils.getPage(Arrays.asList(1, 2, 3), pageable, supplier, 100);
+
+		assertThat(page.getTotalElements(), is(42L));
+		assertThat(page.isTotalExact(), is(true));
+	}
+
+	@Test
+	public void raisesCapToCoverRequestedPage() {
+
+		CappedTotalSupplier supplier = mock(CappedTotalSupplier.class);
+		doReturn(31L).when(supplier).get(31L);
+
+		PageRequest pageable = new PageRequest(9, 3);
+		CappedPage<Integer> page = PageableExecutionUtils.getPage(Arrays.asList(1, 2, 3), pageable, supplier, 10);
+
+		assertThat(page.getTotalElements(), is(31L));
+		assertThat(page.isTotalExact(), is(false));
+		assertThat(page.hasNext(), is(true));
+	}
+
+	private static ContentSupplier<Integer> contentOf(final Integer... values) {
+
+		return new ContentSupplier<Integer>() {
+
+			@Override
+			public List<Integer> get() {
+				return Arrays.asList(values);
+			}
+		};
+	}
 }
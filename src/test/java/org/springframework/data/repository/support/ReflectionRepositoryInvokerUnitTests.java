@@ -20,7 +20,9 @@ import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.data.repository.support.RepositoryInvocationTestUtils.*;
 
+import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -30,6 +32,7 @@ import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConversionService;
@@ -41,6 +44,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.CrudMethods;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 import org.springframework.data.repository.query.Param;
@@ -282,7 +286,141 @@ public class ReflectionRepositoryInvokerUnitTests {
 		}
 	}
 
-	private static RepositoryInvoker getInvokerFor(Object repository) {
+	@Test
+	@SuppressWarnings({ "deprecation", "rawtypes", "unchecked" })
+	public void translatesLegacyRequestParameterMapCorrectly() throws Exception {
+
+		Method method = PersonRepository.class.getMethod("findByIdIn", Collection.class);
+		PersonRepository repository = mock(PersonRepository.class);
+		RepositoryInvoker invoker = getInvokerFor(repository, expectInvocationOf(method));
+
+		invoker.invokeQueryMethod(method, Collections.singletonMap("ids", new String[] { "1", "2" }), null, null);
+		invoker.invokeQueryMethod(method, Collections.singletonMap("ids", new String[] { "3" }), null, null);
+
+		ArgumentCaptor<Collection> captor = ArgumentCaptor.forClass(Collection.class);
+		verify(repository, times(2)).findByIdIn(captor.capture());
+
+		assertThat(new ArrayList<Object>(captor.getAllValues().get(0)), is(Arrays.<Object> asList(1L, 2L)));
+		assertThat(new ArrayList<Object>(captor.getAllValues().get(1)), is(Arrays.<Object> asList(3L)));
+	}
+
+	@Test
+	public void reusesInvocationPlanForSubsequentQueryMethodInvocations() throws Exception {
+
+		Method method = PersonRepository.class.getMethod("findByFirstName", String.class, Pageable.class);
+		PersonRepository repository = mock(PersonRepository.class);
+		RepositoryInvoker invoker = getInvokerFor(repository, expectInvocationOf(method));
+
+		for (String firstName : Arrays.asList("Dave", "Oliver")) {
+
+			MultiValueMap<String, String> parameters = new LinkedMultiValueMap<String, String>();
+			parameters.add("firstName", firstName);
+
+			Pageable pageable = new PageRequest(0, 10);
+			invoker.invokeQueryMethod(method, parameters, pageable, null);
+
+			verify(repository, times(1)).findByFirstName(firstName, pageable);
+		}
+	}
+
+	@Test
+	public void invokesBulkMethodsIfDeclared() throws Exception {
+
+		RepoWithBulkMethods repository = mock(RepoWithBulkMethods.class);
+		Method findAllMethod = RepoWithBulkMethods.class.getMethod("findAll", Iterable.class);
+		Method saveMethod = RepoWithBulkMethods.class.getMethod("save", Iterable.class);
+		Method deleteMethod = RepoWithBulkMethods.class.getMethod("delete", Iterable.class);
+
+		List<Domain> entities = Arrays.asList(new Domain());
+		BulkRepositoryInvoker invoker = getInvokerFor(repository,
+				expectInvocationOf(findAllMethod, saveMethod, deleteMethod));
+
+		assertThat(invoker.hasFindAllByIdMethod(), is(true));
+		assertThat(invoker.hasSaveAllMethod(), is(true));
+		assertThat(invoker.hasDeleteAllMethod(), is(true));
+
+		invoker.invokeFindAllById(Arrays.asList("1", "2"));
+		invoker.invokeSaveAll(entities);
+		invoker.invokeDeleteAll(Arrays.asList(3L));
+
+		verify(repository, times(1)).findAll(Arrays.asList(1L, 2L));
+		verify(repository, times(1)).save(entities);
+		verify(repository, times(1)).findAll(Arrays.asList(3L));
+	}
+
+	@Test
+	public void fallsBackToFindOneForFindAllById() throws Exception {
+
+		Domain domain = new Domain();
+
+		ManualCrudRepository repository = mock(ManualCrudRepository.class);
+		when(repository.findOne(1L)).thenReturn(domain);
+
+		Method method = ManualCrudRepository.class.getMethod("findOne", Long.class);
+		BulkRepositoryInvoker invoker = getInvokerFor(repository, expectInvocationOf(method));
+
+		assertThat(invoker.hasFindAllByIdMethod(), is(false));
+
+		Iterable<Object> result = invoker.invokeFindAllById(Arrays.<Serializable> asList("1", 2L));
+
+		assertThat(result, hasItem((Object) domain));
+		assertThat(result.iterator().next(), is((Object) domain));
+		verify(repository, times(1)).findOne(2L);
+	}
+
+	@Test
+	public void fallsBackToIndividualSaveAndDelete() throws Exception {
+
+		Domain first = new Domain(), second = new Domain();
+
+		ManualCrudRepository repository = mock(ManualCrudRepository.class);
+		Method saveMethod = ManualCrudRepository.class.getMethod("save", Domain.class);
+		Method deleteMethod = ManualCrudRepository.class.getMethod("delete", Long.class);
+
+		BulkRepositoryInvoker invoker = getInvokerFor(repository, expectInvocationOf(saveMethod, deleteMethod));
+
+		assertThat(invoker.hasSaveAllMethod(), is(false));
+		assertThat(invoker.hasDeleteAllMethod(), is(false));
+
+		invoker.invokeSaveAll(Arrays.asList(first, second));
+		invoker.invokeDeleteAll(Arrays.asList("1", "2"));
+
+		verify(repository, times(1)).save(first);
+		verify(repository, times(1)).save(second);
+		verify(repository, times(1)).delete(1L);
+		verify(repository, times(1)).delete(2L);
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void fallsBackToFindOneIfCrudMethodsDontExposeBulkMethods() throws Exception {
+
+		CrudMethods crudMethods = mock(CrudMethods.class);
+		when(crudMethods.hasFindOneMethod()).thenReturn(true);
+		when(crudMethods.getFindOneMethod()).thenReturn(ManualCrudRepository.class.getMethod("findOne", Long.class));
+
+		RepositoryMetadata metadata = mock(RepositoryMetadata.class);
+		when(metadata.getCrudMethods()).thenReturn(crudMethods);
+		when(metadata.getIdType()).thenReturn((Class) Long.class);
+
+		ManualCrudRepository repository = mock(ManualCrudRepository.class);
+		BulkRepositoryInvoker invoker = new ReflectionRepositoryInvoker(repository, metadata,
+				new DefaultFormattingConversionService());
+
+		assertThat(invoker.hasFindAllByIdMethod(), is(false));
+		assertThat(invoker.hasSaveAllMethod(), is(false));
+
+		invoker.invokeFindAllById(Arrays.asList("1"));
+
+		verify(repository, times(1)).findOne(1L);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void rejectsInvocationOfMissingBulkSaveMethod() {
+		getInvokerFor(mock(EmptyRepository.class)).invokeSaveAll(Collections.emptyList());
+	}
+
+	private static BulkRepositoryInvoker getInvokerFor(Object repository) {
 
 		RepositoryMetadata metadata = new DefaultRepositoryMetadata(repository.getClass().getInterfaces()[0]);
 		GenericConversionService conversionService = new DefaultFormattingConversionService();
@@ -290,7 +428,7 @@ public class ReflectionRepositoryInvokerUnitTests {
 		return new ReflectionRepositoryInvoker(repository, metadata, conversionService);
 	}
 
-	private static RepositoryInvoker getInvokerFor(Object repository, VerifyingMethodInterceptor interceptor) {
+	private static BulkRepositoryInvoker getInvokerFor(Object repository, VerifyingMethodInterceptor interceptor) {
 		return getInvokerFor(getVerifyingRepositoryProxy(repository, interceptor));
 	}
 
@@ -337,6 +475,15 @@ public class ReflectionRepositoryInvokerUnitTests {
 		void delete(Domain entity);
 	}
 
+	interface RepoWithBulkMethods extends Repository<Domain, Long> {
+
+		List<Domain> findAll(Iterable<Long> ids);
+
+		<T extends Domain> List<T> save(Iterable<T> entities);
+
+		void delete(Iterable<? extends Domain> entities);
+	}
+
 	interface SimpleRepository extends Repository<Domain, Long> {
 
 		Domain findByClass(@Param("value") int value);
@@ -118,6 +118,29 @@ public class RepositoriesUnitTests {
 		assertThat(new Repositories(context).getPersistentEntity(AdvancedAddress.class), is(notNullValue()));
 	}
 
+	@Test
+	public void resolvesRepositoryForSubTypes() {
+
+		Repositories repositories = new Repositories(context);
+
+		Object repository = repositories.getRepositoryFor(Address.class);
+
+		assertThat(repositories.hasRepositoryFor(AdvancedAddress.class), is(true));
+		assertThat(repositories.getRepositoryFor(AdvancedAddress.class), is(repository));
+		assertThat(repositories.getRepositoryInformationFor(AdvancedAddress.class).getDomainType(),
+				is(typeCompatibleWith(Address.class)));
+	}
+
+	@Test
+	public void doesNotResolveRepositoryForUnmanagedInterfaces() {
+
+		Repositories repositories = new Repositories(context);
+
+		assertThat(repositories.hasRepositoryFor(Serializable.class), is(false));
+		assertThat(repositories.getRepositoryFor(Serializable.class), is(nullValue()));
+		assertThat(repositories.getPersistentEntity(Serializable.class), is(nullValue()));
+	}
+
 	/**
 	 * @see DATACMNS-673
 	 */
@@ -127,6 +127,39 @@ public class ChainedTransactionManagerTests {
 		createAndRollbackTransaction();
 	}
 
+	@Test
+	public void tracksBeginAndCommitDurationsPerTransactionManager() {
+
+		PlatformTransactionManager first = createNonFailingTransactionManager("first");
+		PlatformTransactionManager second = createNonFailingTransactionManager("second");
+
+		setupTransactionManagers(first, second);
+
+		MultiTransactionStatus transaction = tm.getTransaction(new DefaultTransactionDefinition());
+		tm.commit(transaction);
+
+		assertThat(transaction.getBeginDurations().keySet(), hasItems(first, second));
+		assertThat(transaction.getCommitDurations().keySet(), hasItems(first, second));
+	}
+
+	@Test
+	public void tracksCommitDurationOfFailingTransactionManager() {
+
+		PlatformTransactionManager first = createNonFailingTransactionManager("first");
+		PlatformTransactionManager second = createFailingTransactionManager("second");
+
+		setupTransactionManagers(first, second);
+
+		MultiTransactionStatus transaction = tm.getTransaction(new DefaultTransactionDefinition());
+
+		try {
+			tm.commit(transaction);
+			fail("Didn't throw the expected exception");
+		} catch (HeuristicCompletionException e) {
+			assertThat(transaction.getCommitDurations().keySet(), hasItem(second));
+		}
+	}
+
 	private void setupTransactionManagers(PlatformTransactionManager... transactionManagers) {
 		tm = new ChainedTransactionManager(new TestSynchronizationManager(), transactionManagers);
 	}
@@ -20,12 +20,18 @@ import static org.junit.Assert.*;
 import static org.springframework.data.util.ClassTypeInformation.*;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.hamcrest.Matchers;
 import org.junit.Test;
@@ -413,6 +419,61 @@ public class ClassTypeInformationUnitTests {
 		assertThat(information.getProperty("field").getType(), is(typeCompatibleWith(Nested.class)));
 	}
 
+	@Test
+	public void returnsSameCachedInstanceForConcurrentLookups() throws Exception {
+
+		final int threads = 32;
+		final CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		try {
+
+			List<Future<TypeInformation<?>>> results = new ArrayList<Future<TypeInformation<?>>>();
+
+			for (int i = 0; i < threads; i++) {
+				results.add(executor.submit(new Callable<TypeInformation<?>>() {
+
+					@Override
+					public TypeInformation<?> call() throws Exception {
+
+						start.await();
+
+						TypeInformation<?> information = null;
+
+						for (int j = 0; j < 10000; j++) {
+							information = ClassTypeInformation.from(StringMapContainer.class);
+							information.getProperty("genericMap").getMapValueType();
+						}
+
+						return information;
+					}
+				}));
+			}
+
+			start.countDown();
+
+			TypeInformation<?> reference = ClassTypeInformation.from(StringMapContainer.class);
+
+			for (Future<TypeInformation<?>> result : results) {
+				assertThat(result.get(), is(sameInstance((Object) reference)));
+			}
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void memoizesDerivedTypeInformation() {
+
+		TypeInformation<?> property = from(StringMapContainer.class).getProperty("genericMap");
+
+		assertThat(property.getMapValueType(), is(sameInstance((Object) property.getMapValueType())));
+		assertThat(property.getTypeArguments(), is(sameInstance((Object) property.getTypeArguments())));
+		assertThat(property.getSuperTypeInformation(Map.class),
+				is(sameInstance((Object) property.getSuperTypeInformation(Map.class))));
+	}
+
 	static class StringMapContainer extends MapContainer<String> {
 
 	}
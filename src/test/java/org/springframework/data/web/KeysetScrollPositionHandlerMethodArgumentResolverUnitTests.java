@@ -0,0 +1,137 @@
+/*
+ * Copyright 2016 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.web;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.KeysetScrollPosition.Direction;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Unit tests for {@link KeysetScrollPositionHandlerMethodArgumentResolver}.
+ *
+ * @author Oliver Gierke
+ */
+public class KeysetScrollPositionHandlerMethodArgumentResolverUnitTests {
+
+	KeysetScrollPositionHandlerMethodArgumentResolver resolver = new KeysetScrollPositionHandlerMethodArgumentResolver();
+
+	@Test
+	public void supportsKeysetScrollPositionParameters() {
+
+		assertThat(resolver.supportsParameter(getParameter("supportedMethod", KeysetScrollPosition.class)), is(true));
+		assertThat(resolver.supportsParameter(getParameter("unsupportedMethod", String.class)), is(false));
+	}
+
+	@Test
+	public void roundTripsPositionThroughToken() {
+
+		Map<String, Object> keys = new LinkedHashMap<String, Object>();
+		keys.put("lastname", "Matthews & Sons: 100%");
+		keys.put("id", 42L);
+		keys.put("amount", new BigDecimal("1.50"));
+		keys.put("created", new Date(1000L));
+		keys.put("deleted", null);
+
+		KeysetScrollPosition position = KeysetScrollPosition.of(keys, Direction.BACKWARD);
+		String token = resolver.toToken(position);
+
+		assertThat(token.matches("[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]+"), is(true));
+		assertThat(resolver.fromToken(token), is(position));
+	}
+
+	@Test
+	public void resolvesPositionFromRequestParameter() throws Exception {
+
+		Map<String, Object> keys = new LinkedHashMap<String, Object>();
+		keys.put("id", 42);
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addParameter("cursor", resolver.toToken(KeysetScrollPosition.of(keys)));
+
+		KeysetScrollPosition position = resolver.resolveArgument(
+				getParameter("supportedMethod", KeysetScrollPosition.class), null, new ServletWebRequest(request), null);
+
+		assertThat(position.getKeys(), hasEntry("id", (Object) 42));
+	}
+
+	@Test
+	public void fallsBackToInitialPositionForMissingOrInvalidTokens() {
+
+		assertThat(resolver.fromToken(null), is(KeysetScrollPosition.initial()));
+		assertThat(resolver.fromToken(""), is(KeysetScrollPosition.initial()));
+		assertThat(resolver.fromToken("not a token"), is(KeysetScrollPosition.initial()));
+	}
+
+	@Test
+	public void rejectsTamperedTokens() {
+
+		String[] token = resolver.toToken(position("id", 42)).split("\\.");
+		String[] other = resolver.toToken(position("secret", 1)).split("\\.");
+
+		assertThat(resolver.fromToken(other[0] + "." + token[1]), is(KeysetScrollPosition.initial()));
+		assertThat(resolver.fromToken(token[0]), is(KeysetScrollPosition.initial()));
+	}
+
+	@Test
+	public void acceptsTokensSignedWithSharedKeyOnly() {
+
+		byte[] key = "shared-signing-key".getBytes();
+		KeysetScrollPosition position = position("id", 42);
+
+		KeysetScrollPositionHandlerMethodArgumentResolver first, second;
+
+		first = new KeysetScrollPositionHandlerMethodArgumentResolver();
+		first.setSigningKey(key);
+
+		second = new KeysetScrollPositionHandlerMethodArgumentResolver();
+		second.setSigningKey(key);
+
+		assertThat(second.fromToken(first.toToken(position)), is(position));
+		assertThat(resolver.fromToken(first.toToken(position)), is(KeysetScrollPosition.initial()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsEmptySigningKey() {
+		resolver.setSigningKey(new byte[0]);
+	}
+
+	private static KeysetScrollPosition position(String key, Object value) {
+		return KeysetScrollPosition.of(Collections.singletonMap(key, value));
+	}
+
+	private static MethodParameter getParameter(String name, Class<?> type) {
+		return TestUtils.getParameterOfMethod(Controller.class, name, type);
+	}
+
+	interface Controller {
+
+		void supportedMethod(KeysetScrollPosition position);
+
+		void unsupportedMethod(String string);
+	}
+}
@@ -19,6 +19,8 @@ import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 import static org.springframework.data.domain.Sort.Direction.*;
 
+import java.util.Iterator;
+
 import javax.servlet.http.HttpServletRequest;
 
 import org.junit.BeforeClass;
@@ -211,6 +213,88 @@ public class SortHandlerMethodArgumentResolverUnitTests extends SortDefaultUnitT
 		assertThat(resolveSort(request, getParameterOfMethod("containeredDefault")), is(new Sort("foo", "bar")));
 	}
 
+	@Test
+	public void returnsCachedSortForRepeatedParameters() throws Exception {
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addParameter("sort", "firstname,lastname,desc");
+
+		SortHandlerMethodArgumentResolver resolver = new SortHandlerMethodArgumentResolver();
+		Sort sort = resolver.resolveArgument(PARAMETER, null, new ServletWebRequest(request), null);
+
+		assertThat(sort, is(new Sort(DESC, "firstname", "lastname")));
+		assertThat(resolver.resolveArgument(PARAMETER, null, new ServletWebRequest(request), null),
+				is(sameInstance(sort)));
+	}
+
+	@Test
+	public void doesNotCacheSortIfCacheIsDisabled() throws Exception {
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addParameter("sort", "firstname,desc");
+
+		SortHandlerMethodArgumentResolver resolver = new SortHandlerMethodArgumentResolver();
+		resolver.setSortCacheSize(0);
+
+		Sort sort = resolver.resolveArgument(PARAMETER, null, new ServletWebRequest(request), null);
+
+		assertThat(resolver.resolveArgument(PARAMETER, null, new ServletWebRequest(request), null), is(sort));
+		assertThat(resolver.resolveArgument(PARAMETER, null, new ServletWebRequest(request), null),
+				is(not(sameInstance(sort))));
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedSortOnceCacheSizeIsReached() throws Exception {
+
+		SortHandlerMethodArgumentResolver resolver = new SortHandlerMethodArgumentResolver();
+		resolver.setSortCacheSize(1);
+
+		MockHttpServletRequest first = new MockHttpServletRequest();
+		first.addParameter("sort", "firstname");
+
+		MockHttpServletRequest second = new MockHttpServletRequest();
+		second.addParameter("sort", "lastname");
+
+		Sort firstSort = resolver.resolveArgument(PARAMETER, null, new ServletWebRequest(first), null);
+		Sort secondSort = resolver.resolveArgument(PARAMETER, null, new ServletWebRequest(second), null);
+
+		assertThat(resolver.resolveArgument(PARAMETER, null, new ServletWebRequest(second), null),
+				is(sameInstance(secondSort)));
+		assertThat(resolver.resolveArgument(PARAMETER, null, new ServletWebRequest(first), null),
+				is(not(sameInstance(firstSort))));
+	}
+
+	@Test
+	public void doesNotCacheOverlyLongSortParameters() throws Exception {
+
+		StringBuilder builder = new StringBuilder("firstname");
+
+		while (builder.length() <= 256) {
+			builder.append(",lastname");
+		}
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addParameter("sort", builder.toString());
+
+		SortHandlerMethodArgumentResolver resolver = new SortHandlerMethodArgumentResolver();
+		Sort sort = resolver.resolveArgument(PARAMETER, null, new ServletWebRequest(request), null);
+
+		assertThat(resolver.resolveArgument(PARAMETER, null, new ServletWebRequest(request), null), is(sort));
+		assertThat(resolver.resolveArgument(PARAMETER, null, new ServletWebRequest(request), null),
+				is(not(sameInstance(sort))));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void cachedSortCannotBeModified() throws Exception {
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addParameter("sort", "firstname");
+
+		Iterator<Order> orders = resolveSort(request, PARAMETER).iterator();
+		orders.next();
+		orders.remove();
+	}
+
 	private static Sort resolveSort(HttpServletRequest request, MethodParameter parameter) throws Exception {
 
 		SortHandlerMethodArgumentResolver resolver = new SortHandlerMethodArgumentResolver();